@@ -0,0 +1,45 @@
+package ir.msob.jima.crud.api.metrics;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * The phases a CRUD operation is timed in by {@link CrudPhaseMetrics}.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum CrudPhase {
+    /**
+     * before* lifecycle hooks.
+     */
+    BEFORE("before"),
+    /**
+     * The service's pre* method.
+     */
+    PRE("pre"),
+    /**
+     * DTO/domain mappings.
+     */
+    MAPPING("mapping"),
+    /**
+     * Repository calls.
+     */
+    REPOSITORY("repository"),
+    /**
+     * The service's post* method.
+     */
+    POST("post"),
+    /**
+     * after* lifecycle hooks.
+     */
+    AFTER("after"),
+    /**
+     * Re-reading written entities to build the response.
+     */
+    READ_BACK("read-back");
+
+    /**
+     * The value of the {@code phase} tag.
+     */
+    private final String tag;
+}
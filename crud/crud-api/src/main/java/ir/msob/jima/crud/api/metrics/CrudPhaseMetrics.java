@@ -0,0 +1,90 @@
+package ir.msob.jima.crud.api.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-phase timers of the CRUD services: {@code jima.crud.phase}, tagged by service, domain, operation,
+ * {@link CrudPhase phase} and outcome (success, error, cancel). The count of a timer is the number of calls.
+ * <p>
+ * An operation is sampled once, when it starts: a sampled operation carries a {@link Scope} that every phase
+ * records to, an unsampled one carries none and its phases cost a lookup. Timers are created once per tag set.
+ */
+public final class CrudPhaseMetrics {
+    public static final String NAME = "jima.crud.phase";
+    public static final String SUCCESS = "success";
+    public static final String ERROR = "error";
+    public static final String CANCEL = "cancel";
+
+    private static final MeterRegistry registry = Metrics.globalRegistry;
+    private static final Map<TimerKey, Timer> timers = new ConcurrentHashMap<>();
+    private static final ThreadLocal<Scope> current = new ThreadLocal<>();
+
+    private CrudPhaseMetrics() {
+    }
+
+    /**
+     * Start timing an operation.
+     *
+     * @param sampleRate The fraction of operations timed: 0 disables the timers, 1 times every operation.
+     * @return The scope of the operation, or null if it is not sampled.
+     */
+    public static Scope start(String service, String domain, String operation, double sampleRate) {
+        if (sampleRate <= 0 || (sampleRate < 1 && ThreadLocalRandom.current().nextDouble() >= sampleRate)) {
+            return null;
+        }
+        return new Scope(service, domain, operation);
+    }
+
+    public static void record(Scope scope, CrudPhase phase, String outcome, long nanos) {
+        timers.computeIfAbsent(new TimerKey(scope, phase, outcome), key -> Timer.builder(NAME)
+                        .tag("service", scope.service())
+                        .tag("domain", scope.domain())
+                        .tag("operation", scope.operation())
+                        .tag("phase", phase.getTag())
+                        .tag("outcome", outcome)
+                        .register(registry))
+                .record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * The scope of the blocking operation running on this thread, or null.
+     */
+    public static Scope current() {
+        return current.get();
+    }
+
+    /**
+     * Make a scope current on this thread for a blocking operation.
+     *
+     * @return The scope it replaces, to hand back to {@link #restore(Scope)} once the operation ends.
+     */
+    public static Scope enter(Scope scope) {
+        Scope previous = current.get();
+        current.set(scope);
+        return previous;
+    }
+
+    public static void restore(Scope previous) {
+        if (previous == null) {
+            current.remove();
+        } else {
+            current.set(previous);
+        }
+    }
+
+    /**
+     * A sampled operation.
+     */
+    public record Scope(String service, String domain, String operation) {
+    }
+
+    private record TimerKey(Scope scope, CrudPhase phase, String outcome) {
+    }
+}
@@ -0,0 +1,29 @@
+package ir.msob.jima.crud.api.operation;
+
+/**
+ * Operation names added by the CRUD modules on top of {@link ir.msob.jima.platform.api.operation.Operations}.
+ * They are used as REST paths, RSocket routes and Kafka channel suffixes.
+ */
+public final class CrudOperations {
+    /**
+     * Keyset (cursor) paging. Authorized with the {@code GET_PAGE} scope.
+     */
+    public static final String GET_SLICE = "get-slice";
+    /**
+     * Request-channel variant of {@code SAVE_MANY}: DTOs are streamed in and saved DTOs streamed back as they commit.
+     * Authorized with the {@code SAVE_MANY} scope.
+     */
+    public static final String SAVE_MANY_CHANNEL = "save-many-channel";
+    /**
+     * Request-channel variant of {@code UPDATE_MANY}. Authorized with the {@code UPDATE_MANY} scope.
+     */
+    public static final String UPDATE_MANY_CHANNEL = "update-many-channel";
+    /**
+     * Request-channel variant of {@code DELETE_MANY}: ids are streamed in and deleted ids streamed back.
+     * Authorized with the {@code DELETE_MANY} scope.
+     */
+    public static final String DELETE_MANY_CHANNEL = "delete-many-channel";
+
+    private CrudOperations() {
+    }
+}
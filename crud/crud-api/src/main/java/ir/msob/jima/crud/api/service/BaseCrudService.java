@@ -1,9 +1,15 @@
 package ir.msob.jima.crud.api.service;
 
-import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.github.fge.jsonpatch.JsonPatch;
+import ir.msob.jima.crud.api.metrics.CrudPhase;
+import ir.msob.jima.crud.api.metrics.CrudPhaseMetrics;
 import ir.msob.jima.crud.api.service.domain.operation.LifecycleOperationComponent;
+import ir.msob.jima.crud.api.service.idempotency.IdempotencyKeyFilter;
+import ir.msob.jima.crud.api.service.patch.CompiledJsonPatch;
+import ir.msob.jima.crud.api.service.patch.DtoCopyStrategy;
+import ir.msob.jima.crud.api.service.patch.JsonPatchUtil;
+import ir.msob.jima.crud.api.service.patch.PatchedDto;
 import ir.msob.jima.platform.api.element.criteria.BaseElementCriteria;
 import ir.msob.jima.platform.api.element.dto.BaseElementDto;
 import ir.msob.jima.platform.api.element.element.BaseElement;
@@ -18,18 +24,19 @@ import ir.msob.jima.platform.api.security.BaseUser;
 import ir.msob.jima.platform.api.service.BaseService;
 import ir.msob.jima.platform.api.util.CriteriaUtil;
 import jakarta.validation.Valid;
-import lombok.SneakyThrows;
 import org.apache.commons.lang3.SerializationUtils;
 import org.jspecify.annotations.NonNull;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.util.ClassUtils;
 
 import java.io.Serializable;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Supplier;
 
 
 /**
@@ -58,109 +65,133 @@ public interface BaseCrudService<
 
 
     default @NonNull Long doCount(C criteria, USER user) {
-        beforeCount(criteria, user);
-        Long count = this.getRepository().count(criteria);
-        afterCount(criteria, user);
-        return count;
+        return measured("count", () -> {
+            beforeCount(criteria, user);
+            Long count = phase(CrudPhase.REPOSITORY, () -> this.getRepository().count(criteria));
+            afterCount(criteria, user);
+            return count;
+        });
     }
 
     default DTO doGetOne(C criteria, USER user) throws DomainNotFoundException, BadRequestException {
-        beforeGet(criteria, user);
-        this.preGet(criteria, user);
-        var domain = this.getRepository().getOne(criteria);
-        var dto = toDto(domain, user);
-        Collection<ID> ids = Collections.singleton(domain.getId());
-        Collection<DTO> dtos = Collections.singleton(dto);
-        postGet(ids, dtos, criteria, user);
-        afterGet(ids, dtos, criteria, user);
-        return dto;
+        return measured("getOne", () -> {
+            beforeGet(criteria, user);
+            runPhase(CrudPhase.PRE, () -> this.preGet(criteria, user));
+            var domain = phase(CrudPhase.REPOSITORY, () -> this.getRepository().getOne(criteria));
+            var dto = phase(CrudPhase.MAPPING, () -> toDto(domain, user));
+            Collection<ID> ids = Collections.singleton(domain.getId());
+            Collection<DTO> dtos = Collections.singleton(dto);
+            runPhase(CrudPhase.POST, () -> postGet(ids, dtos, criteria, user));
+            afterGet(ids, dtos, criteria, user);
+            return dto;
+        });
     }
 
     default @NonNull Collection<DTO> doGetMany(C criteria, USER user) throws DomainNotFoundException, BadRequestException {
-        beforeGet(criteria, user);
-        this.preGet(criteria, user);
-
-        var dtos = this.getRepository().getMany(criteria)
-                .stream()
-                .map(domain -> toDto(domain, user))
-                .toList();
-
-        Collection<ID> ids = prepareIds(dtos);
-        postGet(ids, dtos, criteria, user);
-        afterGet(ids, dtos, criteria, user);
-        return dtos;
+        return measured("getMany", () -> {
+            beforeGet(criteria, user);
+            runPhase(CrudPhase.PRE, () -> this.preGet(criteria, user));
+
+            var domains = phase(CrudPhase.REPOSITORY, () -> this.getRepository().getMany(criteria));
+            var dtos = phase(CrudPhase.MAPPING, () -> domains
+                    .stream()
+                    .map(domain -> toDto(domain, user))
+                    .toList());
+
+            Collection<ID> ids = prepareIds(dtos);
+            runPhase(CrudPhase.POST, () -> postGet(ids, dtos, criteria, user));
+            afterGet(ids, dtos, criteria, user);
+            return dtos;
+        });
 
     }
 
     default @NonNull Page<@NonNull DTO> doGetPage(C criteria, Pageable pageable, USER user) throws DomainNotFoundException, BadRequestException {
-        beforeGet(criteria, user);
+        return measured("getPage", () -> {
+            beforeGet(criteria, user);
 
-        this.preGet(criteria, user);
-        var domainPage = this.getRepository().getPage(criteria, pageable);
-        var dtos = domainPage.stream().map(domain -> toDto(domain, user)).toList();
+            runPhase(CrudPhase.PRE, () -> this.preGet(criteria, user));
+            var domainPage = phase(CrudPhase.REPOSITORY, () -> this.getRepository().getPage(criteria, pageable));
+            var dtos = phase(CrudPhase.MAPPING, () -> domainPage.stream().map(domain -> toDto(domain, user)).toList());
 
-        Page<DTO> dtoPage = new PageImpl<>(dtos, domainPage.getPageable(), domainPage.getTotalElements());
-        Collection<ID> ids = prepareIds(dtos);
-        postGet(ids, dtos, criteria, user);
-        afterGet(ids, dtos, criteria, user);
-        return dtoPage;
+            Page<DTO> dtoPage = new PageImpl<>(dtos, domainPage.getPageable(), domainPage.getTotalElements());
+            Collection<ID> ids = prepareIds(dtos);
+            runPhase(CrudPhase.POST, () -> postGet(ids, dtos, criteria, user));
+            afterGet(ids, dtos, criteria, user);
+            return dtoPage;
+        });
 
     }
 
 
     default ID doDelete(C criteria, USER user) throws DomainNotFoundException, BadRequestException {
-        beforeDelete(criteria, user);
-        var dto = doGetOne(criteria, user);
-        this.preDelete(criteria, user);
-        C criteriaId = CriteriaUtil.idCriteria(getCriteriaClass(), dto.getId());
-        var deletedDto = this.getRepository().removeOne(criteriaId);
-        this.postDelete(dto, criteria, user);
-        afterDelete(dto, criteria, user);
-        return deletedDto.getId();
+        return measured("delete", () -> {
+            beforeDelete(criteria, user);
+            var dto = doGetOne(criteria, user);
+            runPhase(CrudPhase.PRE, () -> this.preDelete(criteria, user));
+            C criteriaId = CriteriaUtil.idCriteria(getCriteriaClass(), dto.getId());
+            var deletedDto = phase(CrudPhase.REPOSITORY, () -> this.getRepository().removeOne(criteriaId));
+            runPhase(CrudPhase.POST, () -> this.postDelete(dto, criteria, user));
+            afterDelete(dto, criteria, user);
+            return deletedDto.getId();
+        });
     }
 
     default @NonNull Collection<ID> doDeleteMany(C criteria, USER user) throws DomainNotFoundException, BadRequestException {
-        beforeDelete(criteria, user);
-        var dtos = doGetMany(criteria, user);
-        return dtos.stream().peek(dto -> {
-                    this.preDelete(criteria, user);
-                    C criteriaId = CriteriaUtil.idCriteria(getCriteriaClass(), dto.getId());
-                    this.getRepository().removeOne(criteriaId);
-                    this.postDelete(dto, criteria, user);
-                    afterDelete(dto, criteria, user);
-                })
-                .map(BaseElementDto::getId)
-                .toList();
+        return measured("deleteMany", () -> {
+            beforeDelete(criteria, user);
+            var dtos = doGetMany(criteria, user);
+            return dtos.stream().peek(dto -> {
+                        runPhase(CrudPhase.PRE, () -> this.preDelete(criteria, user));
+                        C criteriaId = CriteriaUtil.idCriteria(getCriteriaClass(), dto.getId());
+                        phase(CrudPhase.REPOSITORY, () -> this.getRepository().removeOne(criteriaId));
+                        runPhase(CrudPhase.POST, () -> this.postDelete(dto, criteria, user));
+                        afterDelete(dto, criteria, user);
+                    })
+                    .map(BaseElementDto::getId)
+                    .toList();
+        });
     }
 
     default DTO doEdit(C criteria, JsonPatch jsonPatch, USER user) throws BadRequestException, DomainNotFoundException {
-        var dto = doGetOne(criteria, user);
-        var cloned = SerializationUtils.clone(dto);
-        var patched = applyJsonPatch(jsonPatch, dto, getObjectMapper());
-        return doUpdate(cloned, patched, user);
+        return measured("edit", () -> {
+            var compiledJsonPatch = CompiledJsonPatch.compile(jsonPatch, getObjectMapper());
+            var dto = doGetOne(criteria, user);
+            var patchedDto = phase(CrudPhase.MAPPING, () -> applyJsonPatch(compiledJsonPatch, dto, getObjectMapper()));
+            return doUpdate(patchedDto.previous(), patchedDto.patched(), user);
+        });
 
     }
 
     default @NonNull Collection<DTO> doEditMany(C criteria, JsonPatch jsonPatch, USER user) throws BadRequestException, DomainNotFoundException {
-        var dtos = doGetMany(criteria, user);
-        var cloneds = dtos.stream().map(SerializationUtils::clone).toList();
-        var patcheds = applyJsonPatch(dtos, jsonPatch, getObjectMapper());
-        return doUpdateMany(cloneds, patcheds, user);
+        return measured("editMany", () -> {
+            var compiledJsonPatch = CompiledJsonPatch.compile(jsonPatch, getObjectMapper());
+            var dtos = doGetMany(criteria, user);
+            var patchedDtos = phase(CrudPhase.MAPPING, () -> applyJsonPatch(dtos, compiledJsonPatch, getObjectMapper()));
+            return doUpdateMany(
+                    patchedDtos.stream().map(PatchedDto::previous).toList(),
+                    patchedDtos.stream().map(PatchedDto::patched).toList(),
+                    user);
+        });
 
     }
 
     default @NonNull DTO doSave(DTO dto, USER user) {
-        return safeSave(dto, user)
-                .orElse(save(dto, user));
+        return measured("save", () -> safeSave(dto, user)
+                .orElseGet(() -> save(dto, user)));
     }
 
     private @NonNull DTO save(DTO dto, USER user) {
         beforeSave(dto, user);
-        this.preSave(dto, user);
-        var domain = toDomain(dto, user);
-        var savedDomain = this.getRepository().insertOne(domain);
-        this.postSave(dto, savedDomain, user);
-        var savedDto = doGetOne(CriteriaUtil.idCriteria(getCriteriaClass(), savedDomain.getId()), user);
+        runPhase(CrudPhase.PRE, () -> this.preSave(dto, user));
+        var domain = phase(CrudPhase.MAPPING, () -> toDomain(dto, user));
+        var savedDomain = phase(CrudPhase.REPOSITORY, () -> this.getRepository().insertOne(domain));
+        IdempotencyKeyFilter filter = getIdempotencyKeyFilter();
+        if (filter != null && SafeSave.info.hasAnnotation(getDtoClass())) {
+            filter.put(IdempotencyKeyUtil.idempotencyKey(getDtoClass(), dto));
+        }
+        runPhase(CrudPhase.POST, () -> this.postSave(dto, savedDomain, user));
+        var savedDto = phase(CrudPhase.READ_BACK, () -> doGetOne(CriteriaUtil.idCriteria(getCriteriaClass(), savedDomain.getId()), user));
         afterSave(dto, savedDto, user);
         return savedDto;
     }
@@ -168,6 +199,10 @@ public interface BaseCrudService<
     private Optional<DTO> safeSave(DTO dto, USER user) {
         if (SafeSave.info.hasAnnotation(getDtoClass())) {
             String idempotencyKey = IdempotencyKeyUtil.idempotencyKey(getDtoClass(), dto);
+            IdempotencyKeyFilter filter = getIdempotencyKeyFilter();
+            if (filter != null && !filter.mightContain(idempotencyKey)) {
+                return Optional.empty();
+            }
             C criteria = CriteriaUtil.uniqueCriteria(getCriteriaClass(), idempotencyKey);
             return Optional.ofNullable(this.doGetOne(criteria, user));
         }
@@ -175,14 +210,16 @@ public interface BaseCrudService<
     }
 
     default @NonNull DTO doUpdate(DTO previousDto, @Valid DTO dto, USER user) throws BadRequestException, ValidationException, DomainNotFoundException {
-        beforeUpdate(previousDto, dto, user);
-        this.preUpdate(dto, user);
-        var domain = toDomain(dto, user);
-        var updatedDomain = this.getRepository().updateOne(domain);
-        this.postUpdate(dto, updatedDomain, user);
-        var updatedDto = doGetOne(CriteriaUtil.idCriteria(getCriteriaClass(), updatedDomain.getId()), user);
-        afterUpdate(previousDto, updatedDto, user);
-        return updatedDto;
+        return measured("update", () -> {
+            beforeUpdate(previousDto, dto, user);
+            runPhase(CrudPhase.PRE, () -> this.preUpdate(dto, user));
+            var domain = phase(CrudPhase.MAPPING, () -> toDomain(dto, user));
+            var updatedDomain = phase(CrudPhase.REPOSITORY, () -> this.getRepository().updateOne(domain));
+            runPhase(CrudPhase.POST, () -> this.postUpdate(dto, updatedDomain, user));
+            var updatedDto = phase(CrudPhase.READ_BACK, () -> doGetOne(CriteriaUtil.idCriteria(getCriteriaClass(), updatedDomain.getId()), user));
+            afterUpdate(previousDto, updatedDto, user);
+            return updatedDto;
+        });
     }
 
     // ---------------------------
@@ -195,15 +232,59 @@ public interface BaseCrudService<
     }
 
     default @NonNull Collection<DTO> doUpdateMany(Collection<DTO> previousDtos, Collection<@Valid DTO> dtos, USER user) {
-
-        return dtos.stream()
+        return measured("updateMany", () -> dtos.stream()
                 .map(dto -> {
                             var prev = findPreviousDto(previousDtos, dto.getId());
                             return doUpdate(prev, dto, user);
                         }
-                ).toList();
+                ).toList());
+    }
+
+    /**
+     * Time an operation's phases with {@link CrudPhaseMetrics}, sampled at {@link #getPhaseMetricsSampleRate()}.
+     * The sampled scope is current on the calling thread while the operation runs; nested operations (e.g. the
+     * read-back doGetOne of a save) time their own phases under their own name.
+     */
+    private <T> T measured(String operation, Supplier<T> call) {
+        double sampleRate = getPhaseMetricsSampleRate();
+        if (sampleRate <= 0) {
+            return call.get();
+        }
+        CrudPhaseMetrics.Scope scope = CrudPhaseMetrics.start(ClassUtils.getUserClass(this).getSimpleName(),
+                getDtoClass().getSimpleName(), operation, sampleRate);
+        CrudPhaseMetrics.Scope previous = CrudPhaseMetrics.enter(scope);
+        try {
+            return call.get();
+        } finally {
+            CrudPhaseMetrics.restore(previous);
+        }
+    }
+
+    /**
+     * Time a phase of the current operation, if it is sampled.
+     */
+    private <T> T phase(CrudPhase phase, Supplier<T> step) {
+        CrudPhaseMetrics.Scope scope = CrudPhaseMetrics.current();
+        if (scope == null) {
+            return step.get();
+        }
+        long start = System.nanoTime();
+        String outcome = CrudPhaseMetrics.ERROR;
+        try {
+            T result = step.get();
+            outcome = CrudPhaseMetrics.SUCCESS;
+            return result;
+        } finally {
+            CrudPhaseMetrics.record(scope, phase, outcome, System.nanoTime() - start);
+        }
     }
 
+    private void runPhase(CrudPhase phase, Runnable step) {
+        phase(phase, () -> {
+            step.run();
+            return null;
+        });
+    }
 
     /**
      * Find previous DTO by id from collection as a reactive Mono.
@@ -219,59 +300,57 @@ public interface BaseCrudService<
     // ---------------------------
 
     private void beforeCount(C criteria, USER user) {
-        getLifecycleOperationComponent().beforeCount(criteria, user, getDomainLifecycleOperation());
+        runPhase(CrudPhase.BEFORE, () -> getLifecycleOperationComponent().beforeCount(criteria, user, getDomainLifecycleOperation()));
     }
 
     private void afterCount(C criteria, USER user) {
-        getLifecycleOperationComponent().afterCount(criteria, user, getDomainLifecycleOperation());
+        runPhase(CrudPhase.AFTER, () -> getLifecycleOperationComponent().afterCount(criteria, user, getDomainLifecycleOperation()));
     }
 
     private void beforeGet(C criteria, USER user) {
-        getLifecycleOperationComponent().beforeGet(criteria, user, getDomainLifecycleOperation());
+        runPhase(CrudPhase.BEFORE, () -> getLifecycleOperationComponent().beforeGet(criteria, user, getDomainLifecycleOperation()));
     }
 
     private void afterGet(Collection<ID> ids, Collection<DTO> dtos, C criteria, USER user) {
-        getLifecycleOperationComponent().afterGet(ids, dtos, criteria, user, getDomainLifecycleOperation());
+        runPhase(CrudPhase.AFTER, () -> getLifecycleOperationComponent().afterGet(ids, dtos, criteria, user, getDomainLifecycleOperation()));
     }
 
     private void beforeSave(DTO dto, USER user) {
-        getLifecycleOperationComponent().beforeSave(dto, user, getDomainLifecycleOperation());
+        runPhase(CrudPhase.BEFORE, () -> getLifecycleOperationComponent().beforeSave(dto, user, getDomainLifecycleOperation()));
     }
 
     private void afterSave(DTO dto, DTO savedDto, USER user) {
-        getLifecycleOperationComponent().afterSave(dto, savedDto, user, getDomainLifecycleOperation());
+        runPhase(CrudPhase.AFTER, () -> getLifecycleOperationComponent().afterSave(dto, savedDto, user, getDomainLifecycleOperation()));
     }
 
     private void beforeUpdate(DTO previousDto, DTO dto, USER user) {
-        getLifecycleOperationComponent().beforeUpdate(previousDto, dto, user, getDomainLifecycleOperation());
+        runPhase(CrudPhase.BEFORE, () -> getLifecycleOperationComponent().beforeUpdate(previousDto, dto, user, getDomainLifecycleOperation()));
     }
 
     private void afterUpdate(DTO previousDto, DTO updatedDto, USER user) {
-        getLifecycleOperationComponent().afterUpdate(previousDto, updatedDto, user, getDomainLifecycleOperation());
+        runPhase(CrudPhase.AFTER, () -> getLifecycleOperationComponent().afterUpdate(previousDto, updatedDto, user, getDomainLifecycleOperation()));
     }
 
     private void beforeDelete(C criteria, USER user) {
-        getLifecycleOperationComponent().beforeDelete(criteria, user, getDomainLifecycleOperation());
+        runPhase(CrudPhase.BEFORE, () -> getLifecycleOperationComponent().beforeDelete(criteria, user, getDomainLifecycleOperation()));
     }
 
     private void afterDelete(DTO dto, C criteria, USER user) {
-        getLifecycleOperationComponent().afterDelete(dto, criteria, user, getDomainLifecycleOperation());
+        runPhase(CrudPhase.AFTER, () -> getLifecycleOperationComponent().afterDelete(dto, criteria, user, getDomainLifecycleOperation()));
     }
 
     // ---------------------------
     // JSON patch helpers (unchanged behavior but callable from async wrappers)
     // ---------------------------
 
-    private Collection<DTO> applyJsonPatch(Collection<DTO> dtos, JsonPatch jsonPatch, ObjectMapper objectMapper) {
+    private List<PatchedDto<DTO>> applyJsonPatch(Collection<DTO> dtos, CompiledJsonPatch jsonPatch, ObjectMapper objectMapper) {
         return dtos.stream()
                 .map(dto -> applyJsonPatch(jsonPatch, dto, objectMapper))
                 .toList();
     }
 
-    @SneakyThrows
-    private DTO applyJsonPatch(JsonPatch jsonPatch, DTO dto, ObjectMapper objectMapper) {
-        JsonNode patched = jsonPatch.apply(objectMapper.convertValue(dto, JsonNode.class));
-        return (DTO) objectMapper.treeToValue(patched, dto.getClass());
+    private PatchedDto<DTO> applyJsonPatch(CompiledJsonPatch jsonPatch, DTO dto, ObjectMapper objectMapper) {
+        return JsonPatchUtil.patch(jsonPatch, dto, getDtoCopyStrategy(), this::copyDto, objectMapper);
     }
 
     // ---------------------------
@@ -284,6 +363,43 @@ public interface BaseCrudService<
 
     ObjectMapper getObjectMapper();
 
+    // ---------------------------
+    // Edit settings (override per service)
+    // ---------------------------
+
+    /**
+     * How doEdit/doEditMany keep the previous DTO handed to doUpdate. Defaults to a {@link DtoCopyStrategy#JACKSON}
+     * copy, so hooks may mutate it; {@link DtoCopyStrategy#COPY_ON_WRITE} skips the copy for services whose hooks
+     * leave the previous DTO alone.
+     */
+    default DtoCopyStrategy getDtoCopyStrategy() {
+        return DtoCopyStrategy.JACKSON;
+    }
+
+    /**
+     * Filter of the stored idempotency keys of a SafeSave domain, or null to always look keys up.
+     * See {@link IdempotencyKeyFilter} for when skipping the lookup is safe.
+     */
+    default IdempotencyKeyFilter getIdempotencyKeyFilter() {
+        return null;
+    }
+
+    /**
+     * Fraction of operations whose phases (before, pre, mapping, repository, post, after, read-back) are timed in
+     * {@link CrudPhaseMetrics#NAME}: 1 times every operation, 0 turns the phase timers off. Defaults to 0.1, like
+     * the reactive services.
+     */
+    default double getPhaseMetricsSampleRate() {
+        return 0.1;
+    }
+
+    /**
+     * Copies a DTO for {@link DtoCopyStrategy#CUSTOM}, e.g. with a generated copier or a copy constructor.
+     */
+    default DTO copyDto(DTO dto) {
+        return SerializationUtils.clone(dto);
+    }
+
     private Collection<ID> prepareIds(Collection<DTO> domains) {
         return domains.stream().map(BaseElement::getId).toList();
     }
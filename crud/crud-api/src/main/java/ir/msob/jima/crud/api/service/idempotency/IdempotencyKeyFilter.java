@@ -0,0 +1,27 @@
+package ir.msob.jima.crud.api.service.idempotency;
+
+/**
+ * An in-process filter of the idempotency keys of a {@link ir.msob.jima.platform.api.safemodify.SafeSave} domain.
+ * When a filter says a key is certainly absent, the save skips the idempotency lookup and inserts directly.
+ * <p>
+ * That is only correct if the filter has seen every key already stored: warm it with the existing keys at startup
+ * and use it where this process is the only writer of the domain, e.g. an event-replay import. The services add
+ * every key they save.
+ */
+public interface IdempotencyKeyFilter {
+
+    /**
+     * Whether the key may have been stored. False means it certainly has not.
+     *
+     * @param key The idempotency key.
+     * @return false if the key is certainly new.
+     */
+    boolean mightContain(String key);
+
+    /**
+     * Records a stored key.
+     *
+     * @param key The idempotency key.
+     */
+    void put(String key);
+}
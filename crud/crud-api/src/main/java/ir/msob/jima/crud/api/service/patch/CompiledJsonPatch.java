@@ -0,0 +1,207 @@
+package ir.msob.jima.crud.api.service.patch;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.github.fge.jsonpatch.JsonPatch;
+import com.github.fge.jsonpatch.JsonPatchException;
+import lombok.SneakyThrows;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A JSON patch parsed once per request. Patches made only of add, replace and remove operations on object member
+ * paths are applied in place on the DTO tree, without the per-operation deep copies of {@link JsonPatch#apply};
+ * any other patch (move, copy, test or array paths) falls back to {@link JsonPatch#apply}.
+ * <p>
+ * A compiled patch whose operations all add scalar values to top-level members can be turned into a
+ * {@link FieldUpdate} and pushed down to the repository as a single update by criteria.
+ */
+public final class CompiledJsonPatch {
+    private final JsonPatch jsonPatch;
+    /**
+     * The compiled operations, or null if the patch uses an operation or path that is not compiled.
+     */
+    private final List<Operation> operations;
+
+    private CompiledJsonPatch(JsonPatch jsonPatch, List<Operation> operations) {
+        this.jsonPatch = jsonPatch;
+        this.operations = operations;
+    }
+
+    /**
+     * Compiles a JSON patch.
+     *
+     * @param jsonPatch    The JSON patch.
+     * @param objectMapper The object mapper used to read the patch operations.
+     * @return The compiled patch.
+     */
+    public static CompiledJsonPatch compile(JsonPatch jsonPatch, ObjectMapper objectMapper) {
+        JsonNode node = objectMapper.valueToTree(jsonPatch);
+        List<Operation> operations = new ArrayList<>(node.size());
+        for (JsonNode operation : node) {
+            OperationType type = OperationType.of(operation.path("op").asText());
+            List<String> path = parsePath(operation.path("path").asText());
+            if (type == null || path == null) {
+                return new CompiledJsonPatch(jsonPatch, null);
+            }
+            operations.add(new Operation(type, path, operation.get("value")));
+        }
+        return new CompiledJsonPatch(jsonPatch, Collections.unmodifiableList(operations));
+    }
+
+    /**
+     * Whether the patch was compiled, i.e. is applied without {@link JsonPatch#apply}.
+     */
+    public boolean isCompiled() {
+        return operations != null;
+    }
+
+    /**
+     * Whether the patch can be pushed down to the repository: it is compiled and every operation adds a scalar (or
+     * null) value to a top-level member. Those are the only operations a field update applies like JSON patch does:
+     * replace and remove fail on a missing member and a nested add fails on a missing parent, while a field update
+     * sets or unsets any path.
+     */
+    public boolean isPushDownable() {
+        return isCompiled() && operations.stream()
+                .allMatch(operation -> operation.type() == OperationType.ADD
+                        && operation.path().size() == 1
+                        && operation.value() != null
+                        && operation.value().isValueNode());
+    }
+
+    /**
+     * Applies the patch to a JSON tree. A compiled patch modifies the given tree and returns it; otherwise a
+     * patched copy is returned.
+     *
+     * @param node The JSON tree of the DTO.
+     * @return The patched tree.
+     */
+    @SneakyThrows
+    public JsonNode apply(JsonNode node) {
+        if (!isCompiled()) {
+            return jsonPatch.apply(node);
+        }
+        for (Operation operation : operations) {
+            ObjectNode parent = parent(node, operation);
+            String field = operation.path().get(operation.path().size() - 1);
+            switch (operation.type()) {
+                case ADD -> parent.set(field, operation.value().deepCopy());
+                case REPLACE -> {
+                    requireField(parent, field, operation);
+                    parent.set(field, operation.value().deepCopy());
+                }
+                case REMOVE -> {
+                    requireField(parent, field, operation);
+                    parent.remove(field);
+                }
+            }
+        }
+        return node;
+    }
+
+    /**
+     * Converts a pushdownable patch to the field update a repository applies by criteria. Every path must name a
+     * scalar (not a container or map) property of the domain class, and every value is converted to the type of its
+     * property, so dates, numbers and enums keep their Java type.
+     *
+     * @param objectMapper The object mapper used to resolve the properties and convert the values.
+     * @param domainClass  The class of the domain the update applies to.
+     * @return The field update, or null if the patch is not {@link #isPushDownable() pushdownable}, a path is not a
+     * scalar property of the domain class or a value can not be converted to its type.
+     */
+    public FieldUpdate toFieldUpdate(ObjectMapper objectMapper, Class<?> domainClass) {
+        if (!isPushDownable()) {
+            return null;
+        }
+        Map<String, JavaType> propertyTypes = new HashMap<>();
+        objectMapper.getDeserializationConfig()
+                .introspect(objectMapper.constructType(domainClass))
+                .findProperties()
+                .forEach(property -> propertyTypes.put(property.getName(), property.getPrimaryType()));
+        Map<String, Object> set = new LinkedHashMap<>();
+        for (Operation operation : operations) {
+            String field = operation.path().get(0);
+            JavaType type = propertyTypes.get(field);
+            if (type == null || type.isContainerType()) {
+                return null;
+            }
+            try {
+                set.put(field, objectMapper.treeToValue(operation.value(), type));
+            } catch (JsonProcessingException | IllegalArgumentException e) {
+                return null;
+            }
+        }
+        return new FieldUpdate(set, Set.of());
+    }
+
+    @Override
+    public String toString() {
+        return jsonPatch.toString();
+    }
+
+    private static ObjectNode parent(JsonNode node, Operation operation) throws JsonPatchException {
+        JsonNode parent = node;
+        List<String> path = operation.path();
+        for (int i = 0; i < path.size() - 1; i++) {
+            parent = parent.get(path.get(i));
+            if (parent == null) {
+                break;
+            }
+        }
+        if (parent instanceof ObjectNode objectNode) {
+            return objectNode;
+        }
+        throw new JsonPatchException("no such path in target JSON document: " + operation.pointer());
+    }
+
+    private static void requireField(ObjectNode parent, String field, Operation operation) throws JsonPatchException {
+        if (!parent.has(field)) {
+            throw new JsonPatchException("no such path in target JSON document: " + operation.pointer());
+        }
+    }
+
+    /**
+     * Splits a JSON pointer into member names, or returns null if it is the root or may address an array element.
+     */
+    private static List<String> parsePath(String pointer) {
+        if (pointer.isEmpty() || !pointer.startsWith("/")) {
+            return null;
+        }
+        List<String> path = Arrays.stream(pointer.substring(1).split("/", -1))
+                .map(token -> token.replace("~1", "/").replace("~0", "~"))
+                .toList();
+        boolean arrayToken = path.stream()
+                .anyMatch(token -> token.equals("-") || (!token.isEmpty() && token.chars().allMatch(Character::isDigit)));
+        return arrayToken ? null : path;
+    }
+
+    private enum OperationType {
+        ADD, REPLACE, REMOVE;
+
+        static OperationType of(String op) {
+            return switch (op) {
+                case "add" -> ADD;
+                case "replace" -> REPLACE;
+                case "remove" -> REMOVE;
+                default -> null;
+            };
+        }
+    }
+
+    private record Operation(OperationType type, List<String> path, JsonNode value) {
+        String pointer() {
+            return "/" + String.join("/", path);
+        }
+    }
+}
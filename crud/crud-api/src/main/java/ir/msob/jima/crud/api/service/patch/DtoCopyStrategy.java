@@ -0,0 +1,26 @@
+package ir.msob.jima.crud.api.service.patch;
+
+/**
+ * How the edit paths (doEdit/doEditMany) keep the previous DTO that is handed to doUpdate next to the patched one.
+ * Applying a JSON patch always produces a new DTO instance, so the fetched DTO itself is never modified by the patch.
+ */
+public enum DtoCopyStrategy {
+    /**
+     * Use the fetched DTO as the previous snapshot without copying it. The patched DTO is a separate instance,
+     * so this is safe as long as no hook mutates the previous DTO.
+     */
+    COPY_ON_WRITE,
+    /**
+     * Rebuild the previous DTO from the JSON tree that the patch step already produced; costs one extra
+     * {@code treeToValue} but no extra serialization.
+     */
+    JACKSON,
+    /**
+     * Copy the DTO with the service's {@code copyDto} method, e.g. a generated field-by-field copier.
+     */
+    CUSTOM,
+    /**
+     * Deep copy with Java serialization. The slowest option, kept as the fallback for DTOs none of the others suit.
+     */
+    SERIALIZATION
+}
@@ -0,0 +1,13 @@
+package ir.msob.jima.crud.api.service.patch;
+
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A field-level update pushed down to the repository: the dotted field paths to set and to unset.
+ *
+ * @param set   The fields to set, with their (scalar) values.
+ * @param unset The fields to remove.
+ */
+public record FieldUpdate(Map<String, Object> set, Set<String> unset) {
+}
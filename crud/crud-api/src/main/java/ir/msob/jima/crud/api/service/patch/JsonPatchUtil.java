@@ -0,0 +1,47 @@
+package ir.msob.jima.crud.api.service.patch;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.SneakyThrows;
+import org.apache.commons.lang3.SerializationUtils;
+
+import java.io.Serializable;
+import java.util.function.UnaryOperator;
+
+/**
+ * Applies compiled JSON patches to DTOs for the edit paths of the CRUD services, keeping a snapshot of the DTO
+ * before the patch according to a {@link DtoCopyStrategy}. The DTO is converted to a JSON tree once; the tree is
+ * shared by the snapshot ({@link DtoCopyStrategy#JACKSON}) and the patch.
+ */
+public final class JsonPatchUtil {
+
+    private JsonPatchUtil() {
+    }
+
+    /**
+     * Applies the patch to the DTO and takes the previous snapshot.
+     *
+     * @param jsonPatch    The compiled JSON patch to apply.
+     * @param dto          The DTO to patch; it is not modified.
+     * @param strategy     How the previous snapshot is taken.
+     * @param customCopier The copier used with {@link DtoCopyStrategy#CUSTOM}.
+     * @param objectMapper The object mapper used to convert between DTO and JSON tree.
+     * @param <DTO>        The type of the DTO.
+     * @return The previous and the patched DTO.
+     */
+    @SneakyThrows
+    @SuppressWarnings("unchecked")
+    public static <DTO extends Serializable> PatchedDto<DTO> patch(CompiledJsonPatch jsonPatch, DTO dto, DtoCopyStrategy strategy, UnaryOperator<DTO> customCopier, ObjectMapper objectMapper) {
+        JsonNode tree = objectMapper.valueToTree(dto);
+        // taken before the patch, which may modify the tree in place
+        DTO snapshot = strategy == DtoCopyStrategy.JACKSON ? (DTO) objectMapper.treeToValue(tree, dto.getClass()) : null;
+        DTO patched = (DTO) objectMapper.treeToValue(jsonPatch.apply(tree), dto.getClass());
+        DTO previous = switch (strategy) {
+            case COPY_ON_WRITE -> dto;
+            case JACKSON -> snapshot;
+            case CUSTOM -> customCopier.apply(dto);
+            case SERIALIZATION -> SerializationUtils.clone(dto);
+        };
+        return new PatchedDto<>(previous, patched);
+    }
+}
@@ -0,0 +1,11 @@
+package ir.msob.jima.crud.api.service.patch;
+
+/**
+ * The result of applying a JSON patch to a DTO: the snapshot of the DTO before the patch and the patched DTO.
+ *
+ * @param previous The DTO before the patch.
+ * @param patched  The patched DTO.
+ * @param <DTO>    The type of the DTO.
+ */
+public record PatchedDto<DTO>(DTO previous, DTO patched) {
+}
@@ -0,0 +1,26 @@
+package ir.msob.jima.crud.api.slice;
+
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * A keyset (cursor) page of DTOs: the DTOs of the slice and the opaque token that continues after them.
+ *
+ * @param <DTO> The type of the DTOs.
+ */
+@Setter
+@Getter
+@ToString
+@AllArgsConstructor
+@NoArgsConstructor
+public class SliceDto<DTO> {
+    /**
+     * The DTOs of the slice, in key order.
+     */
+    private List<DTO> content;
+    /**
+     * The token to request the next slice with, or null if this is the last slice.
+     */
+    private String next;
+}
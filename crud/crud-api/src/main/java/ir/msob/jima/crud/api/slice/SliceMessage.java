@@ -0,0 +1,21 @@
+package ir.msob.jima.crud.api.slice;
+
+import ir.msob.jima.platform.api.shared.ModelType;
+import lombok.*;
+
+/**
+ * The data of a slice callback message.
+ *
+ * @param <DTO> The type of the DTOs.
+ */
+@Setter
+@Getter
+@ToString(callSuper = true)
+@AllArgsConstructor
+@NoArgsConstructor
+public class SliceMessage<DTO> extends ModelType {
+    /**
+     * The slice sent back to the caller.
+     */
+    private SliceDto<DTO> slice;
+}
@@ -0,0 +1,54 @@
+package ir.msob.jima.crud.api.slice;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import ir.msob.jima.platform.api.exception.badrequest.BadRequestException;
+import lombok.SneakyThrows;
+import org.springframework.data.domain.Sort;
+
+import java.util.Base64;
+
+/**
+ * The position a keyset slice continues from: the key of the last returned entity and the key order.
+ * It travels as an opaque, URL-safe token.
+ *
+ * @param afterKey  The key of the last entity of the previous slice.
+ * @param direction The key order.
+ * @param <ID>      The type of the key.
+ */
+public record SliceToken<ID>(ID afterKey, Sort.Direction direction) {
+
+    /**
+     * Encodes the token.
+     *
+     * @param objectMapper The object mapper used to write the key.
+     * @return The opaque token.
+     */
+    @SneakyThrows
+    public String encode(ObjectMapper objectMapper) {
+        ArrayNode node = objectMapper.createArrayNode()
+                .add(direction.name())
+                .add(objectMapper.valueToTree(afterKey));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(objectMapper.writeValueAsBytes(node));
+    }
+
+    /**
+     * Decodes a token.
+     *
+     * @param token        The opaque token.
+     * @param keyClass     The type of the key.
+     * @param objectMapper The object mapper used to read the key.
+     * @param <ID>         The type of the key.
+     * @return The decoded token.
+     * @throws BadRequestException if the token is malformed.
+     */
+    public static <ID> SliceToken<ID> decode(String token, Class<ID> keyClass, ObjectMapper objectMapper) throws BadRequestException {
+        try {
+            JsonNode node = objectMapper.readTree(Base64.getUrlDecoder().decode(token));
+            return new SliceToken<>(objectMapper.treeToValue(node.get(1), keyClass), Sort.Direction.valueOf(node.get(0).asText()));
+        } catch (Exception e) {
+            throw new BadRequestException("Invalid slice token: " + token);
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package ir.msob.jima.crud.api.slice;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import lombok.*;
+import org.springframework.data.domain.Sort;
+
+/**
+ * The keyset (cursor) paging part of a get-slice request.
+ */
+@Setter
+@Getter
+@Builder
+@ToString
+@AllArgsConstructor
+@NoArgsConstructor
+public class SliceableDto {
+    /**
+     * The name of the field carrying a SliceableDto next to the criteria in channel messages.
+     */
+    public static final String FN_SLICEABLE = "sliceable";
+    public static final int DEFAULT_SIZE = 20;
+
+    /**
+     * The token returned with the previous slice, or null for the first slice.
+     */
+    private String token;
+    /**
+     * The maximum number of DTOs in the slice.
+     */
+    private Integer size;
+    /**
+     * The key order of the first slice; continuation tokens carry their own.
+     */
+    private Sort.Direction direction;
+
+    /**
+     * Removes the sliceable from the data of a channel message, so that the rest of the message reads as a
+     * criteria message.
+     *
+     * @param message      The channel message tree.
+     * @param objectMapper The object mapper used to read the sliceable.
+     * @return The sliceable, or an empty one if the message has none.
+     */
+    @SneakyThrows
+    public static SliceableDto extract(JsonNode message, ObjectMapper objectMapper) {
+        JsonNode sliceable = message.get("data") instanceof ObjectNode data ? data.remove(FN_SLICEABLE) : null;
+        return sliceable == null || sliceable.isNull() ? new SliceableDto() : objectMapper.treeToValue(sliceable, SliceableDto.class);
+    }
+
+    public int getSizeOrDefault() {
+        return size == null || size <= 0 ? DEFAULT_SIZE : size;
+    }
+
+    public Sort.Direction getDirectionOrDefault() {
+        return direction == null ? Sort.Direction.ASC : direction;
+    }
+}
@@ -0,0 +1,38 @@
+package ir.msob.jima.crud.api.service.idempotency;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BloomIdempotencyKeyFilterTest {
+
+    @Test
+    void testPutKeysAreNeverReportedAbsent() {
+        BloomIdempotencyKeyFilter filter = new BloomIdempotencyKeyFilter(1000, 0.01);
+        for (int i = 0; i < 1000; i++) {
+            filter.put("key-" + i);
+        }
+        for (int i = 0; i < 1000; i++) {
+            assertTrue(filter.mightContain("key-" + i));
+        }
+    }
+
+    @Test
+    void testFalsePositiveRateStaysNearTarget() {
+        BloomIdempotencyKeyFilter filter = new BloomIdempotencyKeyFilter(1000, 0.01);
+        for (int i = 0; i < 1000; i++) {
+            filter.put("key-" + i);
+        }
+        int falsePositives = 0;
+        for (int i = 0; i < 10000; i++) {
+            if (filter.mightContain("other-" + i)) falsePositives++;
+        }
+        assertTrue(falsePositives < 300, "false positives: " + falsePositives);
+    }
+
+    @Test
+    void testInvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> new BloomIdempotencyKeyFilter(0, 0.01));
+        assertThrows(IllegalArgumentException.class, () -> new BloomIdempotencyKeyFilter(10, 1));
+    }
+}
@@ -0,0 +1,125 @@
+package ir.msob.jima.crud.api.service.patch;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.fge.jsonpatch.JsonPatch;
+import lombok.Getter;
+import lombok.Setter;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CompiledJsonPatchTest {
+
+    ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    @Test
+    void testCompiledPatchMatchesJsonPatch() throws Exception {
+        JsonPatch jsonPatch = jsonPatch("""
+                [{"op":"replace","path":"/name","value":"b"},
+                 {"op":"add","path":"/address/city","value":"x"},
+                 {"op":"remove","path":"/age"}]""");
+        CompiledJsonPatch compiled = CompiledJsonPatch.compile(jsonPatch, objectMapper);
+
+        assertTrue(compiled.isCompiled());
+        assertEquals(jsonPatch.apply(target()), compiled.apply(target()));
+    }
+
+    @Test
+    void testArrayPathFallsBack() throws Exception {
+        JsonPatch jsonPatch = jsonPatch("""
+                [{"op":"add","path":"/tags/-","value":"t2"}]""");
+        CompiledJsonPatch compiled = CompiledJsonPatch.compile(jsonPatch, objectMapper);
+
+        assertFalse(compiled.isCompiled());
+        assertFalse(compiled.isPushDownable());
+        assertEquals(jsonPatch.apply(target()), compiled.apply(target()));
+    }
+
+    @Test
+    void testReplaceMissingFieldFails() throws Exception {
+        CompiledJsonPatch compiled = CompiledJsonPatch.compile(jsonPatch("""
+                [{"op":"replace","path":"/missing","value":1}]"""), objectMapper);
+
+        assertThrows(Exception.class, () -> compiled.apply(target()));
+    }
+
+    @Test
+    void testToFieldUpdateConvertsValuesToTheDomainPropertyTypes() throws Exception {
+        CompiledJsonPatch compiled = CompiledJsonPatch.compile(jsonPatch("""
+                [{"op":"add","path":"/amount","value":"12.50"},
+                 {"op":"add","path":"/day","value":"2024-01-02"},
+                 {"op":"add","path":"/status","value":"ACTIVE"},
+                 {"op":"add","path":"/name","value":null}]"""), objectMapper);
+
+        assertTrue(compiled.isPushDownable());
+        FieldUpdate fieldUpdate = compiled.toFieldUpdate(objectMapper, Domain.class);
+        assertNotNull(fieldUpdate);
+        assertEquals(new BigDecimal("12.50"), fieldUpdate.set().get("amount"));
+        assertEquals(LocalDate.of(2024, 1, 2), fieldUpdate.set().get("day"));
+        assertEquals(Status.ACTIVE, fieldUpdate.set().get("status"));
+        assertTrue(fieldUpdate.set().containsKey("name"));
+        assertNull(fieldUpdate.set().get("name"));
+        assertEquals(Set.of(), fieldUpdate.unset());
+    }
+
+    @Test
+    void testToFieldUpdateRejectsUnknownContainerAndUnconvertibleProperties() throws Exception {
+        assertNull(CompiledJsonPatch.compile(jsonPatch("""
+                [{"op":"add","path":"/missing","value":"x"}]"""), objectMapper).toFieldUpdate(objectMapper, Domain.class));
+        assertNull(CompiledJsonPatch.compile(jsonPatch("""
+                [{"op":"add","path":"/tags","value":"x"}]"""), objectMapper).toFieldUpdate(objectMapper, Domain.class));
+        assertNull(CompiledJsonPatch.compile(jsonPatch("""
+                [{"op":"add","path":"/status","value":"UNKNOWN"}]"""), objectMapper).toFieldUpdate(objectMapper, Domain.class));
+    }
+
+    @Test
+    void testOnlyTopLevelAddIsPushDownable() throws Exception {
+        // replace and remove fail on a missing member and a nested add on a missing parent, a field update does not
+        for (String operation : List.of(
+                "{\"op\":\"replace\",\"path\":\"/name\",\"value\":\"x\"}",
+                "{\"op\":\"remove\",\"path\":\"/name\"}",
+                "{\"op\":\"add\",\"path\":\"/address/city\",\"value\":\"x\"}")) {
+            CompiledJsonPatch compiled = CompiledJsonPatch.compile(jsonPatch("[" + operation + "]"), objectMapper);
+            assertTrue(compiled.isCompiled());
+            assertFalse(compiled.isPushDownable(), operation);
+        }
+    }
+
+    @Test
+    void testObjectValueIsNotPushDownable() throws Exception {
+        CompiledJsonPatch compiled = CompiledJsonPatch.compile(jsonPatch("""
+                [{"op":"add","path":"/address","value":{"city":"x"}}]"""), objectMapper);
+
+        assertTrue(compiled.isCompiled());
+        assertFalse(compiled.isPushDownable());
+    }
+
+    private JsonNode target() throws Exception {
+        return objectMapper.readTree("""
+                {"name":"a","age":3,"address":{"city":"c"},"tags":["t1"]}""");
+    }
+
+    private JsonPatch jsonPatch(String json) throws Exception {
+        return objectMapper.readValue(json, JsonPatch.class);
+    }
+
+    enum Status {
+        ACTIVE
+    }
+
+    @Getter
+    @Setter
+    static class Domain {
+        private String name;
+        private BigDecimal amount;
+        private LocalDate day;
+        private Status status;
+        private List<String> tags;
+    }
+}
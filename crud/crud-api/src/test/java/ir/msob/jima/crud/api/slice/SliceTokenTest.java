@@ -0,0 +1,28 @@
+package ir.msob.jima.crud.api.slice;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import ir.msob.jima.platform.api.exception.badrequest.BadRequestException;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Sort;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class SliceTokenTest {
+
+    ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void testRoundTrip() {
+        SliceToken<String> token = new SliceToken<>("665f1c2e9b1e8a3d4c5b6a79", Sort.Direction.DESC);
+
+        String encoded = token.encode(objectMapper);
+
+        assertEquals(token, SliceToken.decode(encoded, String.class, objectMapper));
+    }
+
+    @Test
+    void testMalformedToken() {
+        assertThrows(BadRequestException.class, () -> SliceToken.decode("not-a-token", String.class, objectMapper));
+    }
+}
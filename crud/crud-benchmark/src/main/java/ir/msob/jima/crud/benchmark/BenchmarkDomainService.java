@@ -0,0 +1,42 @@
+package ir.msob.jima.crud.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import ir.msob.jima.crud.reactive.service.domain.BaseDomainCrudReactiveService;
+import ir.msob.jima.crud.reactive.service.domain.operation.ReactiveLifecycleOperationComponent;
+import ir.msob.jima.crud.reactive.testing.base.InMemoryDomainCrudReactiveRepository;
+import ir.msob.jima.platform.mongo.testing.test.TestCriteria;
+import ir.msob.jima.platform.mongo.testing.test.TestDomain;
+import ir.msob.jima.platform.mongo.testing.test.TestDto;
+import ir.msob.jima.platform.reactive.operation.BaseReactiveDomainLifecycleOperation;
+import ir.msob.jima.platform.testing.security.ProjectUser;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+/**
+ * The service under benchmark: a plain domain CRUD service over an {@link InMemoryDomainCrudReactiveRepository},
+ * with the default read/write settings and a configurable list of domain lifecycle operations.
+ */
+@Getter
+@RequiredArgsConstructor
+public class BenchmarkDomainService implements BaseDomainCrudReactiveService<String, ProjectUser, TestDomain, TestDto, TestCriteria, InMemoryDomainCrudReactiveRepository<TestDomain, TestCriteria>> {
+
+    private final ReactiveLifecycleOperationComponent reactiveLifecycleOperationComponent;
+    private final ObjectMapper objectMapper;
+    private final InMemoryDomainCrudReactiveRepository<TestDomain, TestCriteria> repository;
+    private final List<BaseReactiveDomainLifecycleOperation<String, ProjectUser, TestDto, TestCriteria>> domainLifecycleOperation;
+
+    @Override
+    public TestDto toDto(TestDomain domain, ProjectUser user) {
+        TestDto dto = new TestDto();
+        dto.setId(domain.getId());
+        dto.setDomainField(domain.getDomainField());
+        return dto;
+    }
+
+    @Override
+    public TestDomain toDomain(TestDto dto, ProjectUser user) {
+        return dto;
+    }
+}
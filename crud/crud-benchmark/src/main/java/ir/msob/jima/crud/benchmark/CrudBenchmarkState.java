@@ -0,0 +1,103 @@
+package ir.msob.jima.crud.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import ir.msob.jima.crud.reactive.service.domain.operation.DetachedLifecycleExecutor;
+import ir.msob.jima.crud.reactive.service.domain.operation.ReactiveLifecycleOperationComponent;
+import ir.msob.jima.crud.reactive.testing.base.InMemoryDomainCrudReactiveRepository;
+import ir.msob.jima.platform.api.util.CriteriaUtil;
+import ir.msob.jima.platform.mongo.testing.test.TestCriteria;
+import ir.msob.jima.platform.mongo.testing.test.TestDomain;
+import ir.msob.jima.platform.mongo.testing.test.TestDto;
+import ir.msob.jima.platform.reactive.operation.BaseReactiveDomainLifecycleOperation;
+import ir.msob.jima.platform.testing.security.ProjectUser;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.IntStream;
+
+/**
+ * A {@link BenchmarkDomainService} over a seeded {@link InMemoryDomainCrudReactiveRepository}, with
+ * {@link #hookCount} no-op domain lifecycle operations. Many-operations work on the first {@link #batchSize} seeded
+ * domains. The repository is reset to the seed before every iteration, so writes do not grow it across iterations.
+ */
+@State(Scope.Benchmark)
+public class CrudBenchmarkState {
+    public static final int SEED_SIZE = 1000;
+
+    @Param({"0", "1", "4", "16"})
+    public int hookCount;
+
+    @Param({"1", "10", "100"})
+    public int batchSize;
+
+    public BenchmarkDomainService service;
+    public ProjectUser user;
+    public TestCriteria batchCriteria;
+    public List<TestDto> batchDtos;
+
+    private DetachedLifecycleExecutor detachedLifecycleExecutor;
+    private InMemoryDomainCrudReactiveRepository<TestDomain, TestCriteria> repository;
+    private List<TestDomain> seed;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        detachedLifecycleExecutor = new DetachedLifecycleExecutor(1024, 4, DetachedLifecycleExecutor.OverflowPolicy.DROP_NEW);
+        ReactiveLifecycleOperationComponent component = new ReactiveLifecycleOperationComponent(List.of(), detachedLifecycleExecutor, true, Duration.ofMillis(100));
+        List<BaseReactiveDomainLifecycleOperation<String, ProjectUser, TestDto, TestCriteria>> hooks = new ArrayList<>();
+        IntStream.range(0, hookCount).forEach(i -> hooks.add(new NoopDomainLifecycleOperation()));
+
+        repository = new InMemoryDomainCrudReactiveRepository<>(String.valueOf(TestDomain.FN.domainField));
+        service = new BenchmarkDomainService(component, new ObjectMapper().findAndRegisterModules(), repository, hooks);
+        user = new ProjectUser();
+        seed = IntStream.range(0, SEED_SIZE).mapToObj(i -> newDto(id(i))).map(TestDomain.class::cast).toList();
+
+        List<String> batchIds = IntStream.range(0, batchSize).mapToObj(CrudBenchmarkState::id).toList();
+        batchCriteria = CriteriaUtil.idCriteria(TestCriteria.class, batchIds);
+        batchDtos = batchIds.stream().map(CrudBenchmarkState::newDto).toList();
+    }
+
+    @Setup(Level.Iteration)
+    public void resetRepository() {
+        repository.getStore().clear();
+        seed.forEach(repository.getStore()::insert);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        detachedLifecycleExecutor.destroy();
+    }
+
+    /**
+     * @return The id criteria of a random seeded domain.
+     */
+    public TestCriteria randomIdCriteria() {
+        return CriteriaUtil.idCriteria(TestCriteria.class, id(ThreadLocalRandom.current().nextInt(SEED_SIZE)));
+    }
+
+    /**
+     * @param count The number of DTOs.
+     * @return New DTOs without an id, to be saved.
+     */
+    public List<TestDto> newDtos(int count) {
+        return IntStream.range(0, count).mapToObj(i -> newDto(null)).toList();
+    }
+
+    public static TestDto newDto(String id) {
+        TestDto dto = new TestDto();
+        dto.setId(id);
+        dto.setDomainField("benchmark");
+        return dto;
+    }
+
+    private static String id(int i) {
+        return String.format("%08d", i);
+    }
+}
@@ -0,0 +1,48 @@
+package ir.msob.jima.crud.benchmark;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Entry point of {@code benchmarks.jar}. Takes the usual JMH command line, but unless told otherwise it adds the
+ * {@code gc} profiler, so every result carries its allocation rate per operation, and writes the results as JSON
+ * to {@code jmh-result.json}, so runs of different releases can be compared:
+ * <pre>
+ * mvn -pl crud/crud-benchmark -am package -DskipTests
+ * java -jar crud/crud-benchmark/target/benchmarks.jar                       # all suites
+ * java -jar crud/crud-benchmark/target/benchmarks.jar CrudRead -p hookCount=0,4 -rff read.json
+ * </pre>
+ */
+public final class CrudBenchmarks {
+
+    private CrudBenchmarks() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        CommandLineOptions commandLine = new CommandLineOptions(args);
+        if (commandLine.shouldHelp()) {
+            commandLine.showHelp();
+            return;
+        }
+        ChainedOptionsBuilder options = new OptionsBuilder().parent(commandLine);
+        if (commandLine.getProfilers().isEmpty()) {
+            options.addProfiler(GCProfiler.class);
+        }
+        if (!commandLine.getResultFormat().hasValue()) {
+            options.resultFormat(ResultFormatType.JSON);
+        }
+        if (!commandLine.getResult().hasValue()) {
+            options.result("jmh-result.json");
+        }
+        Runner runner = new Runner(options.build());
+        if (commandLine.shouldList()) {
+            runner.list();
+            return;
+        }
+        runner.run();
+    }
+}
@@ -0,0 +1,41 @@
+package ir.msob.jima.crud.benchmark;
+
+import ir.msob.jima.platform.mongo.testing.test.TestDto;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of the read entry points of the reactive CRUD service. doGetMany and doGetStream read
+ * {@link CrudBenchmarkState#batchSize} domains by id.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CrudReadBenchmark {
+
+    @Benchmark
+    public TestDto doGetOne(CrudBenchmarkState state) {
+        return state.service.doGetOne(state.randomIdCriteria(), state.user).block();
+    }
+
+    @Benchmark
+    public Collection<TestDto> doGetMany(CrudBenchmarkState state) {
+        return state.service.doGetMany(state.batchCriteria, state.user).block();
+    }
+
+    @Benchmark
+    public List<TestDto> doGetStream(CrudBenchmarkState state) {
+        return state.service.doGetStream(state.batchCriteria, state.user).collectList().block();
+    }
+}
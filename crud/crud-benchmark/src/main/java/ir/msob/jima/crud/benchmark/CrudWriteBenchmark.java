@@ -0,0 +1,65 @@
+package ir.msob.jima.crud.benchmark;
+
+import com.fasterxml.jackson.databind.node.TextNode;
+import com.github.fge.jackson.jsonpointer.JsonPointer;
+import com.github.fge.jsonpatch.JsonPatch;
+import com.github.fge.jsonpatch.ReplaceOperation;
+import ir.msob.jima.platform.mongo.testing.test.TestDomain;
+import ir.msob.jima.platform.mongo.testing.test.TestDto;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of the write entry points of the reactive CRUD service. The many-operations write
+ * {@link CrudBenchmarkState#batchSize} DTOs per call.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CrudWriteBenchmark {
+
+    @Benchmark
+    public TestDto doSave(CrudBenchmarkState state) {
+        return state.service.doSave(CrudBenchmarkState.newDto(null), state.user).block();
+    }
+
+    @Benchmark
+    public Collection<TestDto> saveMany(CrudBenchmarkState state) {
+        return state.service.doSaveMany(state.newDtos(state.batchSize), state.user).block();
+    }
+
+    @Benchmark
+    public Collection<TestDto> editMany(CrudBenchmarkState state, Patch patch) {
+        return state.service.doEditMany(state.batchCriteria, patch.jsonPatch, state.user).block();
+    }
+
+    @Benchmark
+    public Collection<TestDto> doUpdateMany(CrudBenchmarkState state) {
+        return state.service.doUpdateMany(state.batchDtos, state.batchDtos, state.user).block();
+    }
+
+    @State(Scope.Benchmark)
+    public static class Patch {
+        public JsonPatch jsonPatch;
+
+        @Setup(Level.Trial)
+        public void setUp() throws Exception {
+            jsonPatch = new JsonPatch(List.of(new ReplaceOperation(new JsonPointer(String.format("/%s", TestDomain.FN.domainField)), new TextNode("edited"))));
+        }
+    }
+}
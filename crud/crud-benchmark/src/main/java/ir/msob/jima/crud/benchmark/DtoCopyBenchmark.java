@@ -0,0 +1,64 @@
+package ir.msob.jima.crud.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.TextNode;
+import com.github.fge.jackson.jsonpointer.JsonPointer;
+import com.github.fge.jsonpatch.JsonPatch;
+import com.github.fge.jsonpatch.ReplaceOperation;
+import ir.msob.jima.crud.api.service.patch.CompiledJsonPatch;
+import ir.msob.jima.crud.api.service.patch.DtoCopyStrategy;
+import ir.msob.jima.crud.api.service.patch.JsonPatchUtil;
+import ir.msob.jima.crud.api.service.patch.PatchedDto;
+import ir.msob.jima.platform.mongo.testing.test.TestDomain;
+import ir.msob.jima.platform.mongo.testing.test.TestDto;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput of applying a compiled JSON patch to a DTO with each {@link DtoCopyStrategy}, i.e. the per-entity
+ * cost of keeping the previous DTO in doEdit/doEditMany.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DtoCopyBenchmark {
+
+    @Param({"COPY_ON_WRITE", "JACKSON", "CUSTOM", "SERIALIZATION"})
+    public DtoCopyStrategy strategy;
+
+    private ObjectMapper objectMapper;
+    private CompiledJsonPatch jsonPatch;
+    private TestDto dto;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        objectMapper = new ObjectMapper().findAndRegisterModules();
+        jsonPatch = CompiledJsonPatch.compile(new JsonPatch(List.of(new ReplaceOperation(new JsonPointer(String.format("/%s", TestDomain.FN.domainField)), new TextNode("edited")))), objectMapper);
+        dto = CrudBenchmarkState.newDto("00000000");
+    }
+
+    @Benchmark
+    public PatchedDto<TestDto> patch() {
+        return JsonPatchUtil.patch(jsonPatch, dto, strategy, DtoCopyBenchmark::copy, objectMapper);
+    }
+
+    private static TestDto copy(TestDto dto) {
+        return CrudBenchmarkState.newDto(dto.getId());
+    }
+}
@@ -0,0 +1,47 @@
+package ir.msob.jima.crud.benchmark;
+
+import ir.msob.jima.platform.mongo.testing.test.TestCriteria;
+import ir.msob.jima.platform.mongo.testing.test.TestDto;
+import ir.msob.jima.platform.reactive.operation.BaseReactiveDomainLifecycleOperation;
+import ir.msob.jima.platform.testing.security.ProjectUser;
+import org.jspecify.annotations.NonNull;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+
+/**
+ * A domain lifecycle operation hooking into every get, save and update phase without doing any work, so a
+ * benchmark with {@code n} of them measures the cost the hook pipeline adds per hook.
+ */
+public class NoopDomainLifecycleOperation implements BaseReactiveDomainLifecycleOperation<String, ProjectUser, TestDto, TestCriteria> {
+
+    @Override
+    public Mono<@NonNull Void> beforeGet(TestCriteria criteria, ProjectUser user) {
+        return Mono.empty();
+    }
+
+    @Override
+    public Mono<@NonNull Void> afterGet(Collection<String> ids, Collection<TestDto> dtos, TestCriteria criteria, ProjectUser user) {
+        return Mono.empty();
+    }
+
+    @Override
+    public Mono<@NonNull Void> beforeSave(TestDto dto, ProjectUser user) {
+        return Mono.empty();
+    }
+
+    @Override
+    public Mono<@NonNull Void> afterSave(TestDto dto, TestDto savedDto, ProjectUser user) {
+        return Mono.empty();
+    }
+
+    @Override
+    public Mono<@NonNull Void> beforeUpdate(TestDto previousDto, TestDto dto, ProjectUser user) {
+        return Mono.empty();
+    }
+
+    @Override
+    public Mono<@NonNull Void> afterUpdate(TestDto previousDto, TestDto updatedDto, ProjectUser user) {
+        return Mono.empty();
+    }
+}
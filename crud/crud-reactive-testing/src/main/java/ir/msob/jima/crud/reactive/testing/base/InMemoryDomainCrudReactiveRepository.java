@@ -0,0 +1,178 @@
+package ir.msob.jima.crud.reactive.testing.base;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import ir.msob.jima.crud.api.service.patch.FieldUpdate;
+import ir.msob.jima.crud.reactive.repository.BaseEstimatedCountReactiveRepository;
+import ir.msob.jima.crud.reactive.repository.BasePatchReactiveRepository;
+import ir.msob.jima.crud.reactive.repository.BaseSliceReactiveRepository;
+import ir.msob.jima.crud.test.repository.InMemoryStore;
+import ir.msob.jima.platform.reactive.repository.BaseReactiveRepository;
+import ir.msob.jima.platform.testing.criteria.ProjectCriteria;
+import ir.msob.jima.platform.testing.domain.ProjectDomain;
+import lombok.Getter;
+import lombok.SneakyThrows;
+import org.jspecify.annotations.NonNull;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * A reactive repository over an {@link InMemoryStore}, for benchmarks, stress tests and embedded runs that must
+ * not depend on Mongo. Ids are random UUIDs. Latencies set on the store delay the subscription of the matching
+ * operations. Field updates are applied to a JSON tree of each domain, which then replaces the stored domain.
+ *
+ * @param <D>
+ * @param <C>
+ */
+@Getter
+public class InMemoryDomainCrudReactiveRepository<D extends ProjectDomain, C extends ProjectCriteria>
+        implements BaseReactiveRepository<String, D, C>,
+        BaseSliceReactiveRepository<String, D, C>,
+        BaseEstimatedCountReactiveRepository,
+        BasePatchReactiveRepository<String, C> {
+
+    private final InMemoryStore<String, D, C> store;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * @param indexedFields The domain fields to keep a sorted index for.
+     */
+    public InMemoryDomainCrudReactiveRepository(String... indexedFields) {
+        this(new ObjectMapper().findAndRegisterModules(), indexedFields);
+    }
+
+    /**
+     * @param objectMapper  The object mapper that applies field updates to the domains.
+     * @param indexedFields The domain fields to keep a sorted index for.
+     */
+    public InMemoryDomainCrudReactiveRepository(ObjectMapper objectMapper, String... indexedFields) {
+        this.store = new InMemoryStore<>(() -> UUID.randomUUID().toString(), indexedFields);
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public Mono<@NonNull D> insertOne(D domain) {
+        return delayed(InMemoryStore.Operation.WRITE, Mono.fromSupplier(() -> store.insert(domain)));
+    }
+
+    @Override
+    public Flux<@NonNull D> insertMany(Collection<D> domains) {
+        return delayed(InMemoryStore.Operation.WRITE, Flux.defer(() -> Flux.fromIterable(domains.stream().map(store::insert).toList())));
+    }
+
+    @Override
+    public Mono<@NonNull D> updateOne(D domain) {
+        return delayed(InMemoryStore.Operation.WRITE, Mono.fromSupplier(() -> store.update(domain)));
+    }
+
+    @Override
+    public Flux<@NonNull D> updateMany(Collection<D> domains) {
+        return delayed(InMemoryStore.Operation.WRITE, Flux.defer(() -> Flux.fromIterable(domains.stream().map(store::update).toList())));
+    }
+
+    @Override
+    public Mono<@NonNull D> removeOne(C criteria) {
+        return delayed(InMemoryStore.Operation.REMOVE, Mono.fromSupplier(() -> store.remove(criteria, 1).stream().findFirst().orElse(null)));
+    }
+
+    @Override
+    public Flux<@NonNull D> removeMany(C criteria) {
+        return delayed(InMemoryStore.Operation.REMOVE, Flux.defer(() -> Flux.fromIterable(store.remove(criteria, Long.MAX_VALUE))));
+    }
+
+    @Override
+    public Mono<@NonNull D> getOne(C criteria) {
+        return delayed(InMemoryStore.Operation.READ, Mono.fromSupplier(() -> store.stream(criteria).findFirst().orElse(null)));
+    }
+
+    @Override
+    public Flux<@NonNull D> getMany(C criteria) {
+        return delayed(InMemoryStore.Operation.READ, Flux.defer(() -> Flux.fromIterable(store.find(criteria, Sort.unsorted()))));
+    }
+
+    @Override
+    public Mono<@NonNull Page<@NonNull D>> getPage(C criteria, Pageable pageable) {
+        return delayed(InMemoryStore.Operation.READ, Mono.fromSupplier(() -> store.findPage(criteria, pageable)));
+    }
+
+    @Override
+    public Flux<@NonNull D> getSlice(C criteria, Pageable pageable) {
+        return delayed(InMemoryStore.Operation.READ, Flux.defer(() -> Flux.fromIterable(store.findSlice(criteria, pageable))));
+    }
+
+    @Override
+    public Mono<@NonNull Long> count(C criteria) {
+        return delayed(InMemoryStore.Operation.COUNT, Mono.fromSupplier(() -> store.count(criteria)));
+    }
+
+    @Override
+    public Mono<@NonNull Long> patchMany(C criteria, FieldUpdate fieldUpdate) {
+        return delayed(InMemoryStore.Operation.WRITE, Mono.fromSupplier(() -> {
+            synchronized (store) {
+                List<D> patched = store.stream(criteria).map(domain -> patch(domain, fieldUpdate)).toList();
+                patched.forEach(store::update);
+                return (long) patched.size();
+            }
+        }));
+    }
+
+    @Override
+    public Mono<@NonNull Long> estimatedCount() {
+        return delayed(InMemoryStore.Operation.COUNT, Mono.fromSupplier(store::size));
+    }
+
+    /**
+     * A copy of the domain with the field update applied; set creates missing parents, unset ignores missing fields.
+     */
+    @SuppressWarnings("unchecked")
+    @SneakyThrows
+    private D patch(D domain, FieldUpdate fieldUpdate) {
+        ObjectNode tree = objectMapper.valueToTree(domain);
+        fieldUpdate.set().forEach((path, value) -> {
+            String[] fields = path.split("\\.");
+            parent(tree, fields, true).set(fields[fields.length - 1], objectMapper.valueToTree(value));
+        });
+        fieldUpdate.unset().forEach(path -> {
+            String[] fields = path.split("\\.");
+            ObjectNode parent = parent(tree, fields, false);
+            if (parent != null) {
+                parent.remove(fields[fields.length - 1]);
+            }
+        });
+        return (D) objectMapper.treeToValue(tree, domain.getClass());
+    }
+
+    private static ObjectNode parent(ObjectNode tree, String[] fields, boolean create) {
+        ObjectNode parent = tree;
+        for (int i = 0; i < fields.length - 1; i++) {
+            JsonNode child = parent.get(fields[i]);
+            if (child instanceof ObjectNode objectNode) {
+                parent = objectNode;
+            } else if (create) {
+                parent = parent.putObject(fields[i]);
+            } else {
+                return null;
+            }
+        }
+        return parent;
+    }
+
+    private <T> Mono<T> delayed(InMemoryStore.Operation operation, Mono<T> mono) {
+        Duration latency = store.getLatency(operation);
+        return latency.isZero() ? mono : mono.delaySubscription(latency);
+    }
+
+    private <T> Flux<T> delayed(InMemoryStore.Operation operation, Flux<T> flux) {
+        Duration latency = store.getLatency(operation);
+        return latency.isZero() ? flux : flux.delaySubscription(latency);
+    }
+}
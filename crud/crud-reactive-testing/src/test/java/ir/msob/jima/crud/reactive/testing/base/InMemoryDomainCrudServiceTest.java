@@ -0,0 +1,488 @@
+package ir.msob.jima.crud.reactive.testing.base;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.fge.jsonpatch.JsonPatch;
+import ir.msob.jima.crud.api.service.patch.FieldUpdate;
+import ir.msob.jima.crud.api.slice.SliceDto;
+import ir.msob.jima.crud.api.slice.SliceableDto;
+import ir.msob.jima.crud.reactive.service.CountStrategy;
+import ir.msob.jima.crud.reactive.service.domain.BaseDomainCrudReactiveService;
+import ir.msob.jima.crud.reactive.service.domain.operation.ReactiveLifecycleOperationComponent;
+import ir.msob.jima.crud.test.repository.InMemoryStore;
+import ir.msob.jima.platform.api.filter.Filter;
+import ir.msob.jima.platform.api.util.CriteriaUtil;
+import ir.msob.jima.platform.mongo.testing.test.TestCriteria;
+import ir.msob.jima.platform.mongo.testing.test.TestDomain;
+import ir.msob.jima.platform.mongo.testing.test.TestDto;
+import ir.msob.jima.platform.reactive.operation.BaseReactiveDomainLifecycleOperation;
+import ir.msob.jima.platform.testing.security.ProjectUser;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.Setter;
+import org.jspecify.annotations.NonNull;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Runs the write and read paths of a domain CRUD service over an {@link InMemoryDomainCrudReactiveRepository},
+ * recording the domain lifecycle hooks they call. DTOs are told apart by their domain field. The repository returns
+ * bulk updates in reverse order and overestimates its count by {@link #ESTIMATE_ERROR}.
+ */
+class InMemoryDomainCrudServiceTest {
+    static final long ESTIMATE_ERROR = 1000;
+
+    InMemoryDomainCrudReactiveRepository<TestDomain, TestCriteria> repository = new InMemoryDomainCrudReactiveRepository<>() {
+        @Override
+        public Flux<@NonNull TestDomain> updateMany(Collection<TestDomain> domains) {
+            // Bulk updates do not promise to return the domains in input order
+            return super.updateMany(domains).collectList().flatMapIterable(updated -> {
+                List<TestDomain> reversed = new ArrayList<>(updated);
+                Collections.reverse(reversed);
+                return reversed;
+            });
+        }
+
+        @Override
+        public Mono<@NonNull Long> estimatedCount() {
+            return super.estimatedCount().map(count -> count + ESTIMATE_ERROR);
+        }
+    };
+    RecordingDomainLifecycleOperation hooks = new RecordingDomainLifecycleOperation();
+    ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    RecordingDomainService service = new RecordingDomainService(
+            new ReactiveLifecycleOperationComponent(List.of(), null, false, Duration.ZERO),
+            objectMapper,
+            repository,
+            List.of(hooks));
+    ProjectUser user = new ProjectUser();
+
+    @Test
+    void testSaveManyReadsBackEachChunkInInputOrder() {
+        service.setWriteBatchSize(2);
+
+        Collection<TestDto> saved = service.doSaveMany(List.of(dto("a"), dto("b"), dto("c")), user).block();
+
+        assertNotNull(saved);
+        assertEquals(List.of("a", "b", "c"), fields(saved));
+        assertEquals(List.of(
+                "beforeSave:a", "beforeSave:b", "beforeGet", "afterGet:a,b", "afterSave:a", "afterSave:b",
+                "beforeSave:c", "beforeGet", "afterGet:c", "afterSave:c"), hooks.events);
+    }
+
+    @Test
+    void testSaveManyReturnsWrittenDomainsWithoutReadBack() {
+        service.setReturnWritten(true);
+
+        Collection<TestDto> saved = service.doSaveMany(List.of(dto("a"), dto("b")), user).block();
+
+        assertNotNull(saved);
+        assertEquals(List.of("a", "b"), fields(saved));
+        assertEquals(List.of("beforeSave:a", "beforeSave:b", "afterSave:a", "afterSave:b"), hooks.events);
+    }
+
+    @Test
+    void testSaveManyStreamRequestsOneChunkAtATime() {
+        service.setWriteBatchSize(2);
+        List<Long> requests = Collections.synchronizedList(new ArrayList<>());
+        Flux<TestDto> dtos = Flux.just("a", "b", "c", "d", "e").map(InMemoryDomainCrudServiceTest::dto).doOnRequest(requests::add);
+
+        List<TestDto> saved = service.saveMany(dtos, user).collectList().block();
+
+        assertNotNull(saved);
+        assertEquals(List.of("a", "b", "c", "d", "e"), fields(saved));
+        assertTrue(requests.stream().allMatch(n -> n <= 2), requests::toString);
+    }
+
+    @Test
+    void testUpdateManyPairsHooksByIdAndReadsBack() {
+        List<TestDto> previousDtos = List.of(stored("1", "a"), stored("2", "b"));
+
+        Collection<TestDto> updated = service.doUpdateMany(previousDtos, List.of(dto("1", "a2"), dto("2", "b2")), user).block();
+
+        assertNotNull(updated);
+        assertEquals(List.of("a2", "b2"), fields(updated));
+        assertEquals(List.of(
+                "beforeUpdate:a>a2", "beforeUpdate:b>b2", "beforeGet", "afterGet:a2,b2",
+                "afterUpdate:a>a2", "afterUpdate:b>b2"), hooks.events);
+    }
+
+    @Test
+    void testUpdateManyReturnsWrittenDomainsInInputOrder() {
+        service.setReturnWritten(true);
+        List<TestDto> previousDtos = List.of(stored("1", "a"), stored("2", "b"));
+
+        Collection<TestDto> updated = service.doUpdateMany(previousDtos, List.of(dto("1", "a2"), dto("2", "b2")), user).block();
+
+        assertNotNull(updated);
+        assertEquals(List.of("a2", "b2"), fields(updated));
+        assertEquals(List.of("beforeUpdate:a>a2", "beforeUpdate:b>b2", "afterUpdate:a>a2", "afterUpdate:b>b2"), hooks.events);
+    }
+
+    @Test
+    void testCountAllEstimatesOnlyAnUnfilteredCriteria() {
+        service.setCountStrategy(CountStrategy.ESTIMATED);
+        stored("1", "a");
+        stored("2", "b");
+
+        assertEquals(2 + ESTIMATE_ERROR, service.doCountAll(user).block());
+
+        hooks.countId = "1";
+        assertEquals(1, service.doCountAll(user).block());
+    }
+
+    @Test
+    void testCachedCountIsKeptUntilAWriteThroughTheService() {
+        stored("1", "a");
+        assertEquals(1, cachedTotal());
+
+        stored("2", "b");
+        assertEquals(1, cachedTotal());
+
+        service.doSave(dto("c"), user).block();
+        assertEquals(3, cachedTotal());
+    }
+
+    @Test
+    void testServicesOfTheSameClassDoNotShareCachedCounts() {
+        InMemoryDomainCrudReactiveRepository<TestDomain, TestCriteria> otherRepository = new InMemoryDomainCrudReactiveRepository<>();
+        RecordingDomainService other = hooklessService(otherRepository);
+        stored("1", "a");
+        otherRepository.getStore().insert(other.toDomain(dto("1", "a"), user));
+        otherRepository.getStore().insert(other.toDomain(dto("2", "b"), user));
+
+        assertEquals(1, cachedTotal());
+        assertEquals(2, cachedTotal(other));
+    }
+
+    @Test
+    void testPushedDownPatchMatchesReadPatchUpdate() throws Exception {
+        JsonPatch jsonPatch = jsonPatch("""
+                [{"op":"add","path":"/domainField","value":"x"}]""");
+
+        List<String> readPatched = editMany(jsonPatch, false, 0);
+        assertEquals(List.of("1:x", "2:x"), readPatched);
+        assertEquals(readPatched, editMany(jsonPatch, true, 1));
+    }
+
+    @Test
+    void testPatchWithoutPushDownEquivalentIsReadPatchedAndUpdated() throws Exception {
+        JsonPatch jsonPatch = jsonPatch("""
+                [{"op":"replace","path":"/domainField","value":"x"}]""");
+
+        assertEquals(editMany(jsonPatch, false, 0), editMany(jsonPatch, true, 0));
+    }
+
+    /**
+     * Edits two stored entities with a service that has no update hooks.
+     *
+     * @return The edited entities as {@code id:domain field}.
+     */
+    List<String> editMany(JsonPatch jsonPatch, boolean patchPushDownEnabled, int expectedPatchCalls) {
+        AtomicInteger patchCalls = new AtomicInteger();
+        InMemoryDomainCrudReactiveRepository<TestDomain, TestCriteria> patchRepository = new InMemoryDomainCrudReactiveRepository<>() {
+            @Override
+            public Mono<@NonNull Long> patchMany(TestCriteria criteria, FieldUpdate fieldUpdate) {
+                patchCalls.incrementAndGet();
+                return super.patchMany(criteria, fieldUpdate);
+            }
+        };
+        RecordingDomainService patchService = hooklessService(patchRepository);
+        patchService.setPatchPushDownEnabled(patchPushDownEnabled);
+        patchRepository.getStore().insert(patchService.toDomain(dto("1", "a"), user));
+        patchRepository.getStore().insert(patchService.toDomain(dto("2", "b"), user));
+
+        Collection<TestDto> edited = patchService.doEditMany(patchService.newCriteriaClass(), jsonPatch, user).block();
+
+        assertNotNull(edited);
+        assertEquals(expectedPatchCalls, patchCalls.get());
+        return edited.stream().map(dto -> dto.getId() + ":" + dto.getDomainField()).toList();
+    }
+
+    @Test
+    void testServicesOfTheSameClassDoNotShareCoalescedReads() {
+        InMemoryDomainCrudReactiveRepository<TestDomain, TestCriteria> firstRepository = new InMemoryDomainCrudReactiveRepository<>();
+        InMemoryDomainCrudReactiveRepository<TestDomain, TestCriteria> secondRepository = new InMemoryDomainCrudReactiveRepository<>();
+        RecordingDomainService first = hooklessService(firstRepository);
+        RecordingDomainService second = hooklessService(secondRepository);
+        for (RecordingDomainService coalescing : List.of(first, second)) {
+            coalescing.setReadCoalescingEnabled(true);
+            coalescing.getRepository().getStore().setLatency(InMemoryStore.Operation.READ, Duration.ofMillis(100));
+        }
+        firstRepository.getStore().insert(first.toDomain(dto("1", "a"), user));
+        secondRepository.getStore().insert(second.toDomain(dto("1", "b"), user));
+        TestCriteria criteria = CriteriaUtil.idCriteria(TestCriteria.class, "1");
+
+        var result = Mono.zip(first.doGetOne(criteria, user), second.doGetOne(criteria, user)).block();
+
+        assertNotNull(result);
+        assertEquals("a", result.getT1().getDomainField());
+        assertEquals("b", result.getT2().getDomainField());
+    }
+
+    @Test
+    void testGetOneBatchedRunsGetHooksOncePerBatch() {
+        stored("1", "a");
+        stored("2", "b");
+
+        var result = Mono.zip(service.doGetOneBatched("1", user), service.doGetOneBatched("2", user)).block();
+
+        assertNotNull(result);
+        assertEquals("a", result.getT1().getDomainField());
+        assertEquals("b", result.getT2().getDomainField());
+        assertEquals(List.of("beforeGet", "afterGet:a,b"), hooks.events);
+    }
+
+    @Test
+    void testEntityCacheIsInvalidatedByAWriteThroughTheService() {
+        service.setEntityCacheMaxSize(10);
+        TestDto previousDto = stored("1", "a");
+        TestCriteria criteria = CriteriaUtil.idCriteria(TestCriteria.class, "1");
+        assertEquals("a", getOneField(criteria));
+
+        repository.getStore().update(service.toDomain(dto("1", "b"), user));
+        assertEquals("a", getOneField(criteria));
+
+        service.doUpdate(previousDto, dto("1", "c"), user).block();
+        assertEquals("c", getOneField(criteria));
+    }
+
+    @Test
+    void testDeleteManyMaterializesDtosForAfterDelete() {
+        stored("1", "a");
+        stored("2", "b");
+        stored("3", "c");
+        List<String> ids = List.of("1", "2");
+
+        Collection<String> deleted = service.doDeleteMany(CriteriaUtil.idCriteria(TestCriteria.class, ids), user).block();
+
+        assertTrue(service.isDeleteDtoRequired());
+        assertNotNull(deleted);
+        assertEquals(Set.copyOf(ids), Set.copyOf(deleted));
+        assertEquals(2, service.getToDtoCalls().get());
+        assertEquals(2, service.getPreDeleteCalls().get());
+        assertTrue(hooks.events.containsAll(List.of("beforeDelete", "afterDelete:a", "afterDelete:b")), hooks.events::toString);
+        assertEquals(1, repository.getStore().size());
+    }
+
+    @Test
+    void testDeleteManyWithoutAfterDeleteOnlyCollectsIds() {
+        stored("1", "a");
+        stored("2", "b");
+        stored("3", "c");
+        RecordingDomainService idOnlyService = hooklessService(repository);
+        List<String> ids = List.of("1", "2");
+
+        Collection<String> deleted = idOnlyService.doDeleteMany(CriteriaUtil.idCriteria(TestCriteria.class, ids), user).block();
+
+        assertFalse(idOnlyService.isDeleteDtoRequired());
+        assertNotNull(deleted);
+        assertEquals(Set.copyOf(ids), Set.copyOf(deleted));
+        assertEquals(0, idOnlyService.getToDtoCalls().get());
+        assertEquals(1, repository.getStore().size());
+    }
+
+    @Test
+    void testGetSliceClampsTheRequestedSize() {
+        service.setMaxSliceSize(2);
+        stored("1", "a");
+        stored("2", "b");
+        stored("3", "c");
+
+        SliceDto<TestDto> slice = service.doGetSlice(service.newCriteriaClass(), SliceableDto.builder().size(10).build(), user).block();
+
+        assertNotNull(slice);
+        assertEquals(List.of("a", "b"), fields(slice.getContent()));
+        assertNotNull(slice.getNext());
+    }
+
+    @Test
+    void testGetSliceContinuesOnACopyOfTheCriteria() {
+        service.setMaxSliceSize(0);
+        stored("1", "a");
+        stored("2", "b");
+        TestCriteria criteria = service.newCriteriaClass();
+
+        SliceDto<TestDto> first = service.doGetSlice(criteria, SliceableDto.builder().size(10).build(), user).block();
+        assertNotNull(first);
+        SliceDto<TestDto> second = service.doGetSlice(criteria, SliceableDto.builder().token(first.getNext()).build(), user).block();
+
+        assertEquals(List.of("a"), fields(first.getContent()));
+        assertNotNull(second);
+        assertEquals(List.of("b"), fields(second.getContent()));
+        assertNull(criteria.getId());
+    }
+
+    String getOneField(TestCriteria criteria) {
+        TestDto dto = service.doGetOne(criteria, user).block();
+        assertNotNull(dto);
+        return dto.getDomainField();
+    }
+
+    /**
+     * A service over the given repository without domain lifecycle operations.
+     */
+    RecordingDomainService hooklessService(InMemoryDomainCrudReactiveRepository<TestDomain, TestCriteria> repository) {
+        return new RecordingDomainService(new ReactiveLifecycleOperationComponent(List.of(), null, false, Duration.ZERO),
+                objectMapper, repository, List.of());
+    }
+
+    JsonPatch jsonPatch(String json) throws Exception {
+        return objectMapper.readValue(json, JsonPatch.class);
+    }
+
+    long cachedTotal() {
+        return cachedTotal(service);
+    }
+
+    long cachedTotal(RecordingDomainService counting) {
+        Page<TestDto> page = counting.doGetPage(counting.newCriteriaClass(), PageRequest.of(0, 1), CountStrategy.CACHED, user).block();
+        assertNotNull(page);
+        return page.getTotalElements();
+    }
+
+    TestDto stored(String id, String field) {
+        repository.getStore().insert(service.toDomain(dto(id, field), user));
+        return dto(id, field);
+    }
+
+    static TestDto dto(String field) {
+        return dto(null, field);
+    }
+
+    static TestDto dto(String id, String field) {
+        TestDto dto = new TestDto();
+        dto.setId(id);
+        dto.setDomainField(field);
+        return dto;
+    }
+
+    static List<String> fields(Collection<? extends TestDomain> domains) {
+        return domains.stream().map(TestDomain::getDomainField).toList();
+    }
+
+    /**
+     * A domain CRUD service whose read/write settings can be changed per test.
+     */
+    @Getter
+    @Setter
+    @RequiredArgsConstructor
+    static class RecordingDomainService implements BaseDomainCrudReactiveService<String, ProjectUser, TestDomain, TestDto, TestCriteria, InMemoryDomainCrudReactiveRepository<TestDomain, TestCriteria>> {
+        private final ReactiveLifecycleOperationComponent reactiveLifecycleOperationComponent;
+        private final ObjectMapper objectMapper;
+        private final InMemoryDomainCrudReactiveRepository<TestDomain, TestCriteria> repository;
+        private final List<BaseReactiveDomainLifecycleOperation<String, ProjectUser, TestDto, TestCriteria>> domainLifecycleOperation;
+        private final AtomicInteger toDtoCalls = new AtomicInteger();
+        private final AtomicInteger preDeleteCalls = new AtomicInteger();
+        private boolean returnWritten;
+        private int writeBatchSize = 500;
+        private CountStrategy countStrategy = CountStrategy.EXACT;
+        private boolean patchPushDownEnabled;
+        private boolean readCoalescingEnabled;
+        private int entityCacheMaxSize;
+        private int maxSliceSize = 2000;
+
+        @Override
+        public TestDto toDto(TestDomain domain, ProjectUser user) {
+            toDtoCalls.incrementAndGet();
+            TestDto dto = new TestDto();
+            dto.setId(domain.getId());
+            dto.setDomainField(domain.getDomainField());
+            return dto;
+        }
+
+        @Override
+        public Mono<@NonNull Void> preDelete(TestCriteria criteria, ProjectUser user) {
+            return Mono.fromRunnable(preDeleteCalls::incrementAndGet);
+        }
+
+        @Override
+        public TestDomain toDomain(TestDto dto, ProjectUser user) {
+            TestDto domain = new TestDto();
+            domain.setId(dto.getId());
+            domain.setDomainField(dto.getDomainField());
+            return domain;
+        }
+    }
+
+    /**
+     * Records every get, save, update and delete hook as {@code phase[:domain fields]}.
+     */
+    static class RecordingDomainLifecycleOperation implements BaseReactiveDomainLifecycleOperation<String, ProjectUser, TestDto, TestCriteria> {
+        final List<String> events = Collections.synchronizedList(new ArrayList<>());
+        /**
+         * The id beforeCount narrows every count to, if any.
+         */
+        String countId;
+
+        @Override
+        public Mono<@NonNull Void> beforeCount(TestCriteria criteria, ProjectUser user) {
+            return Mono.fromRunnable(() -> {
+                if (countId != null) {
+                    criteria.setId(Filter.eq(countId));
+                }
+            });
+        }
+
+        @Override
+        public Mono<@NonNull Void> beforeGet(TestCriteria criteria, ProjectUser user) {
+            return record("beforeGet");
+        }
+
+        @Override
+        public Mono<@NonNull Void> afterGet(Collection<String> ids, Collection<TestDto> dtos, TestCriteria criteria, ProjectUser user) {
+            return record("afterGet:" + dtos.stream().map(TestDto::getDomainField).collect(Collectors.joining(",")));
+        }
+
+        @Override
+        public Mono<@NonNull Void> beforeSave(TestDto dto, ProjectUser user) {
+            return record("beforeSave:" + dto.getDomainField());
+        }
+
+        @Override
+        public Mono<@NonNull Void> afterSave(TestDto dto, TestDto savedDto, ProjectUser user) {
+            return record("afterSave:" + savedDto.getDomainField());
+        }
+
+        @Override
+        public Mono<@NonNull Void> beforeUpdate(TestDto previousDto, TestDto dto, ProjectUser user) {
+            return record("beforeUpdate:" + previousDto.getDomainField() + ">" + dto.getDomainField());
+        }
+
+        @Override
+        public Mono<@NonNull Void> afterUpdate(TestDto previousDto, TestDto updatedDto, ProjectUser user) {
+            return record("afterUpdate:" + previousDto.getDomainField() + ">" + updatedDto.getDomainField());
+        }
+
+        @Override
+        public Mono<@NonNull Void> beforeDelete(TestCriteria criteria, ProjectUser user) {
+            return record("beforeDelete");
+        }
+
+        @Override
+        public Mono<@NonNull Void> afterDelete(TestDto dto, TestCriteria criteria, ProjectUser user) {
+            return record("afterDelete:" + dto.getDomainField());
+        }
+
+        private Mono<@NonNull Void> record(String event) {
+            return Mono.fromRunnable(() -> events.add(event));
+        }
+    }
+}
@@ -0,0 +1,154 @@
+package ir.msob.jima.crud.reactive.batch;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Metrics;
+import ir.msob.jima.platform.api.element.dto.BaseElementDto;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+import reactor.util.context.ContextView;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiFunction;
+import java.util.stream.Collectors;
+
+/**
+ * Collects single-id lookups into batches (DataLoader style): lookups for the same user issued within
+ * {@code window} of the first one, or until {@code maxBatchSize} distinct ids, are resolved with one call of the
+ * loader, and each caller's Mono completes with the DTO of its id, or empty if the loader did not return it.
+ * <p>
+ * Lookups are batched per user (by {@code equals}), so each batch is loaded and authorized as that user. The loader
+ * runs in the Reactor context of the batch's first lookup (security, transaction and tracing context), so lookups
+ * of one user that must not share a transaction should not share a loader. Services expose one through
+ * {@code getOneBatched} and clients through {@code getByIdBatched}.
+ * Metrics: {@code jima.crud.batch.size}, the number of distinct ids per loader call, tagged by loader name.
+ */
+public class IdBatchLoader<ID, USER, DTO> {
+    public static final String BATCH_SIZE = "jima.crud.batch.size";
+
+    private final BiFunction<Collection<ID>, USER, Mono<Map<ID, DTO>>> loader;
+    private final int maxBatchSize;
+    private final Duration window;
+    private final Scheduler scheduler;
+    private final DistributionSummary batchSize;
+    private final Map<USER, Batch> pending = new HashMap<>();
+
+    /**
+     * @param name         The name the metrics are tagged with, e.g. the domain.
+     * @param loader       Loads the DTOs of a batch of distinct ids as one user, keyed by id.
+     * @param maxBatchSize The number of distinct ids that closes a batch before its window ends.
+     * @param window       How long a batch waits for more lookups after its first one.
+     */
+    public IdBatchLoader(String name, BiFunction<Collection<ID>, USER, Mono<Map<ID, DTO>>> loader, int maxBatchSize, Duration window) {
+        if (maxBatchSize <= 0) {
+            throw new IllegalArgumentException("maxBatchSize must be positive");
+        }
+        this.loader = loader;
+        this.maxBatchSize = maxBatchSize;
+        this.window = window;
+        this.scheduler = Schedulers.parallel();
+        this.batchSize = DistributionSummary.builder(BATCH_SIZE)
+                .tag("loader", name)
+                .register(Metrics.globalRegistry);
+    }
+
+    /**
+     * A loader over a lookup returning the DTOs of the ids as a collection, e.g. a client's getMany.
+     */
+    public static <ID, USER, DTO extends BaseElementDto<ID>> IdBatchLoader<ID, USER, DTO> ofCollection(
+            String name, BiFunction<Collection<ID>, USER, Mono<? extends Collection<DTO>>> loader, int maxBatchSize, Duration window) {
+        return new IdBatchLoader<>(name,
+                (ids, user) -> loader.apply(ids, user)
+                        .map(dtos -> dtos.stream().collect(Collectors.toMap(BaseElementDto::getId, dto -> dto, (first, second) -> first))),
+                maxBatchSize, window);
+    }
+
+    /**
+     * The DTO of the id, loaded in a batch with the other lookups of the same user.
+     *
+     * @param id   The id to look up.
+     * @param user The user the lookup runs as.
+     * @return A Mono emitting the DTO, or empty if it was not found.
+     */
+    public Mono<DTO> load(ID id, USER user) {
+        return Mono.create(sink -> {
+            Batch current;
+            boolean first = false;
+            boolean full = false;
+            synchronized (pending) {
+                current = pending.get(user);
+                if (current == null) {
+                    current = new Batch(user, sink.contextView());
+                    pending.put(user, current);
+                    first = true;
+                }
+                current.add(id, sink);
+                if (current.ids.size() >= maxBatchSize) {
+                    pending.remove(user);
+                    full = true;
+                }
+            }
+            Batch batch = current;
+            if (full) {
+                flush(batch);
+            } else if (first) {
+                scheduler.schedule(() -> flushIfPending(batch), window.toNanos(), TimeUnit.NANOSECONDS);
+            }
+        });
+    }
+
+    private void flushIfPending(Batch batch) {
+        synchronized (pending) {
+            if (pending.get(batch.user) != batch) {
+                return;
+            }
+            pending.remove(batch.user);
+        }
+        flush(batch);
+    }
+
+    private void flush(Batch batch) {
+        List<ID> ids = new ArrayList<>(batch.ids);
+        batchSize.record(ids.size());
+        Mono.defer(() -> loader.apply(ids, batch.user))
+                .defaultIfEmpty(Map.of())
+                .contextWrite(batch.context)
+                .subscribe(dtos -> batch.waiters.forEach(waiter -> {
+                            DTO dto = dtos.get(waiter.id());
+                            if (dto == null) {
+                                waiter.sink().success();
+                            } else {
+                                waiter.sink().success(dto);
+                            }
+                        }),
+                        error -> batch.waiters.forEach(waiter -> waiter.sink().error(error)));
+    }
+
+    private final class Batch {
+        private final USER user;
+        private final ContextView context;
+        private final LinkedHashSet<ID> ids = new LinkedHashSet<>();
+        private final List<Waiter<ID, DTO>> waiters = new ArrayList<>();
+
+        private Batch(USER user, ContextView context) {
+            this.user = user;
+            this.context = context;
+        }
+
+        private void add(ID id, MonoSink<DTO> sink) {
+            ids.add(id);
+            waiters.add(new Waiter<>(id, sink));
+        }
+    }
+
+    private record Waiter<ID, DTO>(ID id, MonoSink<DTO> sink) {
+    }
+}
@@ -1,6 +1,7 @@
 package ir.msob.jima.crud.reactive.client.domain;
 
 import ir.msob.jima.crud.api.client.BaseCrudClient;
+import ir.msob.jima.crud.reactive.batch.IdBatchLoader;
 import ir.msob.jima.platform.api.domain.criteria.BaseDomainCriteria;
 import ir.msob.jima.platform.api.domain.dto.BaseDomainDto;
 import ir.msob.jima.platform.api.security.BaseUser;
@@ -11,6 +12,7 @@ import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.io.Serializable;
+import java.time.Duration;
 import java.util.Collection;
 
 /**
@@ -90,6 +92,40 @@ public interface BaseReadDomainReactiveClient extends BaseCrudClient {
         return this.getOne(dtoClass, (C) CriteriaUtil.idCriteria(id), user);
     }
 
+    /**
+     * Retrieve a single data item by id, batched with the lookups of the same DTO class and user issued within
+     * {@link #getIdBatchWindow()} into one {@link #getMany(Class, Collection, BaseUser)} call.
+     *
+     * @param <ID>     The type of the entity's ID, which must be comparable and serializable.
+     * @param <USER>   The type of the user object, typically representing the user making the request.
+     * @param <DTO>    The type of the data transfer object for the entity.
+     * @param dtoClass The class representing the data transfer object.
+     * @param id       The id of item to be retrieved.
+     * @param user     A user object associated with the request.
+     * @return A Mono containing the retrieved data item, or empty if it is not found.
+     */
+    default <ID extends Comparable<ID> & Serializable, USER extends BaseUser, DTO extends BaseDomainDto<ID>> Mono<@NonNull DTO> getByIdBatched(Class<DTO> dtoClass, ID id, USER user) {
+        IdBatchLoader<ID, USER, DTO> loader = ClientIdBatchLoaders.of(this, dtoClass, () -> IdBatchLoader.ofCollection(dtoClass.getSimpleName(),
+                (ids, batchUser) -> this.getMany(dtoClass, ids, batchUser), getIdBatchMaxSize(), getIdBatchWindow()));
+        return loader.load(id, user);
+    }
+
+    /**
+     * How long getByIdBatched waits for more ids after the first id of a batch. Read once per DTO class, when its
+     * first batched lookup creates its loader.
+     */
+    default Duration getIdBatchWindow() {
+        return Duration.ofMillis(2);
+    }
+
+    /**
+     * Number of distinct ids that closes a getByIdBatched batch before its window ends. Read once per DTO class,
+     * when its first batched lookup creates its loader.
+     */
+    default int getIdBatchMaxSize() {
+        return 100;
+    }
+
     /**
      * Synchronously retrieve multiple data items that meet the specified criteria.
      *
@@ -0,0 +1,26 @@
+package ir.msob.jima.crud.reactive.client.domain;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import ir.msob.jima.crud.reactive.batch.IdBatchLoader;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * The {@link IdBatchLoader}s behind {@link BaseReadDomainReactiveClient#getByIdBatched}, one per client instance and
+ * DTO class. Clients are held by identity and weakly.
+ */
+final class ClientIdBatchLoaders {
+    private static final Cache<Object, Map<Class<?>, IdBatchLoader<?, ?, ?>>> LOADERS = Caffeine.newBuilder().weakKeys().build();
+
+    private ClientIdBatchLoaders() {
+    }
+
+    @SuppressWarnings("unchecked")
+    static <ID, USER, DTO> IdBatchLoader<ID, USER, DTO> of(Object client, Class<DTO> dtoClass, Supplier<IdBatchLoader<ID, USER, DTO>> factory) {
+        return (IdBatchLoader<ID, USER, DTO>) LOADERS.get(client, key -> new ConcurrentHashMap<>())
+                .computeIfAbsent(dtoClass, type -> factory.get());
+    }
+}
@@ -0,0 +1,85 @@
+package ir.msob.jima.crud.reactive.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.util.ClassUtils;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Micrometer meters published by the reactive CRUD services. Meters are registered on
+ * {@link Metrics#globalRegistry}, which Spring Boot binds to the application registry, once per tag set; the hot
+ * paths then only look them up.
+ */
+public final class CrudMetrics {
+
+    /**
+     * Time spent inside a DTO/domain mapping task, tagged by service and mapping strategy.
+     */
+    public static final String MAPPING = "jima.crud.mapping";
+
+    /**
+     * Time a mapping task waits between subscription and the start of its execution (the scheduler hop).
+     */
+    public static final String MAPPING_WAIT = "jima.crud.mapping.wait";
+
+    /**
+     * Coalescable reads, tagged by service, operation and whether the call reached the repository ({@code executed})
+     * or joined an identical read in flight ({@code coalesced}).
+     */
+    public static final String COALESCING = "jima.crud.coalescing";
+
+    public static final String COALESCING_EXECUTED = "executed";
+
+    public static final String COALESCING_COALESCED = "coalesced";
+
+    private static final MeterRegistry registry = Metrics.globalRegistry;
+    private static final Map<Class<?>, String> serviceNames = new ConcurrentHashMap<>();
+    private static final Map<MappingKey, Timer> mappingTimers = new ConcurrentHashMap<>();
+    private static final Map<MappingKey, Timer> mappingWaitTimers = new ConcurrentHashMap<>();
+    private static final Map<CoalescingKey, Counter> coalescingCounters = new ConcurrentHashMap<>();
+
+    private CrudMetrics() {
+    }
+
+    /**
+     * The name a service is tagged with: its user class' simple name, so proxies are reported as the service itself.
+     */
+    public static String serviceName(Object service) {
+        return serviceNames.computeIfAbsent(service.getClass(), type -> ClassUtils.getUserClass(type).getSimpleName());
+    }
+
+    public static Timer mappingTimer(String service, String strategy) {
+        return mappingTimers.computeIfAbsent(new MappingKey(service, strategy), key -> Timer.builder(MAPPING)
+                .tag("service", service)
+                .tag("strategy", strategy)
+                .register(registry));
+    }
+
+    public static void recordMappingWait(String service, String strategy, long nanos) {
+        mappingWaitTimers.computeIfAbsent(new MappingKey(service, strategy), key -> Timer.builder(MAPPING_WAIT)
+                        .tag("service", service)
+                        .tag("strategy", strategy)
+                        .register(registry))
+                .record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    public static void countCoalescing(String service, String operation, String result) {
+        coalescingCounters.computeIfAbsent(new CoalescingKey(service, operation, result), key -> Counter.builder(COALESCING)
+                        .tag("service", service)
+                        .tag("operation", operation)
+                        .tag("result", result)
+                        .register(registry))
+                .increment();
+    }
+
+    private record MappingKey(String service, String strategy) {
+    }
+
+    private record CoalescingKey(String service, String operation, String result) {
+    }
+}
@@ -0,0 +1,21 @@
+package ir.msob.jima.crud.reactive.repository;
+
+import org.jspecify.annotations.NonNull;
+import reactor.core.publisher.Mono;
+
+/**
+ * Implemented by reactive repositories that can estimate the number of entities of the whole collection from
+ * metadata instead of scanning it (e.g. MongoDB {@code estimatedDocumentCount}). The platform's Mongo repositories
+ * do not implement it: a repository opts in by delegating to its template, e.g.
+ * {@code reactiveMongoTemplate.estimatedCount(getDomainClass())}. Without it, the
+ * {@link ir.msob.jima.crud.reactive.service.CountStrategy#ESTIMATED ESTIMATED} count strategy counts exactly.
+ */
+public interface BaseEstimatedCountReactiveRepository {
+
+    /**
+     * Estimates the number of entities, ignoring any criteria.
+     *
+     * @return A Mono of the estimated count.
+     */
+    Mono<@NonNull Long> estimatedCount();
+}
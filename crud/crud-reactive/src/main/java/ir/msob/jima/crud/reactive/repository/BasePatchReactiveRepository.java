@@ -0,0 +1,33 @@
+package ir.msob.jima.crud.reactive.repository;
+
+import ir.msob.jima.crud.api.service.patch.FieldUpdate;
+import ir.msob.jima.platform.api.element.criteria.BaseElementCriteria;
+import org.jspecify.annotations.NonNull;
+import reactor.core.publisher.Mono;
+
+import java.io.Serializable;
+
+/**
+ * Implemented by reactive repositories that can apply a field-level update to every entity matching a criteria in
+ * a single server-side operation (e.g. a MongoDB {@code updateMulti} with {@code $set}/{@code $unset}).
+ * Services use it to push simple JSON patches down instead of reading, patching and replacing each entity. The
+ * platform's Mongo repositories do not implement it: a repository opts in by delegating to its template, e.g.
+ * {@code reactiveMongoTemplate.updateMulti(query, update, getDomainClass())} with the criteria's query and an
+ * {@code Update} of the field update's sets and unsets. Without it, every patch is read, patched and updated.
+ *
+ * @param <ID> The type of entity ID.
+ * @param <C>  The type of criteria used for querying entities.
+ */
+public interface BasePatchReactiveRepository<ID extends Comparable<ID> & Serializable, C extends BaseElementCriteria<ID>> {
+
+    /**
+     * Applies the field update to every entity matching the criteria. Like {@code $set}/{@code $unset}, setting a
+     * missing field creates it (with its parents) and unsetting a missing field is not an error.
+     *
+     * @param criteria    The criteria selecting the entities.
+     * @param fieldUpdate The fields to set and unset; paths are dotted JSON property names of the domain, which
+     *                    are also the DTO property names, and values are of the domain property types.
+     * @return A Mono of the number of modified entities.
+     */
+    Mono<@NonNull Long> patchMany(C criteria, FieldUpdate fieldUpdate);
+}
@@ -0,0 +1,30 @@
+package ir.msob.jima.crud.reactive.repository;
+
+import ir.msob.jima.platform.api.element.criteria.BaseElementCriteria;
+import ir.msob.jima.platform.api.element.element.BaseElement;
+import org.jspecify.annotations.NonNull;
+import org.springframework.data.domain.Pageable;
+import reactor.core.publisher.Flux;
+
+import java.io.Serializable;
+
+/**
+ * Implemented by reactive repositories that can read a sorted, limited run of entities without counting the
+ * matches. Keyset slices and the non-exact count strategies of pages use it. Without it, slices read every match
+ * with {@code getMany} and sort and limit them in the service, and pages fall back to {@code getPage}, which counts.
+ *
+ * @param <ID> The type of entity ID.
+ * @param <D>  The type of entity.
+ * @param <C>  The type of criteria used for querying entities.
+ */
+public interface BaseSliceReactiveRepository<ID extends Comparable<ID> & Serializable, D extends BaseElement<ID>, C extends BaseElementCriteria<ID>> {
+
+    /**
+     * Reads the entities matching the criteria, sorted, skipped and limited by the pageable.
+     *
+     * @param criteria The criteria selecting the entities.
+     * @param pageable The sort, the offset and the maximum number of entities.
+     * @return A Flux of at most {@code pageable.getPageSize()} entities.
+     */
+    Flux<@NonNull D> getSlice(C criteria, Pageable pageable);
+}
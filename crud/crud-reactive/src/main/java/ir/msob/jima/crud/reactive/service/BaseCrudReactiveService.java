@@ -3,14 +3,34 @@ package ir.msob.jima.crud.reactive.service;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.github.fge.jsonpatch.JsonPatch;
+import io.micrometer.core.instrument.Timer;
+import ir.msob.jima.crud.api.metrics.CrudPhase;
+import ir.msob.jima.crud.api.metrics.CrudPhaseMetrics;
 import ir.msob.jima.crud.api.service.BaseCrudServiceParent;
+import ir.msob.jima.crud.api.service.idempotency.IdempotencyKeyFilter;
+import ir.msob.jima.crud.api.service.patch.CompiledJsonPatch;
+import ir.msob.jima.crud.api.service.patch.DtoCopyStrategy;
+import ir.msob.jima.crud.api.service.patch.FieldUpdate;
+import ir.msob.jima.crud.api.service.patch.JsonPatchUtil;
+import ir.msob.jima.crud.api.service.patch.PatchedDto;
+import ir.msob.jima.crud.api.slice.SliceDto;
+import ir.msob.jima.crud.api.slice.SliceToken;
+import ir.msob.jima.crud.api.slice.SliceableDto;
+import ir.msob.jima.crud.reactive.batch.IdBatchLoader;
+import ir.msob.jima.crud.reactive.metrics.CrudMetrics;
+import ir.msob.jima.crud.reactive.repository.BaseEstimatedCountReactiveRepository;
+import ir.msob.jima.crud.reactive.repository.BasePatchReactiveRepository;
+import ir.msob.jima.crud.reactive.repository.BaseSliceReactiveRepository;
+import ir.msob.jima.crud.reactive.service.domain.operation.LifecyclePhase;
 import ir.msob.jima.crud.reactive.service.domain.operation.ReactiveLifecycleOperationComponent;
 import ir.msob.jima.platform.api.element.criteria.BaseElementCriteria;
 import ir.msob.jima.platform.api.element.dto.BaseElementDto;
 import ir.msob.jima.platform.api.element.element.BaseElement;
+import ir.msob.jima.platform.api.element.element.BaseElementAbstract;
 import ir.msob.jima.platform.api.exception.badrequest.BadRequestException;
 import ir.msob.jima.platform.api.exception.domainnotfound.DomainNotFoundException;
 import ir.msob.jima.platform.api.exception.validation.ValidationException;
+import ir.msob.jima.platform.api.filter.Filter;
 import ir.msob.jima.platform.api.safemodify.IdempotencyKeyUtil;
 import ir.msob.jima.platform.api.safemodify.SafeSave;
 import ir.msob.jima.platform.api.security.BaseUser;
@@ -19,22 +39,32 @@ import ir.msob.jima.platform.reactive.operation.BaseReactiveDomainLifecycleOpera
 import ir.msob.jima.platform.reactive.repository.BaseReactiveRepository;
 import ir.msob.jima.platform.reactive.service.BaseReactiveService;
 import jakarta.validation.Valid;
-import lombok.SneakyThrows;
 import org.apache.commons.lang3.SerializationUtils;
 import org.jspecify.annotations.NonNull;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
-import reactor.core.scheduler.Schedulers;
+import reactor.core.publisher.SignalType;
+import reactor.core.scheduler.Scheduler;
+import reactor.util.concurrent.Queues;
+import reactor.util.context.Context;
 
 import java.io.Serializable;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.Callable;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
 /**
  * This interface defines common CRUD operations for a domain entity.
@@ -61,260 +91,850 @@ public interface BaseCrudReactiveService<
     // ---------------------------
 
     /**
-     * Wrap a blocking supplier in a Mono and schedule on boundedElastic.
+     * Count the entities matching the criteria. With {@link #isReadCoalescingEnabled()}, concurrent counts of
+     * the same user with an equal criteria share one repository call; the count hooks still run for every caller.
      */
-    private static <T> Mono<T> runBlocking(Callable<T> callable) {
-        return Mono.fromCallable(callable)
-                .subscribeOn(Schedulers.boundedElastic());
+    default Mono<@NonNull Long> doCount(C criteria, USER user) {
+        return measured("count", count(criteria, user, false));
     }
 
-    default Mono<@NonNull Long> doCount(C criteria, USER user) {
+    /**
+     * Count with the count hooks. When {@code estimated}, a criteria the hooks left unfiltered is counted with the
+     * repository's estimated count.
+     */
+    private Mono<Long> count(C criteria, USER user, boolean estimated) {
         return beforeCount(criteria, user)
-                .then(this.getRepository().count(criteria))
+                .then(Mono.defer(() -> estimated && isUnfiltered(criteria)
+                        ? phase(CrudPhase.REPOSITORY, ((BaseEstimatedCountReactiveRepository) getRepository()).estimatedCount())
+                        : coalesce("count", criteria, user, () -> phase(CrudPhase.REPOSITORY, this.getRepository().count(criteria)))))
                 .flatMap(count -> afterCount(criteria, user).thenReturn(count));
     }
 
+    /**
+     * Whether the criteria still equals a new criteria, i.e. selects every entity.
+     */
+    private boolean isUnfiltered(C criteria) {
+        return getObjectMapper().valueToTree(criteria).equals(getObjectMapper().valueToTree(newCriteriaClass()));
+    }
+
+    /**
+     * Get the DTO matching the criteria. With an {@link #getEntityCacheMaxSize() entity cache}, a criteria that
+     * only selects an id is served from the cache; the domain is still mapped with {@link #toDto} and every get
+     * hook still runs for the caller. With {@link #isReadCoalescingEnabled()}, concurrent reads of the same user
+     * with an equal criteria share one repository call.
+     */
     default Mono<@NonNull DTO> doGetOne(C criteria, USER user) throws DomainNotFoundException, BadRequestException {
-        return beforeGet(criteria, user)
-                .then(this.preGet(criteria, user))
-                .then(this.getRepository().getOne(criteria))
+        return measured("getOne", beforeGet(criteria, user)
+                .then(phase(CrudPhase.PRE, this.preGet(criteria, user)))
+                .then(Mono.defer(() -> findOne(criteria, user)))
                 .flatMap(domain -> convertDomainToDto(domain, user)
                         .flatMap(dto -> {
                             Collection<ID> ids = Collections.singleton(domain.getId());
                             Collection<DTO> dtos = Collections.singleton(dto);
-                            return postGet(ids, dtos, criteria, user)
+                            return phase(CrudPhase.POST, postGet(ids, dtos, criteria, user))
                                     .then(afterGet(ids, dtos, criteria, user))
                                     .thenReturn(dto);
                         })
-                );
+                ));
+    }
+
+    /**
+     * Get the DTO of an id, batched with the lookups of the same user issued within {@link #getIdBatchWindow()}
+     * into one id-in {@link #doGetMany(BaseElementCriteria, BaseUser)}. The get hooks run once per batch, with
+     * the batch's id criteria, instead of once per id, in the Reactor context of the batch's first lookup.
+     * Completes empty if the id is not found.
+     */
+    default Mono<@NonNull DTO> doGetOneBatched(ID id, USER user) {
+        IdBatchLoader<ID, USER, DTO> loader = IdBatchLoaders.of(this, () -> IdBatchLoader.ofCollection(CrudMetrics.serviceName(this),
+                (ids, batchUser) -> doGetMany(CriteriaUtil.idCriteria(getCriteriaClass(), ids), batchUser),
+                getIdBatchMaxSize(), getIdBatchWindow()));
+        return loader.load(id, user);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Mono<D> findOne(C criteria, USER user) {
+        ID id = getEntityCacheMaxSize() > 0 ? cacheableId(criteria) : null;
+        if (id == null) {
+            return coalesce("getOne", criteria, user, () -> phase(CrudPhase.REPOSITORY, this.getRepository().getOne(criteria)));
+        }
+        EntityCache entityCache = EntityCache.of(this, getEntityCacheMaxSize(), getEntityCacheTtl());
+        D cached = (D) entityCache.get(id);
+        if (cached != null) {
+            return Mono.just(cached);
+        }
+        long generation = entityCache.generation();
+        return coalesce("getOne", criteria, user, () -> phase(CrudPhase.REPOSITORY, this.getRepository().getOne(criteria))
+                .doOnNext(domain -> entityCache.put(id, domain, generation)));
     }
 
+    /**
+     * Run a repository read, sharing it with concurrent reads of the same user, operation and an equal criteria when
+     * {@link #isReadCoalescingEnabled()}, so a caller never gets the outcome of a read made for another user. The
+     * criteria is normalized after the pre hooks ran.
+     */
+    private <T> Mono<T> coalesce(String operation, C criteria, USER user, Supplier<Mono<T>> read) {
+        if (!isReadCoalescingEnabled()) {
+            return read.get();
+        }
+        return SingleFlight.execute(this, operation, getObjectMapper().valueToTree(criteria), getObjectMapper().valueToTree(user), read);
+    }
+
+    /**
+     * The id the criteria selects if it selects nothing but a single id, otherwise null.
+     */
+    private ID cacheableId(C criteria) {
+        Filter<ID> idFilter = criteria.getId();
+        if (idFilter == null || idFilter.getEq() == null) {
+            return null;
+        }
+        ID id = idFilter.getEq();
+        JsonNode idOnly = getObjectMapper().valueToTree(CriteriaUtil.idCriteria(getCriteriaClass(), id));
+        return idOnly.equals(getObjectMapper().valueToTree(criteria)) ? id : null;
+    }
+
+    /**
+     * Get the DTOs matching the criteria. With a {@link #getMappingConcurrency()} above 1 the domains are mapped
+     * concurrently (one task per domain) while keeping their order; otherwise they are mapped in a single task.
+     */
     default Mono<@NonNull Collection<DTO>> doGetMany(C criteria, USER user) throws DomainNotFoundException, BadRequestException {
-        return beforeGet(criteria, user)
-                .then(this.preGet(criteria, user))
-                .thenMany(this.getRepository().getMany(criteria))
-                .concatMap(domain -> convertDomainToDto(domain, user))
-                .collectList()
+        Flux<D> domains = beforeGet(criteria, user)
+                .then(phase(CrudPhase.PRE, this.preGet(criteria, user)))
+                .thenMany(phase(CrudPhase.REPOSITORY, this.getRepository().getMany(criteria)));
+        Mono<List<DTO>> mapped = getMappingConcurrency() > 1
+                ? orderedMap(domains, domain -> convertDomainToDto(domain, user)).collectList()
+                : domains.collectList().flatMap(list -> runMapping(() -> list.stream().map(domain -> toDto(domain, user)).toList()));
+        return measured("getMany", mapped
                 .flatMap(dtos -> {
                     Collection<ID> ids = prepareIds(dtos);
-                    return postGet(ids, dtos, criteria, user)
+                    return phase(CrudPhase.POST, postGet(ids, dtos, criteria, user))
                             .then(afterGet(ids, dtos, criteria, user))
                             .thenReturn(dtos);
-                });
+                }));
+    }
+
+    /**
+     * Count every entity. With {@link CountStrategy#ESTIMATED} and a {@link BaseEstimatedCountReactiveRepository},
+     * the repository's estimated count is used, unless a count hook narrowed the criteria.
+     */
+    default Mono<@NonNull Long> doCountAll(USER user) {
+        boolean estimated = getCountStrategy() == CountStrategy.ESTIMATED && getRepository() instanceof BaseEstimatedCountReactiveRepository;
+        return measured("countAll", count(newCriteriaClass(), user, estimated));
     }
 
     default Mono<@NonNull Page<@NonNull DTO>> doGetPage(C criteria, Pageable pageable, USER user) throws DomainNotFoundException, BadRequestException {
-        return beforeGet(criteria, user)
-                .then(this.preGet(criteria, user))
-                .then(this.getRepository().getPage(criteria, pageable))
+        return doGetPage(criteria, pageable, getCountStrategy(), user);
+    }
+
+    /**
+     * Get a page of the DTOs matching the criteria, obtaining its total with the given {@link CountStrategy}.
+     */
+    default Mono<@NonNull Page<@NonNull DTO>> doGetPage(C criteria, Pageable pageable, CountStrategy countStrategy, USER user) throws DomainNotFoundException, BadRequestException {
+        return measured("getPage", beforeGet(criteria, user)
+                .then(phase(CrudPhase.PRE, this.preGet(criteria, user)))
+                .then(Mono.defer(() -> findPage(criteria, pageable, countStrategy)))
                 .flatMap(domainPage ->
-                        runBlocking(() -> domainPage.stream().map(domain -> toDto(domain, user)).toList())
+                        runMapping(() -> domainPage.stream().map(domain -> toDto(domain, user)).toList())
                                 .flatMap(dtos -> {
                                     Page<DTO> dtoPage = new PageImpl<>(dtos, domainPage.getPageable(), domainPage.getTotalElements());
                                     Collection<ID> ids = prepareIds(dtos);
-                                    return postGet(ids, dtos, criteria, user)
+                                    return phase(CrudPhase.POST, postGet(ids, dtos, criteria, user))
                                             .then(afterGet(ids, dtos, criteria, user))
                                             .thenReturn(dtoPage);
                                 })
-                );
+                ));
+    }
+
+    @SuppressWarnings("unchecked")
+    private Mono<Page<D>> findPage(C criteria, Pageable pageable, CountStrategy countStrategy) {
+        if (countStrategy == CountStrategy.EXACT || pageable.isUnpaged()
+                || !(getRepository() instanceof BaseSliceReactiveRepository<?, ?, ?> repository)) {
+            return phase(CrudPhase.REPOSITORY, this.getRepository().getPage(criteria, pageable));
+        }
+        Mono<List<D>> content = phase(CrudPhase.REPOSITORY, ((BaseSliceReactiveRepository<ID, D, C>) repository).getSlice(criteria, pageable)).collectList();
+        if (countStrategy == CountStrategy.NONE) {
+            return content.map(domains -> new PageImpl<>(domains, pageable,
+                    pageable.getOffset() + domains.size() + (domains.size() == pageable.getPageSize() ? 1 : 0)));
+        }
+        return Mono.zip(content, countForPage(criteria, countStrategy))
+                .map(tuple -> new PageImpl<>(tuple.getT1(), pageable, tuple.getT2()));
     }
 
+    private Mono<Long> countForPage(C criteria, CountStrategy countStrategy) {
+        if (countStrategy == CountStrategy.ESTIMATED
+                && getRepository() instanceof BaseEstimatedCountReactiveRepository repository
+                && isUnfiltered(criteria)) {
+            return phase(CrudPhase.REPOSITORY, repository.estimatedCount());
+        }
+        if (countStrategy == CountStrategy.CACHED) {
+            JsonNode key = getObjectMapper().valueToTree(criteria);
+            CountCache countCache = CountCache.of(this, getCountCacheMaxSize(), getCountCacheTtl());
+            Long cached = countCache.get(key);
+            if (cached != null) {
+                return Mono.just(cached);
+            }
+            long generation = countCache.generation();
+            return phase(CrudPhase.REPOSITORY, this.getRepository().count(criteria))
+                    .doOnNext(count -> countCache.put(key, count, generation));
+        }
+        return phase(CrudPhase.REPOSITORY, this.getRepository().count(criteria));
+    }
+
+    /**
+     * Drop what the caches know about written entities: every cached count and the cached domains of the given ids.
+     */
+    private void invalidateCaches(Collection<ID> ids) {
+        CountCache.invalidate(this);
+        EntityCache.invalidate(this, ids);
+    }
+
+    /**
+     * Get a keyset slice of the DTOs matching the criteria, ordered by id. Instead of skipping an offset, a slice
+     * continues after the id carried by the sliceable's token, so a deep slice costs the same as the first one.
+     * A token also fixes the order; the sliceable's direction only applies to the first slice. Sizes are clamped
+     * between 1 and {@link #getMaxSliceSize()}. The token narrows a copy of the criteria; the hooks get the caller's.
+     */
+    default Mono<@NonNull SliceDto<DTO>> doGetSlice(C criteria, SliceableDto sliceable, USER user) throws DomainNotFoundException, BadRequestException {
+        int size = Math.max(1, Math.min(sliceable.getSizeOrDefault(), getMaxSliceSize()));
+        Sort.Direction direction = sliceable.getDirectionOrDefault();
+        C sliceCriteria = criteria;
+        if (sliceable.getToken() != null) {
+            SliceToken<ID> token = SliceToken.decode(sliceable.getToken(), getIdClass(), getObjectMapper());
+            direction = token.direction();
+            sliceCriteria = getObjectMapper().convertValue(criteria, getCriteriaClass());
+            applyAfterKey(sliceCriteria, token);
+        }
+        Pageable pageable = PageRequest.of(0, size + 1, Sort.by(direction, String.valueOf(BaseElementAbstract.FN.id)));
+        Sort.Direction sliceDirection = direction;
+        C findCriteria = sliceCriteria;
+        return measured("getSlice", beforeGet(criteria, user)
+                .then(phase(CrudPhase.PRE, this.preGet(criteria, user)))
+                .thenMany(findSlice(findCriteria, pageable))
+                .collectList()
+                .flatMap(domains -> {
+                    boolean hasNext = domains.size() > size;
+                    List<D> content = hasNext ? domains.subList(0, size) : domains;
+                    return runMapping(() -> content.stream().map(domain -> toDto(domain, user)).toList())
+                            .flatMap(dtos -> {
+                                Collection<ID> ids = prepareIds(dtos);
+                                String next = hasNext
+                                        ? new SliceToken<>(content.get(size - 1).getId(), sliceDirection).encode(getObjectMapper())
+                                        : null;
+                                return phase(CrudPhase.POST, postGet(ids, dtos, criteria, user))
+                                        .then(afterGet(ids, dtos, criteria, user))
+                                        .thenReturn(new SliceDto<>(dtos, next));
+                            });
+                }));
+    }
+
+    /**
+     * Without a {@link BaseSliceReactiveRepository}, the matches are read with getMany, sorted by id and limited
+     * here: nothing is counted, but every match is read.
+     */
+    @SuppressWarnings("unchecked")
+    private Flux<D> findSlice(C criteria, Pageable pageable) {
+        if (getRepository() instanceof BaseSliceReactiveRepository<?, ?, ?> repository) {
+            return phase(CrudPhase.REPOSITORY, ((BaseSliceReactiveRepository<ID, D, C>) repository).getSlice(criteria, pageable));
+        }
+        Comparator<D> byId = Comparator.comparing(D::getId);
+        boolean ascending = pageable.getSort().stream().allMatch(Sort.Order::isAscending);
+        return phase(CrudPhase.REPOSITORY, this.getRepository().getMany(criteria))
+                .sort(ascending ? byId : byId.reversed())
+                .take(pageable.getPageSize());
+    }
+
+    /**
+     * Narrows the id filter of the criteria to the ids after the token's key, in the token's order.
+     */
+    private void applyAfterKey(C criteria, SliceToken<ID> token) {
+        boolean ascending = token.direction().isAscending();
+        Filter<ID> idFilter = criteria.getId();
+        if (idFilter == null) {
+            criteria.setId(ascending ? Filter.gt(token.afterKey()) : Filter.lt(token.afterKey()));
+        } else if (ascending) {
+            idFilter.setGt(token.afterKey());
+        } else {
+            idFilter.setLt(token.afterKey());
+        }
+    }
+
+    /**
+     * Stream the DTOs matching the criteria. With a {@link #getStreamWindowSize()} above 1, domains are grouped
+     * into windows (closed by size or by {@link #getStreamWindowTimeout()}), each window is mapped in one task and
+     * postGet/afterGet run once per window before its DTOs are emitted in order. Elements (or windows) are mapped
+     * with up to {@link #getMappingConcurrency()} tasks in flight, hooks still run one element (or window) at a time.
+     */
     default Flux<@NonNull DTO> doGetStream(C criteria, USER user) throws DomainNotFoundException, BadRequestException {
-        return beforeGet(criteria, user)
-                .thenMany(this.preGet(criteria, user))
-                .thenMany(this.getRepository().getMany(criteria))
-                .concatMap(domain -> convertDomainToDto(domain, user)
-                        .flatMap(dto -> {
-                            Collection<DTO> dtos = Collections.singleton(dto);
-                            Collection<ID> ids = Collections.singleton(domain.getId());
-                            return postGet(ids, dtos, criteria, user)
-                                    .then(afterGet(ids, dtos, criteria, user))
-                                    .thenReturn(dto);
-                        })
-                );
+        Flux<D> domains = beforeGet(criteria, user)
+                .thenMany(phase(CrudPhase.PRE, this.preGet(criteria, user)))
+                .thenMany(phase(CrudPhase.REPOSITORY, this.getRepository().getMany(criteria)));
+
+        int windowSize = getStreamWindowSize();
+        if (windowSize <= 1) {
+            return measured("getStream", orderedMap(domains, domain -> convertDomainToDto(domain, user))
+                    .concatMap(dto -> {
+                        Collection<DTO> dtos = Collections.singleton(dto);
+                        Collection<ID> ids = Collections.singleton(dto.getId());
+                        return phase(CrudPhase.POST, postGet(ids, dtos, criteria, user))
+                                .then(afterGet(ids, dtos, criteria, user))
+                                .thenReturn(dto);
+                    }));
+        }
+        return measured("getStream", orderedMap(domains.bufferTimeout(windowSize, getStreamWindowTimeout()),
+                window -> runMapping(() -> window.stream().map(domain -> toDto(domain, user)).toList()))
+                .concatMap(dtos -> {
+                    Collection<ID> ids = prepareIds(dtos);
+                    return phase(CrudPhase.POST, postGet(ids, dtos, criteria, user))
+                            .then(afterGet(ids, dtos, criteria, user))
+                            .thenReturn(dtos);
+                })
+                .flatMapIterable(Function.identity()));
     }
 
     default Mono<@NonNull ID> doDelete(C criteria, USER user) throws DomainNotFoundException, BadRequestException {
-        return beforeDelete(criteria, user)
+        return measured("delete", beforeDelete(criteria, user)
                 .then(doGetOne(criteria, user))
-                .flatMap(dto -> this.preDelete(criteria, user).thenReturn(dto))
+                .flatMap(dto -> phase(CrudPhase.PRE, this.preDelete(criteria, user)).thenReturn(dto))
                 .flatMap(dto -> Mono.defer(() -> {
                     C criteriaId = CriteriaUtil.idCriteria(getCriteriaClass(), dto.getId());
-                    return this.getRepository().removeOne(criteriaId).thenReturn(dto);
+                    return phase(CrudPhase.REPOSITORY, this.getRepository().removeOne(criteriaId)).doOnSuccess(removed -> invalidateCaches(List.of(dto.getId()))).thenReturn(dto);
                 }))
-                .flatMap(deletedDto -> this.postDelete(deletedDto, criteria, user).thenReturn(deletedDto))
+                .flatMap(deletedDto -> phase(CrudPhase.POST, this.postDelete(deletedDto, criteria, user)).thenReturn(deletedDto))
                 .flatMap(deletedDto -> afterDelete(deletedDto, criteria, user).thenReturn(deletedDto))
-                .map(BaseElementDto::getId);
+                .map(BaseElementDto::getId));
     }
 
+    /**
+     * Delete every entity matching the criteria in chunks of {@link #getWriteBatchSize()} ids, each chunk removed
+     * with a single id-in remove. As for doDelete, preDelete runs once per entity, before its chunk is removed;
+     * postDelete and afterDelete run per deleted DTO.
+     * DTOs are only materialized (with the get-side hooks) when {@link #isDeleteDtoRequired()} says a hook needs them.
+     */
     default Mono<@NonNull Collection<ID>> doDeleteMany(C criteria, USER user) throws DomainNotFoundException, BadRequestException {
-        return beforeDelete(criteria, user)
-                .thenMany(doGetStream(criteria, user))
-                .concatMap(dto -> this.preDelete(criteria, user)
-                        .then(Mono.defer(() -> {
-                            C criteriaId = CriteriaUtil.idCriteria(getCriteriaClass(), dto.getId());
-                            return this.getRepository().removeOne(criteriaId).thenReturn(dto);
-                        }))
-                        .flatMap(deletedDto -> this.postDelete(deletedDto, criteria, user).thenReturn(deletedDto))
-                        .flatMap(deletedDto -> afterDelete(deletedDto, criteria, user).thenReturn(deletedDto))
-                )
-                .map(BaseElementDto::getId)
+        Flux<List<ID>> deletedIds;
+        if (isDeleteDtoRequired()) {
+            deletedIds = beforeDelete(criteria, user)
+                    .thenMany(doGetStream(criteria, user))
+                    .buffer(getWriteBatchSize())
+                    .concatMap(dtos -> deleteChunk(prepareIds(dtos), dtos, criteria, user));
+        } else {
+            deletedIds = beforeDelete(criteria, user)
+                    .thenMany(findIds(criteria, user))
+                    .buffer(getWriteBatchSize())
+                    .concatMap(ids -> deleteChunk(ids, List.of(), criteria, user));
+        }
+        return measured("deleteMany", deletedIds
+                .flatMapIterable(Function.identity())
                 .collectList()
-                .map(ArrayList::new);
+                .map(ArrayList::new));
     }
 
+    /**
+     * The ids of the entities matching the criteria, after beforeGet/preGet, without mapping them to DTOs.
+     */
+    private Flux<ID> findIds(C criteria, USER user) {
+        return beforeGet(criteria, user)
+                .then(phase(CrudPhase.PRE, this.preGet(criteria, user)))
+                .thenMany(phase(CrudPhase.REPOSITORY, this.getRepository().getMany(criteria)))
+                .map(BaseElement::getId);
+    }
+
+    private Mono<List<ID>> deleteChunk(List<ID> ids, Collection<DTO> dtos, C criteria, USER user) {
+        return Flux.fromIterable(ids)
+                .concatMap(id -> phase(CrudPhase.PRE, this.preDelete(criteria, user)))
+                .then(Mono.defer(() -> {
+                    C criteriaIds = CriteriaUtil.idCriteria(getCriteriaClass(), ids);
+                    return phase(CrudPhase.REPOSITORY, this.getRepository().removeMany(criteriaIds)).then().doOnSuccess(v -> invalidateCaches(ids));
+                }))
+                .thenMany(Flux.fromIterable(dtos))
+                .concatMap(deletedDto -> phase(CrudPhase.POST, this.postDelete(deletedDto, criteria, user))
+                        .then(afterDelete(deletedDto, criteria, user)))
+                .then(Mono.just(ids));
+    }
+
+    /**
+     * Edit the entity matching the criteria with a JSON patch. The patch is compiled once; when it can be pushed
+     * down (see {@link #isPatchPushDownEnabled()}) the entity is looked up with doGetOne, so the get hooks run as
+     * when it is read to be patched, then updated by id on the server and read back; otherwise it is read, patched
+     * and updated.
+     */
     default Mono<@NonNull DTO> doEdit(C criteria, JsonPatch jsonPatch, USER user) throws BadRequestException, DomainNotFoundException {
-        return doGetOne(criteria, user)
-                .flatMap(dto ->
-                        Mono.zip(
-                                        runBlocking(() -> SerializationUtils.clone(dto)),
-                                        runBlocking(() -> applyJsonPatch(jsonPatch, dto, getObjectMapper()))
-                                )
-                                .flatMap(tuple -> doUpdate(tuple.getT1(), tuple.getT2(), user))
-                );
+        CompiledJsonPatch compiledJsonPatch = CompiledJsonPatch.compile(jsonPatch, getObjectMapper());
+        FieldUpdate fieldUpdate = pushDownFieldUpdate(compiledJsonPatch);
+        if (fieldUpdate != null) {
+            return measured("edit", doGetOne(criteria, user)
+                    .map(BaseElementDto::getId)
+                    .flatMap(id -> pushDownPatch(List.of(id), fieldUpdate)
+                            .then(phase(CrudPhase.READ_BACK, doGetOne(CriteriaUtil.idCriteria(getCriteriaClass(), id), user)))));
+        }
+        return measured("edit", doGetOne(criteria, user)
+                .flatMap(dto -> runMapping(() -> applyJsonPatch(compiledJsonPatch, dto, getObjectMapper())))
+                .flatMap(patchedDto -> doUpdate(patchedDto.previous(), patchedDto.patched(), user)));
     }
 
+    /**
+     * Edit every entity matching the criteria with a JSON patch. The patch is compiled once for all entities; when
+     * it can be pushed down the matching entities are looked up with doGetMany and their ids updated on the server
+     * in chunks of {@link #getWriteBatchSize()} and read back, otherwise every entity is read, patched and updated.
+     */
     default Mono<@NonNull Collection<DTO>> doEditMany(C criteria, JsonPatch jsonPatch, USER user) throws BadRequestException, DomainNotFoundException {
-        return doGetMany(criteria, user)
-                .flatMap(dtos ->
-                        Mono.zip(
-                                        runBlocking(() -> dtos.stream().map(SerializationUtils::clone).toList()),
-                                        runBlocking(() -> applyJsonPatch(dtos, jsonPatch, getObjectMapper()))
-                                )
-                                .flatMap(tuple -> doUpdateMany(tuple.getT1(), tuple.getT2(), user))
-                );
+        CompiledJsonPatch compiledJsonPatch = CompiledJsonPatch.compile(jsonPatch, getObjectMapper());
+        FieldUpdate fieldUpdate = pushDownFieldUpdate(compiledJsonPatch);
+        if (fieldUpdate != null) {
+            return measured("editMany", doGetMany(criteria, user)
+                    .flatMapIterable(this::prepareIds)
+                    .buffer(getWriteBatchSize())
+                    .concatMap(ids -> pushDownPatch(ids, fieldUpdate)
+                            .then(phase(CrudPhase.READ_BACK, doGetMany(CriteriaUtil.idCriteria(getCriteriaClass(), ids), user))))
+                    .flatMapIterable(Function.identity())
+                    .collectList()
+                    .map(ArrayList::new));
+        }
+        return measured("editMany", doGetMany(criteria, user)
+                .flatMap(dtos -> runMapping(() -> applyJsonPatch(dtos, compiledJsonPatch, getObjectMapper())))
+                .flatMap(patchedDtos -> doUpdateMany(
+                        patchedDtos.stream().map(PatchedDto::previous).toList(),
+                        patchedDtos.stream().map(PatchedDto::patched).toList(),
+                        user)));
+    }
+
+    /**
+     * The field update to push the patch down with, or null if it has to be read, patched and updated.
+     */
+    private FieldUpdate pushDownFieldUpdate(CompiledJsonPatch compiledJsonPatch) {
+        if (!isPatchPushDownEnabled()
+                || !compiledJsonPatch.isPushDownable()
+                || !(getRepository() instanceof BasePatchReactiveRepository<?, ?>)
+                || ReactiveLifecycleOperationComponent.isOverridden(this, "preUpdate", BaseReactiveService.class)
+                || ReactiveLifecycleOperationComponent.isOverridden(this, "postUpdate", BaseReactiveService.class)
+                || getReactiveLifecycleOperationComponent().hasHook(LifecyclePhase.BEFORE_UPDATE, getDomainLifecycleOperation())
+                || getReactiveLifecycleOperationComponent().hasHook(LifecyclePhase.AFTER_UPDATE, getDomainLifecycleOperation())) {
+            return null;
+        }
+        return compiledJsonPatch.toFieldUpdate(getObjectMapper(), getDomainClass());
+    }
+
+    @SuppressWarnings("unchecked")
+    private Mono<@NonNull Long> pushDownPatch(List<ID> ids, FieldUpdate fieldUpdate) {
+        return phase(CrudPhase.REPOSITORY, Mono.defer(() -> ((BasePatchReactiveRepository<ID, C>) getRepository())
+                .patchMany(CriteriaUtil.idCriteria(getCriteriaClass(), ids), fieldUpdate)))
+                .doOnSuccess(count -> invalidateCaches(ids));
     }
 
     default Mono<@NonNull DTO> doSave(DTO dto, USER user) {
-        return safeSave(dto, user).switchIfEmpty(save(dto, user));
+        return doSave(dto, user, isReturnWritten());
     }
 
-    private Mono<@NonNull DTO> save(DTO dto, USER user) {
+    /**
+     * Save a DTO. When {@code returnWritten} is true the response DTO is mapped from the inserted domain,
+     * otherwise it is re-read through {@link #doGetOne(BaseElementCriteria, BaseUser)}.
+     */
+    default Mono<@NonNull DTO> doSave(DTO dto, USER user, boolean returnWritten) {
+        return measured("save", safeSave(dto, user).switchIfEmpty(save(dto, user, returnWritten)));
+    }
+
+    private Mono<@NonNull DTO> save(DTO dto, USER user, boolean returnWritten) {
         return beforeSave(dto, user)
-                .then(this.preSave(dto, user))
+                .then(phase(CrudPhase.PRE, this.preSave(dto, user)))
                 .then(toDomainAsync(dto, user)
-                        .flatMap(domain -> this.getRepository().insertOne(domain))
+                        .flatMap(domain -> phase(CrudPhase.REPOSITORY, this.getRepository().insertOne(domain)))
+                        .doOnSuccess(savedDomain -> {
+                            invalidateCaches(List.of());
+                            recordIdempotencyKey(dto);
+                        })
                 )
-                .flatMap(savedDomain -> this.postSave(dto, savedDomain, user).thenReturn(savedDomain))
-                .flatMap(savedDomain -> doGetOne(CriteriaUtil.idCriteria(getCriteriaClass(), savedDomain.getId()), user))
+                .flatMap(savedDomain -> phase(CrudPhase.POST, this.postSave(dto, savedDomain, user)).thenReturn(savedDomain))
+                .flatMap(savedDomain -> writtenDto(savedDomain, user, returnWritten))
                 .flatMap(savedDto -> afterSave(dto, savedDto, user).thenReturn(savedDto));
     }
 
+    /**
+     * Save a collection of DTOs in chunks of {@link #getWriteBatchSize()}, each chunk written with a single
+     * multi-document insert. Lifecycle hooks still run for every DTO. The saved DTOs are mapped from the inserted
+     * domains when {@link #isReturnWritten()}, otherwise each chunk is re-read with one id-in query instead of one
+     * read per DTO. Result order follows the input order.
+     */
+    default Mono<@NonNull Collection<DTO>> doSaveMany(Collection<DTO> dtos, USER user) {
+        return measured("saveMany", Flux.fromIterable(dtos)
+                .buffer(getWriteBatchSize())
+                .flatMapSequential(chunk -> saveChunk(chunk, user), getWriteBatchConcurrency())
+                .flatMapIterable(Function.identity())
+                .collectList()
+                .map(ArrayList::new));
+    }
+
+    /**
+     * Save one chunk. For {@link SafeSave} domains the idempotency keys of the whole chunk are resolved with a
+     * single query, keys the {@link #getIdempotencyKeyFilter()} reports as certainly new are not looked up, and
+     * DTOs repeating a key of the same chunk resolve to the DTO saved for its first occurrence.
+     */
+    private Mono<List<DTO>> saveChunk(List<DTO> dtos, USER user) {
+        if (!SafeSave.info.hasAnnotation(getDtoClass())) {
+            return insertChunk(dtos, user);
+        }
+        IdempotencyKeyFilter filter = getIdempotencyKeyFilter();
+        List<String> keys = dtos.stream().map(dto -> IdempotencyKeyUtil.idempotencyKey(getDtoClass(), dto)).toList();
+        List<String> lookupKeys = keys.stream()
+                .distinct()
+                .filter(key -> filter == null || filter.mightContain(key))
+                .toList();
+        return findByIdempotencyKeys(lookupKeys, user)
+                .flatMap(existingDtos -> {
+                    List<DTO> newDtos = new ArrayList<>();
+                    Map<String, Integer> newDtoIndexes = new HashMap<>();
+                    for (int i = 0; i < dtos.size(); i++) {
+                        String key = keys.get(i);
+                        if (!existingDtos.containsKey(key) && !newDtoIndexes.containsKey(key)) {
+                            newDtoIndexes.put(key, newDtos.size());
+                            newDtos.add(dtos.get(i));
+                        }
+                    }
+                    return insertChunk(newDtos, user).map(savedDtos -> {
+                        if (filter != null) {
+                            newDtoIndexes.keySet().forEach(filter::put);
+                        }
+                        return keys.stream()
+                                .map(key -> existingDtos.containsKey(key)
+                                        ? existingDtos.get(key)
+                                        : savedDtos.get(newDtoIndexes.get(key)))
+                                .toList();
+                    });
+                });
+    }
+
+    private Mono<Map<String, DTO>> findByIdempotencyKeys(List<String> keys, USER user) {
+        if (keys.isEmpty()) {
+            return Mono.just(Map.of());
+        }
+        C criteria = CriteriaUtil.uniqueCriteria(getCriteriaClass(), keys);
+        return this.doGetMany(criteria, user)
+                .map(existingDtos -> {
+                    Map<String, DTO> byKey = new HashMap<>();
+                    existingDtos.forEach(dto -> byKey.putIfAbsent(IdempotencyKeyUtil.idempotencyKey(getDtoClass(), dto), dto));
+                    return byKey;
+                });
+    }
+
+    private Mono<List<DTO>> insertChunk(List<DTO> dtos, USER user) {
+        if (dtos.isEmpty()) {
+            return Mono.just(List.of());
+        }
+        return Flux.fromIterable(dtos)
+                .concatMap(dto -> beforeSave(dto, user).then(phase(CrudPhase.PRE, this.preSave(dto, user))))
+                .then(runMapping(() -> dtos.stream().map(dto -> toDomain(dto, user)).toList()))
+                .flatMapMany(domains -> phase(CrudPhase.REPOSITORY, this.getRepository().insertMany(domains)))
+                .doOnComplete(() -> invalidateCaches(List.of()))
+                .collectList()
+                .flatMap(savedDomains -> Flux.range(0, savedDomains.size())
+                        .concatMap(i -> phase(CrudPhase.POST, this.postSave(dtos.get(i), savedDomains.get(i), user)))
+                        .then(writtenDtos(savedDomains, user))
+                        .flatMap(savedDtos -> Flux.range(0, savedDtos.size())
+                                .concatMap(i -> afterSave(dtos.get(i), savedDtos.get(i), user))
+                                .then(Mono.just(savedDtos))));
+    }
+
     private Mono<@NonNull DTO> safeSave(DTO dto, USER user) {
         if (SafeSave.info.hasAnnotation(getDtoClass())) {
             String idempotencyKey = IdempotencyKeyUtil.idempotencyKey(getDtoClass(), dto);
+            IdempotencyKeyFilter filter = getIdempotencyKeyFilter();
+            if (filter != null && !filter.mightContain(idempotencyKey)) {
+                return Mono.empty();
+            }
             C criteria = CriteriaUtil.uniqueCriteria(getCriteriaClass(), idempotencyKey);
             return this.doGetOne(criteria, user);
         }
         return Mono.empty();
     }
 
+    private void recordIdempotencyKey(DTO dto) {
+        IdempotencyKeyFilter filter = getIdempotencyKeyFilter();
+        if (filter != null && SafeSave.info.hasAnnotation(getDtoClass())) {
+            filter.put(IdempotencyKeyUtil.idempotencyKey(getDtoClass(), dto));
+        }
+    }
+
     default Mono<@NonNull DTO> doUpdate(DTO previousDto, @Valid DTO dto, USER user) throws BadRequestException, ValidationException, DomainNotFoundException {
-        return beforeUpdate(previousDto, dto, user)
-                .then(this.preUpdate(dto, user))
-                .then(toDomainAsync(dto, user).flatMap(domain -> this.getRepository().updateOne(domain)))
-                .flatMap(updatedDomain -> this.postUpdate(dto, updatedDomain, user).thenReturn(updatedDomain))
-                .flatMap(updatedDomain -> doGetOne(CriteriaUtil.idCriteria(getCriteriaClass(), updatedDomain.getId()), user))
-                .flatMap(updatedDto -> afterUpdate(previousDto, updatedDto, user).thenReturn(updatedDto));
+        return doUpdate(previousDto, dto, user, isReturnWritten());
     }
 
-    // ---------------------------
-    // Helper wrappers: keep blocking off the event-loop & simplify main flows
-    // ---------------------------
+    /**
+     * Update a DTO. When {@code returnWritten} is true the response DTO is mapped from the updated domain,
+     * otherwise it is re-read through {@link #doGetOne(BaseElementCriteria, BaseUser)}.
+     */
+    default Mono<@NonNull DTO> doUpdate(DTO previousDto, @Valid DTO dto, USER user, boolean returnWritten) throws BadRequestException, ValidationException, DomainNotFoundException {
+        return measured("update", beforeUpdate(previousDto, dto, user)
+                .then(phase(CrudPhase.PRE, this.preUpdate(dto, user)))
+                .then(toDomainAsync(dto, user).flatMap(domain -> phase(CrudPhase.REPOSITORY, this.getRepository().updateOne(domain))))
+                .doOnSuccess(updatedDomain -> invalidateCaches(List.of(dto.getId())))
+                .flatMap(updatedDomain -> phase(CrudPhase.POST, this.postUpdate(dto, updatedDomain, user)).thenReturn(updatedDomain))
+                .flatMap(updatedDomain -> writtenDto(updatedDomain, user, returnWritten))
+                .flatMap(updatedDto -> afterUpdate(previousDto, updatedDto, user).thenReturn(updatedDto)));
+    }
 
     default Mono<@NonNull DTO> doUpdate(@Valid DTO dto, USER user) {
         return doGetOne(CriteriaUtil.idCriteria(getCriteriaClass(), dto.getId()), user)
                 .flatMap(previousDto -> this.doUpdate(previousDto, dto, user));
     }
 
+    /**
+     * Update a collection of DTOs in chunks of {@link #getWriteBatchSize()}, each chunk written with a single
+     * bulk repository update. Previous DTOs are looked up by id and lifecycle hooks run phase by phase for the
+     * whole chunk, pairing the updated domains with their DTOs by id. The updated DTOs are mapped from the written
+     * domains when {@link #isReturnWritten()}, otherwise each chunk is re-read with one id-in query instead of one
+     * read per DTO. Result order follows the input order.
+     */
     default Mono<@NonNull Collection<DTO>> doUpdateMany(Collection<DTO> previousDtos, Collection<@Valid DTO> dtos, USER user) {
+        Map<ID, DTO> previousDtosById = indexById(previousDtos);
+        return measured("updateMany", Flux.fromIterable(dtos)
+                .buffer(getWriteBatchSize())
+                .flatMapSequential(chunk -> updateChunk(previousDtosById, chunk, user), getWriteBatchConcurrency())
+                .flatMapIterable(Function.identity())
+                .collectList()
+                .map(ArrayList::new));
+    }
+
+    private Mono<List<DTO>> updateChunk(Map<ID, DTO> previousDtosById, List<DTO> dtos, USER user) {
+        List<ID> ids = prepareIds(dtos);
         return Flux.fromIterable(dtos)
-                .concatMap(dto -> findPreviousDto(previousDtos, dto.getId()).flatMap(prev -> doUpdate(prev, dto, user)))
+                .concatMap(dto -> findPreviousDto(previousDtosById, dto.getId())
+                        .flatMap(previousDto -> beforeUpdate(previousDto, dto, user)
+                                .then(phase(CrudPhase.PRE, this.preUpdate(dto, user)))))
+                .then(runMapping(() -> dtos.stream().map(dto -> toDomain(dto, user)).toList()))
+                .flatMapMany(domains -> phase(CrudPhase.REPOSITORY, this.getRepository().updateMany(domains)))
+                .doOnComplete(() -> invalidateCaches(ids))
                 .collectList()
-                .map(ArrayList::new);
+                .flatMap(updatedDomains -> inIdOrder(ids, updatedDomains, BaseElement::getId))
+                .flatMap(updatedDomains -> Flux.range(0, updatedDomains.size())
+                        .concatMap(i -> phase(CrudPhase.POST, this.postUpdate(dtos.get(i), updatedDomains.get(i), user)))
+                        .then(writtenDtos(updatedDomains, user))
+                        .flatMap(updatedDtos -> Flux.range(0, updatedDtos.size())
+                                .concatMap(i -> afterUpdate(previousDtosById.get(ids.get(i)), updatedDtos.get(i), user))
+                                .then(Mono.just(updatedDtos))));
+    }
+
+    // ---------------------------
+    // Helper wrappers: run mappings per the mapping strategy, measure operations and phases
+    // ---------------------------
+
+    /**
+     * Run a mapping task according to {@link #getMappingStrategy()}, recording its execution time and,
+     * when it hops to a scheduler, the time it waited for a thread.
+     */
+    private <T> Mono<T> runMapping(Callable<T> mapping) {
+        MappingStrategy strategy = getMappingStrategy();
+        String service = CrudMetrics.serviceName(this);
+        Timer timer = CrudMetrics.mappingTimer(service, strategy.name());
+        Scheduler scheduler = strategy.getScheduler();
+        if (scheduler == null) {
+            return phase(CrudPhase.MAPPING, Mono.fromCallable(() -> timer.recordCallable(mapping)));
+        }
+        return phase(CrudPhase.MAPPING, Mono.defer(() -> {
+            long subscribedAt = System.nanoTime();
+            return Mono.fromCallable(() -> {
+                CrudMetrics.recordMappingWait(service, strategy.name(), System.nanoTime() - subscribedAt);
+                return timer.recordCallable(mapping);
+            }).subscribeOn(scheduler);
+        }));
     }
 
     /**
-     * Convert domain -> DTO off the event-loop.
+     * Map each element with up to {@link #getMappingConcurrency()} mappings in flight, emitting results in source order.
+     */
+    private <T, V> Flux<V> orderedMap(Flux<T> source, Function<T, Mono<V>> mapper) {
+        int concurrency = getMappingConcurrency();
+        if (concurrency <= 1) {
+            return source.concatMap(mapper);
+        }
+        return source.flatMapSequential(mapper, concurrency, getMappingPrefetch());
+    }
+
+    /**
+     * Time an operation's phases with {@link CrudPhaseMetrics}, sampled per subscription at
+     * {@link #getPhaseMetricsSampleRate()}. The sampled scope travels in the Reactor context, so nested operations
+     * (e.g. the read-back doGetOne of a save) time their own phases under their own name.
+     */
+    private <T> Mono<T> measured(String operation, Mono<T> mono) {
+        double sampleRate = getPhaseMetricsSampleRate();
+        if (sampleRate <= 0) {
+            return mono;
+        }
+        return mono.contextWrite(context -> phaseScope(context, operation, sampleRate));
+    }
+
+    private <T> Flux<T> measured(String operation, Flux<T> flux) {
+        double sampleRate = getPhaseMetricsSampleRate();
+        if (sampleRate <= 0) {
+            return flux;
+        }
+        return flux.contextWrite(context -> phaseScope(context, operation, sampleRate));
+    }
+
+    private Context phaseScope(Context context, String operation, double sampleRate) {
+        CrudPhaseMetrics.Scope scope = CrudPhaseMetrics.start(CrudMetrics.serviceName(this), getDtoClass().getSimpleName(), operation, sampleRate);
+        return scope == null ? context.delete(CrudPhaseMetrics.Scope.class) : context.put(CrudPhaseMetrics.Scope.class, scope);
+    }
+
+    /**
+     * Time a phase of the current operation, if it is sampled. With the phase timers off the Mono is returned as is.
+     */
+    private <T> Mono<T> phase(CrudPhase phase, Mono<T> mono) {
+        if (getPhaseMetricsSampleRate() <= 0) {
+            return mono;
+        }
+        return Mono.deferContextual(context -> {
+            CrudPhaseMetrics.Scope scope = context.getOrDefault(CrudPhaseMetrics.Scope.class, null);
+            if (scope == null) {
+                return mono;
+            }
+            long start = System.nanoTime();
+            return mono.doFinally(signal -> CrudPhaseMetrics.record(scope, phase, outcome(signal), System.nanoTime() - start));
+        });
+    }
+
+    private <T> Flux<T> phase(CrudPhase phase, Flux<T> flux) {
+        if (getPhaseMetricsSampleRate() <= 0) {
+            return flux;
+        }
+        return Flux.deferContextual(context -> {
+            CrudPhaseMetrics.Scope scope = context.getOrDefault(CrudPhaseMetrics.Scope.class, null);
+            if (scope == null) {
+                return flux;
+            }
+            long start = System.nanoTime();
+            return flux.doFinally(signal -> CrudPhaseMetrics.record(scope, phase, outcome(signal), System.nanoTime() - start));
+        });
+    }
+
+    private static String outcome(SignalType signal) {
+        return switch (signal) {
+            case ON_ERROR -> CrudPhaseMetrics.ERROR;
+            case CANCEL -> CrudPhaseMetrics.CANCEL;
+            default -> CrudPhaseMetrics.SUCCESS;
+        };
+    }
+
+    /**
+     * Convert domain -> DTO according to the mapping strategy.
      */
     private Mono<DTO> convertDomainToDto(D domain, USER user) {
-        return Mono.fromCallable(() -> toDto(domain, user)).subscribeOn(Schedulers.boundedElastic());
+        return runMapping(() -> toDto(domain, user));
     }
 
     /**
-     * Convert DTO -> domain off the event-loop.
+     * Convert DTO -> domain according to the mapping strategy.
      */
     private Mono<D> toDomainAsync(DTO dto, USER user) {
-        return Mono.fromCallable(() -> toDomain(dto, user)).subscribeOn(Schedulers.boundedElastic());
+        return runMapping(() -> toDomain(dto, user));
     }
 
     /**
-     * Find previous DTO by id from collection as a reactive Mono.
+     * Build the response DTO of a write, either straight from the written domain or by re-reading it
+     * (which also runs the get-side hook chain).
+     */
+    private Mono<DTO> writtenDto(D domain, USER user, boolean returnWritten) {
+        if (returnWritten) {
+            return convertDomainToDto(domain, user);
+        }
+        return phase(CrudPhase.READ_BACK, doGetOne(CriteriaUtil.idCriteria(getCriteriaClass(), domain.getId()), user));
+    }
+
+    /**
+     * Build the response DTOs of a chunk write, in the order of the written domains, either straight from them or by
+     * re-reading the chunk with one id-in {@link #doGetMany(BaseElementCriteria, BaseUser)} (which also runs the
+     * get-side hook chain).
+     */
+    private Mono<List<DTO>> writtenDtos(List<D> domains, USER user) {
+        if (isReturnWritten()) {
+            return runMapping(() -> domains.stream().map(domain -> toDto(domain, user)).toList());
+        }
+        List<ID> ids = domains.stream().map(BaseElement::getId).toList();
+        return phase(CrudPhase.READ_BACK, doGetMany(CriteriaUtil.idCriteria(getCriteriaClass(), ids), user))
+                .flatMap(readDtos -> inIdOrder(ids, readDtos, BaseElementDto::getId));
+    }
+
+    /**
+     * Put written entities in the order of the given ids, failing with a DomainNotFoundException if one is missing.
+     * Repositories and id-in reads do not guarantee the order of their input.
+     */
+    private <T> Mono<List<T>> inIdOrder(List<ID> ids, Collection<T> written, Function<T, ID> idOf) {
+        Map<ID, T> writtenById = new HashMap<>();
+        written.forEach(entity -> writtenById.putIfAbsent(idOf.apply(entity), entity));
+        return Flux.fromIterable(ids)
+                .concatMap(id -> Mono.justOrEmpty(writtenById.get(id))
+                        .switchIfEmpty(Mono.error(new DomainNotFoundException("written entity not found for id: " + id))))
+                .collectList();
+    }
+
+    /**
+     * Find previous DTO by id from the id index as a reactive Mono.
      * If not found, returns a DomainNotFoundException wrapped in Mono.error.
      */
-    private Mono<DTO> findPreviousDto(Collection<DTO> previousDtos, ID id) {
-        return Mono.justOrEmpty(previousDtos.stream().filter(pd -> pd.getId().equals(id)).findFirst())
+    private Mono<DTO> findPreviousDto(Map<ID, DTO> previousDtosById, ID id) {
+        return Mono.justOrEmpty(previousDtosById.get(id))
                 .switchIfEmpty(Mono.error(new DomainNotFoundException("previous dto not found for id: " + id)));
     }
 
+    private Map<ID, DTO> indexById(Collection<DTO> dtos) {
+        Map<ID, DTO> dtosById = new HashMap<>();
+        dtos.forEach(dto -> dtosById.putIfAbsent(dto.getId(), dto));
+        return dtosById;
+    }
+
     // ---------------------------
     // Small helpers to call LifecycleOperationComponent for readability
     // ---------------------------
 
     private Mono<Void> beforeCount(C criteria, USER user) {
-        return getReactiveLifecycleOperationComponent().beforeCount(criteria, user, getDomainLifecycleOperation());
+        return phase(CrudPhase.BEFORE, getReactiveLifecycleOperationComponent().beforeCount(criteria, user, getDomainLifecycleOperation()));
     }
 
     private Mono<Void> afterCount(C criteria, USER user) {
-        return getReactiveLifecycleOperationComponent().afterCount(criteria, user, getDomainLifecycleOperation());
+        return phase(CrudPhase.AFTER, getReactiveLifecycleOperationComponent().afterCount(criteria, user, getDomainLifecycleOperation()));
     }
 
     private Mono<Void> beforeGet(C criteria, USER user) {
-        return getReactiveLifecycleOperationComponent().beforeGet(criteria, user, getDomainLifecycleOperation());
+        return phase(CrudPhase.BEFORE, getReactiveLifecycleOperationComponent().beforeGet(criteria, user, getDomainLifecycleOperation()));
     }
 
     private Mono<Void> afterGet(Collection<ID> ids, Collection<DTO> dtos, C criteria, USER user) {
-        return getReactiveLifecycleOperationComponent().afterGet(ids, dtos, criteria, user, getDomainLifecycleOperation());
+        return phase(CrudPhase.AFTER, getReactiveLifecycleOperationComponent().afterGet(ids, dtos, criteria, user, getDomainLifecycleOperation()));
     }
 
     private Mono<Void> beforeSave(DTO dto, USER user) {
-        return getReactiveLifecycleOperationComponent().beforeSave(dto, user, getDomainLifecycleOperation());
+        return phase(CrudPhase.BEFORE, getReactiveLifecycleOperationComponent().beforeSave(dto, user, getDomainLifecycleOperation()));
     }
 
     private Mono<Void> afterSave(DTO dto, DTO savedDto, USER user) {
-        return getReactiveLifecycleOperationComponent().afterSave(dto, savedDto, user, getDomainLifecycleOperation());
+        return phase(CrudPhase.AFTER, getReactiveLifecycleOperationComponent().afterSave(dto, savedDto, user, getDomainLifecycleOperation()));
     }
 
     private Mono<Void> beforeUpdate(DTO previousDto, DTO dto, USER user) {
-        return getReactiveLifecycleOperationComponent().beforeUpdate(previousDto, dto, user, getDomainLifecycleOperation());
+        return phase(CrudPhase.BEFORE, getReactiveLifecycleOperationComponent().beforeUpdate(previousDto, dto, user, getDomainLifecycleOperation()));
     }
 
     private Mono<Void> afterUpdate(DTO previousDto, DTO updatedDto, USER user) {
-        return getReactiveLifecycleOperationComponent().afterUpdate(previousDto, updatedDto, user, getDomainLifecycleOperation());
+        return phase(CrudPhase.AFTER, getReactiveLifecycleOperationComponent().afterUpdate(previousDto, updatedDto, user, getDomainLifecycleOperation()));
     }
 
     private Mono<Void> beforeDelete(C criteria, USER user) {
-        return getReactiveLifecycleOperationComponent().beforeDelete(criteria, user, getDomainLifecycleOperation());
+        return phase(CrudPhase.BEFORE, getReactiveLifecycleOperationComponent().beforeDelete(criteria, user, getDomainLifecycleOperation()));
     }
 
     private Mono<Void> afterDelete(DTO dto, C criteria, USER user) {
-        return getReactiveLifecycleOperationComponent().afterDelete(dto, criteria, user, getDomainLifecycleOperation());
+        return phase(CrudPhase.AFTER, getReactiveLifecycleOperationComponent().afterDelete(dto, criteria, user, getDomainLifecycleOperation()));
     }
 
     // ---------------------------
-    // JSON patch helpers (unchanged behavior but callable from async wrappers)
+    // JSON patch helpers
     // ---------------------------
 
-    private Collection<DTO> applyJsonPatch(Collection<DTO> dtos, JsonPatch jsonPatch, ObjectMapper objectMapper) {
+    private List<PatchedDto<DTO>> applyJsonPatch(Collection<DTO> dtos, CompiledJsonPatch jsonPatch, ObjectMapper objectMapper) {
         return dtos.stream()
                 .map(dto -> applyJsonPatch(jsonPatch, dto, objectMapper))
                 .toList();
     }
 
-    @SneakyThrows
-    private DTO applyJsonPatch(JsonPatch jsonPatch, DTO dto, ObjectMapper objectMapper) {
-        JsonNode patched = jsonPatch.apply(objectMapper.convertValue(dto, JsonNode.class));
-        return (DTO) objectMapper.treeToValue(patched, dto.getClass());
+    private PatchedDto<DTO> applyJsonPatch(CompiledJsonPatch jsonPatch, DTO dto, ObjectMapper objectMapper) {
+        return JsonPatchUtil.patch(jsonPatch, dto, getDtoCopyStrategy(), this::copyDto, objectMapper);
     }
 
     // ---------------------------
@@ -327,7 +947,204 @@ public interface BaseCrudReactiveService<
 
     ObjectMapper getObjectMapper();
 
-    private Collection<ID> prepareIds(Collection<DTO> domains) {
+    // ---------------------------
+    // Read/write settings (override per service)
+    // ---------------------------
+
+    /**
+     * Where DTO/domain mappings run. Services with cheap in-memory mappings can use {@link MappingStrategy#INLINE}
+     * to avoid a thread hop per mapping; blocking mappings need {@link MappingStrategy#BOUNDED_ELASTIC}.
+     */
+    default MappingStrategy getMappingStrategy() {
+        return MappingStrategy.BOUNDED_ELASTIC;
+    }
+
+    /**
+     * Number of mapping tasks doGetMany and doGetStream keep in flight. Above 1, results keep their order but
+     * CPU-heavy mappings use several cores; pair it with {@link MappingStrategy#PARALLEL}.
+     */
+    default int getMappingConcurrency() {
+        return 1;
+    }
+
+    /**
+     * Number of source elements requested ahead while mapping concurrently.
+     */
+    default int getMappingPrefetch() {
+        return Queues.XS_BUFFER_SIZE;
+    }
+
+    /**
+     * How doEdit/doEditMany keep the previous DTO handed to doUpdate. Defaults to a {@link DtoCopyStrategy#JACKSON}
+     * copy, so hooks may mutate it; {@link DtoCopyStrategy#COPY_ON_WRITE} skips the copy for services whose hooks
+     * leave the previous DTO alone.
+     */
+    default DtoCopyStrategy getDtoCopyStrategy() {
+        return DtoCopyStrategy.JACKSON;
+    }
+
+    /**
+     * Copies a DTO for {@link DtoCopyStrategy#CUSTOM}, e.g. with a generated copier or a copy constructor.
+     */
+    default DTO copyDto(DTO dto) {
+        return SerializationUtils.clone(dto);
+    }
+
+    /**
+     * Whether doEdit/doEditMany may push a JSON patch down to the repository as a single update by id. Patch paths
+     * are DTO property names, as for a read-patch-update edit; a patch is only pushed down when
+     * <ul>
+     *     <li>the repository implements {@link BasePatchReactiveRepository},</li>
+     *     <li>it only adds scalar values to top-level members, the operations that apply to the stored entity exactly
+     *     as to the DTO (see {@link CompiledJsonPatch#isPushDownable()}),</li>
+     *     <li>every path names a scalar property of the domain class too, whose type the value is converted to, and</li>
+     *     <li>neither the service (preUpdate/postUpdate) nor a lifecycle operation (beforeUpdate/afterUpdate) hooks
+     *     into updates.</li>
+     * </ul>
+     * Pushed-down patches skip toDomain and DTO validation, so only enable it when the DTO properties map to the
+     * domain properties of the same name unchanged. Other patches are read, patched and updated.
+     */
+    default boolean isPatchPushDownEnabled() {
+        return false;
+    }
+
+    /**
+     * How doGetPage obtains the total of a page, unless the caller passes its own strategy. With
+     * {@link CountStrategy#ESTIMATED}, countAll also uses the repository's estimated count.
+     */
+    default CountStrategy getCountStrategy() {
+        return CountStrategy.EXACT;
+    }
+
+    /**
+     * How long a count stays cached with {@link CountStrategy#CACHED}. Read when the service's cache is first created.
+     */
+    default Duration getCountCacheTtl() {
+        return Duration.ofSeconds(30);
+    }
+
+    /**
+     * Maximum number of criteria whose counts are cached with {@link CountStrategy#CACHED}. Read when the service's
+     * cache is first created.
+     */
+    default int getCountCacheMaxSize() {
+        return 1000;
+    }
+
+    /**
+     * Maximum number of domains cached by id for doGetOne, 0 to disable the entity cache. Cached domains are shared
+     * between callers, so toDto and the hooks must not modify them. Read when the service's cache is first created.
+     */
+    default int getEntityCacheMaxSize() {
+        return 0;
+    }
+
+    /**
+     * How long a domain stays in the entity cache after it was read, {@link Duration#ZERO} to keep it until it is
+     * evicted or written. This bounds staleness from writes that do not go through this service.
+     */
+    default Duration getEntityCacheTtl() {
+        return Duration.ZERO;
+    }
+
+    /**
+     * Whether concurrent doGetOne/doCount calls of the same user with an equal criteria share one repository call.
+     * The shared domain is handed to every caller's toDto, which must not modify it.
+     */
+    default boolean isReadCoalescingEnabled() {
+        return false;
+    }
+
+    /**
+     * How long doGetOneBatched waits for more ids after the first id of a batch. Read once, when the service's
+     * first batched lookup creates its loader.
+     */
+    default Duration getIdBatchWindow() {
+        return Duration.ofMillis(2);
+    }
+
+    /**
+     * Number of distinct ids that closes a doGetOneBatched batch before its window ends. Read once, when the
+     * service's first batched lookup creates its loader.
+     */
+    default int getIdBatchMaxSize() {
+        return 100;
+    }
+
+    /**
+     * Largest slice doGetSlice returns. Like Spring Data's web max-page-size (2000 by default) for pages, it bounds
+     * what one request can make the repository read.
+     */
+    default int getMaxSliceSize() {
+        return 2000;
+    }
+
+    /**
+     * Whether save and update return the DTO mapped from the written domain instead of re-reading it.
+     * Keep false for services whose postGet/afterGet hooks enrich or filter the returned DTO.
+     */
+    default boolean isReturnWritten() {
+        return false;
+    }
+
+    /**
+     * Whether doDeleteMany has to materialize the deleted DTOs, i.e. the service overrides postDelete or a
+     * registered lifecycle operation overrides afterDelete. Otherwise only ids are collected and removed.
+     */
+    default boolean isDeleteDtoRequired() {
+        return ReactiveLifecycleOperationComponent.isOverridden(this, "postDelete", BaseReactiveService.class)
+                || getReactiveLifecycleOperationComponent().hasAfterDelete(getDomainLifecycleOperation());
+    }
+
+    /**
+     * Number of streamed elements grouped into one window for mapping and postGet/afterGet.
+     * 1 keeps the per-element behavior.
+     */
+    default int getStreamWindowSize() {
+        return 1;
+    }
+
+    /**
+     * Maximum time a stream window waits to fill up before it is emitted.
+     */
+    default Duration getStreamWindowTimeout() {
+        return Duration.ofMillis(100);
+    }
+
+    /**
+     * Maximum number of DTOs sent to the repository in a single multi-document write.
+     */
+    default int getWriteBatchSize() {
+        return 500;
+    }
+
+    /**
+     * Number of write chunks processed concurrently. Keep at 1 when writes run inside a transaction.
+     */
+    default int getWriteBatchConcurrency() {
+        return 1;
+    }
+
+    /**
+     * Fraction of operations whose phases (before, pre, mapping, repository, post, after, read-back) are timed in
+     * {@link CrudPhaseMetrics#NAME}: 1 times every operation, 0 turns the phase timers off and leaves the pipelines
+     * unwrapped. Defaults to 0.1, enough for the phase latency distribution of a busy service while most operations
+     * only pay a context lookup per phase.
+     */
+    default double getPhaseMetricsSampleRate() {
+        return 0.1;
+    }
+
+    /**
+     * Filter of the stored idempotency keys of a {@link SafeSave} domain, or null to always look keys up.
+     * A filter lets saves skip the lookup for keys that are certainly new; see {@link IdempotencyKeyFilter}
+     * for when that is safe.
+     */
+    default IdempotencyKeyFilter getIdempotencyKeyFilter() {
+        return null;
+    }
+
+    private List<ID> prepareIds(Collection<DTO> domains) {
         return domains.stream().map(BaseElementDto::getId).toList();
     }
 }
\ No newline at end of file
@@ -0,0 +1,87 @@
+package ir.msob.jima.crud.reactive.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Counts cached by {@link CountStrategy#CACHED}, per service instance and normalized criteria (the criteria's JSON
+ * tree). Each service keeps at most {@link BaseCrudReactiveService#getCountCacheMaxSize()} counts, evicting the least
+ * recently used; its size and time-to-live are read when its cache is first created. Services are held by identity
+ * and weakly, so two beans of the same class never share counts.
+ * <p>
+ * Every write through the service bumps a generation and drops every count. A count that started before a write
+ * does not populate the cache, so a count taken before the write cannot survive it.
+ */
+final class CountCache {
+    private static final Cache<Object, CountCache> CACHES = Caffeine.newBuilder().weakKeys().build();
+
+    private final Map<JsonNode, Entry> counts;
+    private final long ttlNanos;
+    private long generation;
+
+    private CountCache(int maxSize, Duration ttl) {
+        this.counts = lru(maxSize);
+        this.ttlNanos = ttl.toNanos();
+    }
+
+    static CountCache of(Object service, int maxSize, Duration ttl) {
+        return CACHES.get(service, key -> new CountCache(maxSize, ttl));
+    }
+
+    static void invalidate(Object service) {
+        CountCache countCache = CACHES.getIfPresent(service);
+        if (countCache != null) {
+            countCache.invalidate();
+        }
+    }
+
+    synchronized Long get(JsonNode criteria) {
+        Entry entry = counts.get(criteria);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.expiresAt() - System.nanoTime() < 0) {
+            counts.remove(criteria);
+            return null;
+        }
+        return entry.count();
+    }
+
+    /**
+     * The generation to hand back to {@link #put(JsonNode, long, long)}; take it before counting in the repository.
+     */
+    synchronized long generation() {
+        return generation;
+    }
+
+    /**
+     * Caches a count taken at the given generation, unless a write happened since.
+     */
+    synchronized void put(JsonNode criteria, long count, long countGeneration) {
+        if (generation == countGeneration) {
+            counts.put(criteria, new Entry(count, System.nanoTime() + ttlNanos));
+        }
+    }
+
+    private synchronized void invalidate() {
+        generation++;
+        counts.clear();
+    }
+
+    private static Map<JsonNode, Entry> lru(int maxSize) {
+        return new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<JsonNode, Entry> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    private record Entry(long count, long expiresAt) {
+    }
+}
@@ -0,0 +1,35 @@
+package ir.msob.jima.crud.reactive.service;
+
+/**
+ * How {@link BaseCrudReactiveService#doGetPage} obtains the total of a page. Every strategy other than
+ * {@link #EXACT} reads the page content through
+ * {@link ir.msob.jima.crud.reactive.repository.BaseSliceReactiveRepository}; repositories without it always use
+ * {@link #EXACT}.
+ */
+public enum CountStrategy {
+    /**
+     * Let the repository's getPage count the matches exactly.
+     */
+    EXACT,
+    /**
+     * Do not count. The total only tells whether a next page may exist: it is the number of entities up to the
+     * end of this page, plus one when the page is full.
+     */
+    NONE,
+    /**
+     * Count exactly, concurrently with fetching the page.
+     */
+    CONCURRENT,
+    /**
+     * Use the repository's estimated count for unfiltered criteria (see
+     * {@link ir.msob.jima.crud.reactive.repository.BaseEstimatedCountReactiveRepository}); filtered criteria are
+     * counted {@link #CONCURRENT concurrently}. The platform's Mongo repositories do not implement it, so unless the
+     * domain's repository does, this silently degrades to an exact concurrent count.
+     */
+    ESTIMATED,
+    /**
+     * Count concurrently and cache the count per criteria for the service's count cache TTL. Writes through the
+     * service invalidate the domain's cached counts; writes from other instances show up after the TTL.
+     */
+    CACHED
+}
@@ -0,0 +1,79 @@
+package ir.msob.jima.crud.reactive.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import ir.msob.jima.crud.reactive.metrics.CrudMetrics;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Domains read by id, cached per service instance for {@link BaseCrudReactiveService#getEntityCacheMaxSize()}.
+ * Eviction is Caffeine's (W-TinyLFU) bounded by size, with an optional time-to-live after write; both are read when
+ * the service's cache is first created. Services are held by identity and weakly, so two beans of the same class
+ * never share cached domains.
+ * <p>
+ * Every write through the service bumps a generation and evicts the written ids. A read that started before a write
+ * does not populate the cache, so a value read before the write cannot survive the eviction. Writes that bypass the
+ * service (other instances, other applications) are only bounded by the time-to-live.
+ * <p>
+ * Metrics: the Caffeine cache meters ({@code cache.gets}, {@code cache.evictions}, {@code cache.size}, ...)
+ * tagged with {@code cache=jima.crud.entity} and the service name.
+ */
+final class EntityCache {
+    static final String NAME = "jima.crud.entity";
+    private static final Cache<Object, EntityCache> CACHES = Caffeine.newBuilder().weakKeys().build();
+
+    private final Cache<Object, Object> cache;
+    private final AtomicLong generation = new AtomicLong();
+
+    private EntityCache(String service, int maxSize, Duration ttl) {
+        Caffeine<Object, Object> builder = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .recordStats();
+        if (ttl != null && !ttl.isZero() && !ttl.isNegative()) {
+            builder.expireAfterWrite(ttl);
+        }
+        this.cache = builder.build();
+        CaffeineCacheMetrics.monitor(Metrics.globalRegistry, cache, NAME, "service", service);
+    }
+
+    static EntityCache of(Object service, int maxSize, Duration ttl) {
+        return CACHES.get(service, key -> new EntityCache(CrudMetrics.serviceName(service), maxSize, ttl));
+    }
+
+    static void invalidate(Object service, Collection<?> ids) {
+        EntityCache entityCache = CACHES.getIfPresent(service);
+        if (entityCache != null) {
+            entityCache.generation.incrementAndGet();
+            entityCache.cache.invalidateAll(ids);
+        }
+    }
+
+    Object get(Object id) {
+        return cache.getIfPresent(id);
+    }
+
+    /**
+     * The generation to hand back to {@link #put(Object, Object, long)}; take it before reading from the repository.
+     */
+    long generation() {
+        return generation.get();
+    }
+
+    /**
+     * Caches a domain read at the given generation, unless a write happened since.
+     */
+    void put(Object id, Object domain, long readGeneration) {
+        if (generation.get() != readGeneration) {
+            return;
+        }
+        cache.put(id, domain);
+        if (generation.get() != readGeneration) {
+            cache.invalidate(id);
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package ir.msob.jima.crud.reactive.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import ir.msob.jima.crud.reactive.batch.IdBatchLoader;
+
+import java.util.function.Supplier;
+
+/**
+ * The {@link IdBatchLoader} behind {@link BaseCrudReactiveService#doGetOneBatched}, one per service instance.
+ * Services are held by identity and weakly, so two beans of the same class keep their own loaders and settings.
+ */
+final class IdBatchLoaders {
+    private static final Cache<Object, IdBatchLoader<?, ?, ?>> LOADERS = Caffeine.newBuilder().weakKeys().build();
+
+    private IdBatchLoaders() {
+    }
+
+    @SuppressWarnings("unchecked")
+    static <ID, USER, DTO> IdBatchLoader<ID, USER, DTO> of(Object service, Supplier<IdBatchLoader<ID, USER, DTO>> factory) {
+        return (IdBatchLoader<ID, USER, DTO>) LOADERS.get(service, key -> factory.get());
+    }
+}
@@ -0,0 +1,34 @@
+package ir.msob.jima.crud.reactive.service;
+
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+/**
+ * Where {@link BaseCrudReactiveService} runs {@code toDto}/{@code toDomain} and the other DTO mappings.
+ * Collection mappings always run as one task per page or chunk, whatever the strategy.
+ */
+public enum MappingStrategy {
+    /**
+     * Map on the calling thread. Best for cheap in-memory copies, where a thread hop costs more than the mapping.
+     */
+    INLINE,
+    /**
+     * Map on the parallel scheduler. Suited to CPU-heavy, non-blocking mappings.
+     */
+    PARALLEL,
+    /**
+     * Map on the bounded-elastic scheduler. Required when a mapping may block.
+     */
+    BOUNDED_ELASTIC;
+
+    /**
+     * Returns the scheduler mappings are subscribed on, or {@code null} for {@link #INLINE}.
+     */
+    public Scheduler getScheduler() {
+        return switch (this) {
+            case INLINE -> null;
+            case PARALLEL -> Schedulers.parallel();
+            case BOUNDED_ELASTIC -> Schedulers.boundedElastic();
+        };
+    }
+}
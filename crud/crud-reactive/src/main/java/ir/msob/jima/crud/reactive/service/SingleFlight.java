@@ -0,0 +1,46 @@
+package ir.msob.jima.crud.reactive.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import ir.msob.jima.crud.reactive.metrics.CrudMetrics;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Repository reads in flight, per service instance, operation, normalized criteria and normalized user (their JSON
+ * trees). A read arriving while an equal one of the same user is in flight subscribes to it instead of calling the
+ * repository again, sharing its outcome but never another user's; the entry is removed once the read terminates, so
+ * nothing is cached beyond its duration. Services are held by identity and weakly, so two beans of the same class
+ * never share reads.
+ */
+final class SingleFlight {
+    private static final Cache<Object, Map<Key, Mono<?>>> IN_FLIGHT = Caffeine.newBuilder().weakKeys().build();
+
+    private SingleFlight() {
+    }
+
+    @SuppressWarnings("unchecked")
+    static <T> Mono<T> execute(Object service, String operation, JsonNode criteria, JsonNode user, Supplier<Mono<T>> call) {
+        return Mono.defer(() -> {
+            Map<Key, Mono<?>> inFlight = IN_FLIGHT.get(service, k -> new ConcurrentHashMap<>());
+            Key key = new Key(operation, criteria, user);
+            Mono<?>[] created = new Mono<?>[1];
+            Mono<?> flight = inFlight.computeIfAbsent(key, k -> {
+                created[0] = call.get()
+                        .doFinally(signal -> inFlight.remove(k, created[0]))
+                        .cache();
+                return created[0];
+            });
+            CrudMetrics.countCoalescing(CrudMetrics.serviceName(service), operation,
+                    flight == created[0] ? CrudMetrics.COALESCING_EXECUTED : CrudMetrics.COALESCING_COALESCED);
+            return (Mono<T>) flight;
+        });
+    }
+
+    private record Key(String operation, JsonNode criteria, JsonNode user) {
+    }
+}
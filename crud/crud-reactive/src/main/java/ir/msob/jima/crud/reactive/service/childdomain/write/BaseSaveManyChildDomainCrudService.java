@@ -13,11 +13,9 @@ import ir.msob.jima.platform.reactive.repository.BaseReactiveRepository;
 import jakarta.validation.Valid;
 import org.jspecify.annotations.NonNull;
 import org.springframework.transaction.annotation.Transactional;
-import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.io.Serializable;
-import java.util.ArrayList;
 import java.util.Collection;
 
 /**
@@ -35,7 +33,7 @@ public interface BaseSaveManyChildDomainCrudService<ID extends Comparable<ID> &
     Logger logger = LoggerFactory.getLogger(BaseSaveManyChildDomainCrudService.class);
 
     /**
-     * Executes a batch save operation for a collection of entities (DTOs). Each DTO is validated, prepared, and saved individually.
+     * Executes a batch save operation for a collection of entities (DTOs). DTOs are validated and prepared individually, then written to the repository in chunks.
      * This method is transactional and is also annotated with @MethodStats for performance monitoring.
      *
      * @param dtos The collection of DTOs to be saved.
@@ -49,13 +47,8 @@ public interface BaseSaveManyChildDomainCrudService<ID extends Comparable<ID> &
     default Mono<@NonNull Collection<DTO>> saveMany(ID parentId, Collection<@Valid DTO> dtos, USER user) throws BadRequestException, DomainNotFoundException {
         logger.debug("SaveMany, dtos.size: {}, user {}", dtos.size(), user);
 
-        // Convert the collection of DTOs into a Flux stream
-        // For each DTO in the stream, call the save method
-        // Collect the result into a list and convert it into an ArrayList
-        return Flux.fromIterable(dtos)
-                .flatMap(dto -> doSave(dto, user))
-                .collectList()
-                .map(ArrayList::new);
+        // Save the DTOs in chunks, each chunk written with a single multi-document insert
+        return this.doSaveMany(dtos, user);
     }
 
 }
\ No newline at end of file
@@ -33,6 +33,7 @@ public interface BaseDomainCrudReactiveService<
         BaseCountAllDomainCrudReactiveService<ID, USER, D, DTO, C, R>,
         BaseGetOneDomainCrudReactiveService<ID, USER, D, DTO, C, R>,
         BaseGetPageDomainCrudReactiveService<ID, USER, D, DTO, C, R>,
+        BaseGetSliceDomainCrudReactiveService<ID, USER, D, DTO, C, R>,
         BaseGetManyDomainCrudReactiveService<ID, USER, D, DTO, C, R>,
         BaseGetStreamDomainCrudReactiveService<ID, USER, D, DTO, C, R>,
         BaseSaveDomainCrudReactiveService<ID, USER, D, DTO, C, R>,
@@ -44,4 +45,14 @@ public interface BaseDomainCrudReactiveService<
         BaseDeleteAllDomainCrudReactiveService<ID, USER, D, DTO, C, R>,
         BaseDeleteDomainCrudReactiveService<ID, USER, D, DTO, C, R>,
         BaseDeleteManyDomainCrudReactiveService<ID, USER, D, DTO, C, R> {
-}
\ No newline at end of file
+
+    /**
+     * The bean the chunks of streamed writes go through, see {@link BaseSaveManyDomainCrudReactiveService#getSelf()}.
+     *
+     * @return This service, unless overridden.
+     */
+    @Override
+    default BaseDomainCrudReactiveService<ID, USER, D, DTO, C, R> getSelf() {
+        return this;
+    }
+}
@@ -0,0 +1,181 @@
+package ir.msob.jima.crud.reactive.service.domain.operation;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import ir.msob.jima.platform.api.logger.Logger;
+import ir.msob.jima.platform.api.logger.LoggerFactory;
+import org.jspecify.annotations.NonNull;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Runs {@link LifecycleExecutionMode#DETACHED} lifecycle hooks on a bounded background queue, off the caller's
+ * critical path. When the queue is full the configured {@link OverflowPolicy} decides what happens to the hook.
+ * <p>
+ * The executor owns its queue: up to {@code concurrency} hooks run at a time, and the next queued hook starts when
+ * one of them terminates. Queueing, dropping and starting hooks happen under one lock, so
+ * {@link OverflowPolicy#DROP_OLDEST} only ever drops a hook that has not started.
+ * <p>
+ * Metrics: {@code jima.crud.lifecycle.detached} counts hooks by phase, hook class and result
+ * (submitted, completed, failed, dropped, caller_runs); {@code jima.crud.lifecycle.detached.queue} is the queue size.
+ * Detached hooks do not see the caller's Reactor context.
+ */
+@Component
+public class DetachedLifecycleExecutor implements DisposableBean {
+    private static final Logger logger = LoggerFactory.getLogger(DetachedLifecycleExecutor.class);
+
+    /**
+     * Hooks waiting to run, guarded by {@code this}.
+     */
+    private final Deque<Task> queue = new ArrayDeque<>();
+    private final int capacity;
+    private final int concurrency;
+    private final OverflowPolicy overflowPolicy;
+    private final MeterRegistry meterRegistry = Metrics.globalRegistry;
+    private final Map<CounterKey, Counter> counters = new ConcurrentHashMap<>();
+    /**
+     * Hooks running, guarded by {@code this}.
+     */
+    private int running;
+    private boolean destroyed;
+
+    public DetachedLifecycleExecutor(@Value("${jima.crud.lifecycle.detached.capacity:1024}") int capacity,
+                                     @Value("${jima.crud.lifecycle.detached.concurrency:4}") int concurrency,
+                                     @Value("${jima.crud.lifecycle.detached.overflow-policy:DROP_NEW}") OverflowPolicy overflowPolicy) {
+        this.capacity = capacity;
+        this.concurrency = concurrency;
+        this.overflowPolicy = overflowPolicy;
+        Gauge.builder("jima.crud.lifecycle.detached.queue", this, DetachedLifecycleExecutor::queueSize)
+                .description("Detached lifecycle hooks waiting to run")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Queues a hook for background execution.
+     *
+     * @param phase     The lifecycle phase of the hook.
+     * @param operation The lifecycle operation the hook belongs to.
+     * @param hook      The hook invocation; subscribed once, on a background thread.
+     * @return An empty Mono if the hook was queued or dropped, or the hook itself if it has to run on the caller
+     * ({@link OverflowPolicy#CALLER_RUNS} with a full queue).
+     */
+    public Mono<@NonNull Void> execute(LifecyclePhase phase, Object operation, Mono<Void> hook) {
+        String hookName = ClassUtils.getUserClass(operation).getSimpleName();
+        Mono<Void> invocation = hook
+                .doOnSuccess(v -> count(phase, hookName, "completed"))
+                .onErrorResume(e -> {
+                    count(phase, hookName, "failed");
+                    logger.warn("Detached {} hook {} failed: {}", phase.getMethodName(), hookName, e.getMessage());
+                    return Mono.empty();
+                });
+        Task task = new Task(phase, hookName, invocation);
+
+        boolean queued;
+        Task dropped = null;
+        synchronized (this) {
+            queued = !destroyed && queue.size() < capacity;
+            if (!queued && !destroyed && overflowPolicy == OverflowPolicy.DROP_OLDEST && capacity > 0) {
+                dropped = queue.pollFirst();
+                queued = true;
+            }
+            if (queued) {
+                queue.addLast(task);
+            }
+        }
+        if (dropped != null) {
+            count(dropped.phase(), dropped.hookName(), "dropped");
+        }
+        if (queued) {
+            count(phase, hookName, "submitted");
+            drain();
+            return Mono.empty();
+        }
+        if (overflowPolicy == OverflowPolicy.CALLER_RUNS) {
+            count(phase, hookName, "caller_runs");
+            return invocation;
+        }
+        count(phase, hookName, "dropped");
+        return Mono.empty();
+    }
+
+    /**
+     * Drops the queued hooks; hooks already running are left to finish.
+     */
+    @Override
+    public synchronized void destroy() {
+        destroyed = true;
+        queue.clear();
+    }
+
+    /**
+     * Starts queued hooks while fewer than {@code concurrency} are running.
+     */
+    private void drain() {
+        while (true) {
+            Task next;
+            synchronized (this) {
+                if (running >= concurrency || (next = queue.pollFirst()) == null) {
+                    return;
+                }
+                running++;
+            }
+            next.invocation()
+                    .subscribeOn(Schedulers.boundedElastic())
+                    .doFinally(signal -> {
+                        synchronized (this) {
+                            running--;
+                        }
+                        drain();
+                    })
+                    .subscribe();
+        }
+    }
+
+    private synchronized int queueSize() {
+        return queue.size();
+    }
+
+    private void count(LifecyclePhase phase, String hookName, String result) {
+        counters.computeIfAbsent(new CounterKey(phase, hookName, result), key -> Counter.builder("jima.crud.lifecycle.detached")
+                        .tag("phase", phase.getMethodName())
+                        .tag("hook", hookName)
+                        .tag("result", result)
+                        .register(meterRegistry))
+                .increment();
+    }
+
+    /**
+     * What to do with a detached hook when the queue is full.
+     */
+    public enum OverflowPolicy {
+        /**
+         * Drop the new hook.
+         */
+        DROP_NEW,
+        /**
+         * Drop the oldest queued hook, which has not started yet, and queue the new one.
+         */
+        DROP_OLDEST,
+        /**
+         * Run the new hook on the caller, as if it were sequential.
+         */
+        CALLER_RUNS
+    }
+
+    private record Task(LifecyclePhase phase, String hookName, Mono<Void> invocation) {
+    }
+
+    private record CounterKey(LifecyclePhase phase, String hookName, String result) {
+    }
+}
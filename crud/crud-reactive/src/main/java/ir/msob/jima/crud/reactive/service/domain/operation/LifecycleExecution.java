@@ -0,0 +1,24 @@
+package ir.msob.jima.crud.reactive.service.domain.operation;
+
+import java.lang.annotation.*;
+
+/**
+ * Declares how a {@link ir.msob.jima.platform.reactive.operation.BaseReactiveLifecycleOperation} or
+ * {@link ir.msob.jima.platform.reactive.operation.BaseReactiveDomainLifecycleOperation} runs its after* hooks.
+ * Operations without this annotation run sequentially.
+ * <p>
+ * Use {@link LifecycleExecutionMode#PARALLEL} for independent hooks that must still finish before the response,
+ * and {@link LifecycleExecutionMode#DETACHED} for side effects (event publication, cache warming, audit sinks)
+ * that can run off the request's critical path.
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@Inherited
+public @interface LifecycleExecution {
+
+    /**
+     * The execution mode of the annotated operation's after* hooks.
+     */
+    LifecycleExecutionMode value() default LifecycleExecutionMode.SEQUENTIAL;
+}
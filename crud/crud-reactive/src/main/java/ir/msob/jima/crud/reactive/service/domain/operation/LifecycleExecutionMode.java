@@ -0,0 +1,20 @@
+package ir.msob.jima.crud.reactive.service.domain.operation;
+
+/**
+ * How a lifecycle operation is executed in the after* phases (afterCount, afterGet, afterSave, afterUpdate, afterDelete).
+ * Before* phases always run sequentially, since they may change the DTO or criteria.
+ */
+public enum LifecycleExecutionMode {
+    /**
+     * Run in registration order; the next operation starts when this one completes.
+     */
+    SEQUENTIAL,
+    /**
+     * Run concurrently with the other operations of the phase; the caller still waits for completion.
+     */
+    PARALLEL,
+    /**
+     * Hand over to the {@link DetachedLifecycleExecutor} and do not wait; failures are logged and counted only.
+     */
+    DETACHED
+}
@@ -0,0 +1,52 @@
+package ir.msob.jima.crud.reactive.service.domain.operation;
+
+import ir.msob.jima.crud.reactive.service.BaseCrudReactiveService;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Actuator endpoint {@code lifecyclehooks}: the lifecycle hook chain of every CRUD service's domain, phase by phase
+ * in execution order, with the latency percentiles recorded by {@link ReactiveLifecycleOperationComponent}.
+ * Domains are keyed by their DTO's simple name.
+ */
+@Endpoint(id = "lifecyclehooks")
+public class LifecycleHooksEndpoint {
+    private final ReactiveLifecycleOperationComponent reactiveLifecycleOperationComponent;
+    private final ObjectProvider<BaseCrudReactiveService<?, ?, ?, ?, ?, ?>> services;
+
+    public LifecycleHooksEndpoint(ReactiveLifecycleOperationComponent reactiveLifecycleOperationComponent,
+                                  ObjectProvider<BaseCrudReactiveService<?, ?, ?, ?, ?, ?>> services) {
+        this.reactiveLifecycleOperationComponent = reactiveLifecycleOperationComponent;
+        this.services = services;
+    }
+
+    @ReadOperation
+    public Map<String, Map<String, List<ReactiveLifecycleOperationComponent.HookDescription>>> hooks() {
+        Map<String, Map<String, List<ReactiveLifecycleOperationComponent.HookDescription>>> hooks = new TreeMap<>();
+        services.orderedStream().forEach(service -> hooks.put(domain(service),
+                reactiveLifecycleOperationComponent.describe(service.getDomainLifecycleOperation())));
+        return hooks;
+    }
+
+    /**
+     * The hook chain of one domain, or null (404) if no service has that domain.
+     */
+    @ReadOperation
+    public Map<String, List<ReactiveLifecycleOperationComponent.HookDescription>> domainHooks(@Selector String domain) {
+        return services.orderedStream()
+                .filter(service -> domain(service).equals(domain))
+                .findFirst()
+                .map(service -> reactiveLifecycleOperationComponent.describe(service.getDomainLifecycleOperation()))
+                .orElse(null);
+    }
+
+    private static String domain(BaseCrudReactiveService<?, ?, ?, ?, ?, ?> service) {
+        return service.getDtoClass().getSimpleName();
+    }
+}
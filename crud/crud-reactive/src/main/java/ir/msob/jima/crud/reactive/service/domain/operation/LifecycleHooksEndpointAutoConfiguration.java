@@ -0,0 +1,27 @@
+package ir.msob.jima.crud.reactive.service.domain.operation;
+
+import ir.msob.jima.crud.reactive.service.BaseCrudReactiveService;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.annotation.Bean;
+
+/**
+ * Registers the {@link LifecycleHooksEndpoint} when Spring Boot Actuator is on the classpath. Expose it with
+ * {@code management.endpoints.web.exposure.include=lifecyclehooks}.
+ */
+@AutoConfiguration
+@ConditionalOnClass(Endpoint.class)
+@ConditionalOnBean(ReactiveLifecycleOperationComponent.class)
+public class LifecycleHooksEndpointAutoConfiguration {
+
+    @Bean
+    @ConditionalOnMissingBean
+    public LifecycleHooksEndpoint lifecycleHooksEndpoint(ReactiveLifecycleOperationComponent reactiveLifecycleOperationComponent,
+                                                         ObjectProvider<BaseCrudReactiveService<?, ?, ?, ?, ?, ?>> services) {
+        return new LifecycleHooksEndpoint(reactiveLifecycleOperationComponent, services);
+    }
+}
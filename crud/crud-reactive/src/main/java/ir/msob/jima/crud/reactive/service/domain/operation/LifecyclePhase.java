@@ -0,0 +1,36 @@
+package ir.msob.jima.crud.reactive.service.domain.operation;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * The lifecycle phases a {@link ir.msob.jima.platform.reactive.operation.BaseReactiveLifecycleOperation} or
+ * {@link ir.msob.jima.platform.reactive.operation.BaseReactiveDomainLifecycleOperation} can hook into.
+ * Each phase is bound to the name of the operation method that implements it.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum LifecyclePhase {
+    BEFORE_COUNT("beforeCount"),
+    AFTER_COUNT("afterCount"),
+    BEFORE_GET("beforeGet"),
+    AFTER_GET("afterGet"),
+    BEFORE_SAVE("beforeSave"),
+    AFTER_SAVE("afterSave"),
+    BEFORE_UPDATE("beforeUpdate"),
+    AFTER_UPDATE("afterUpdate"),
+    BEFORE_DELETE("beforeDelete"),
+    AFTER_DELETE("afterDelete");
+
+    /**
+     * The name of the operation method implementing this phase.
+     */
+    private final String methodName;
+
+    /**
+     * Whether this is an after* phase, which runs once the operation itself has completed.
+     */
+    public boolean isAfter() {
+        return methodName.startsWith("after");
+    }
+}
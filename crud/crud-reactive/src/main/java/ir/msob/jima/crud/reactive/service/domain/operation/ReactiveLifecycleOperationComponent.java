@@ -1,21 +1,36 @@
 package ir.msob.jima.crud.reactive.service.domain.operation;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.HistogramSnapshot;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
 import ir.msob.jima.platform.api.element.criteria.BaseElementCriteria;
 import ir.msob.jima.platform.api.element.dto.BaseElementDto;
 import ir.msob.jima.platform.api.exception.badrequest.BadRequestException;
 import ir.msob.jima.platform.api.exception.domainnotfound.DomainNotFoundException;
+import ir.msob.jima.platform.api.logger.Logger;
+import ir.msob.jima.platform.api.logger.LoggerFactory;
 import ir.msob.jima.platform.api.security.BaseUser;
 import ir.msob.jima.platform.reactive.operation.BaseReactiveDomainLifecycleOperation;
 import ir.msob.jima.platform.reactive.operation.BaseReactiveLifecycleOperation;
-import lombok.RequiredArgsConstructor;
 import org.jspecify.annotations.NonNull;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.annotation.AnnotationUtils;
 import org.springframework.stereotype.Service;
+import org.springframework.util.ClassUtils;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.io.Serializable;
-import java.util.Collection;
-import java.util.List;
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * This class provides before and after operations for various CRUD operations.
@@ -24,15 +39,169 @@ import java.util.List;
  * <p>
  * It uses the strategy pattern to delegate the before and after operations to a collection of
  * BaseBeforeAfterOperation and BaseReactiveDomainLifecycleOperation instances.
+ * <p>
+ * The operations that actually override each phase are resolved once (per domain operation list) and cached,
+ * so a phase nobody implements costs a single map lookup and returns {@link Mono#empty()}.
+ * After* hooks of operations annotated with {@link LifecycleExecution} run in parallel or detached.
+ * <p>
+ * Every hook invocation is timed in {@code jima.crud.lifecycle.hook}, tagged by phase and hook class, with a
+ * percentile histogram. Invocations slower than {@code jima.crud.lifecycle.hook.budget} are logged and counted in
+ * {@code jima.crud.lifecycle.hook.slow}. {@link #describe(List)} lists a domain's hook chains with their latencies.
  */
 @Service
-@RequiredArgsConstructor
 public class ReactiveLifecycleOperationComponent {
+    /**
+     * Names of the methods each class overrides, per base type it was checked against.
+     */
+    private static final Map<OverrideKey, Set<String>> OVERRIDDEN_METHODS = new ConcurrentHashMap<>();
+
+    private static final Logger logger = LoggerFactory.getLogger(ReactiveLifecycleOperationComponent.class);
+
+    public static final String HOOK_TIMER = "jima.crud.lifecycle.hook";
+
+    public static final String SLOW_HOOK_COUNTER = "jima.crud.lifecycle.hook.slow";
+
     /**
      * A collection of BaseBeforeAfterOperation instances.
      */
     private final List<BaseReactiveLifecycleOperation> beforeAfterOperations;
 
+    /**
+     * The BaseBeforeAfterOperation instances that implement each phase, in registration order.
+     */
+    private final Map<LifecyclePhase, HookChain<BaseReactiveLifecycleOperation>> operationChains;
+
+    /**
+     * The domain operations that implement each phase, compiled once per distinct domain operation list.
+     */
+    private final Map<List<?>, Map<LifecyclePhase, HookChain<Object>>> domainOperationChains = new ConcurrentHashMap<>();
+
+    /**
+     * Runs the hooks of {@link LifecycleExecutionMode#DETACHED} operations in the background.
+     */
+    private final DetachedLifecycleExecutor detachedLifecycleExecutor;
+
+    /**
+     * The timer of each hook, per phase and hook class.
+     */
+    private final Map<HookKey, Timer> hookTimers = new ConcurrentHashMap<>();
+
+    /**
+     * The slow invocation counter of each hook, per phase and hook class.
+     */
+    private final Map<HookKey, Counter> slowHookCounters = new ConcurrentHashMap<>();
+
+    private final MeterRegistry meterRegistry = Metrics.globalRegistry;
+
+    private final boolean hookMetricsEnabled;
+
+    /**
+     * Hook invocations slower than this are logged as slow; zero disables the check.
+     */
+    private final Duration hookBudget;
+
+    public ReactiveLifecycleOperationComponent(List<BaseReactiveLifecycleOperation> beforeAfterOperations,
+                                               DetachedLifecycleExecutor detachedLifecycleExecutor,
+                                               @Value("${jima.crud.lifecycle.hook.metrics-enabled:true}") boolean hookMetricsEnabled,
+                                               @Value("${jima.crud.lifecycle.hook.budget:100ms}") Duration hookBudget) {
+        this.detachedLifecycleExecutor = detachedLifecycleExecutor;
+        this.hookMetricsEnabled = hookMetricsEnabled;
+        this.hookBudget = hookBudget;
+        this.beforeAfterOperations = beforeAfterOperations == null ? List.of() : List.copyOf(beforeAfterOperations);
+        this.operationChains = compile(this.beforeAfterOperations, BaseReactiveLifecycleOperation.class);
+    }
+
+    /**
+     * Checks whether the target overrides a method that has a default implementation in the base type
+     * (or one of its super types). The result is cached per target class and base type.
+     *
+     * @param target     The object to inspect.
+     * @param methodName The name of the method.
+     * @param baseType   The type providing the default implementation.
+     * @return true if the target class declares its own implementation of the method.
+     */
+    public static boolean isOverridden(Object target, String methodName, Class<?> baseType) {
+        return OVERRIDDEN_METHODS.computeIfAbsent(new OverrideKey(target.getClass(), baseType), key -> Arrays.stream(key.type().getMethods())
+                        .filter(method -> !method.getDeclaringClass().isAssignableFrom(key.baseType()))
+                        .map(Method::getName)
+                        .collect(Collectors.toUnmodifiableSet()))
+                .contains(methodName);
+    }
+
+    /**
+     * Checks whether any registered or domain lifecycle operation overrides afterDelete,
+     * i.e. whether the deleted DTOs are needed after a delete.
+     *
+     * @param beforeAfterDomainInfos A collection of BaseReactiveDomainLifecycleOperation instances.
+     * @return true if at least one operation implements afterDelete.
+     */
+    public <ID extends Comparable<ID> & Serializable,
+            USER extends BaseUser,
+            DTO extends BaseElementDto<ID>,
+            C extends BaseElementCriteria<ID>> boolean hasAfterDelete(List<BaseReactiveDomainLifecycleOperation<ID, USER, DTO, C>> beforeAfterDomainInfos) {
+        return hasHook(LifecyclePhase.AFTER_DELETE, beforeAfterDomainInfos);
+    }
+
+    /**
+     * Checks whether any registered or domain lifecycle operation implements the given phase.
+     *
+     * @param phase                  The lifecycle phase.
+     * @param beforeAfterDomainInfos A collection of BaseReactiveDomainLifecycleOperation instances.
+     * @return true if at least one operation implements the phase.
+     */
+    public <ID extends Comparable<ID> & Serializable,
+            USER extends BaseUser,
+            DTO extends BaseElementDto<ID>,
+            C extends BaseElementCriteria<ID>> boolean hasHook(LifecyclePhase phase, List<BaseReactiveDomainLifecycleOperation<ID, USER, DTO, C>> beforeAfterDomainInfos) {
+        return !operationChains.get(phase).isEmpty()
+                || !domainChain(phase, beforeAfterDomainInfos).isEmpty();
+    }
+
+    /**
+     * Describes the hook chains a domain runs through: for each phase, the registered operations followed by the
+     * domain operations, with their execution mode and the latencies recorded so far.
+     *
+     * @param beforeAfterDomainInfos The domain's BaseReactiveDomainLifecycleOperation instances.
+     * @return The hooks of each phase that has any, keyed by phase method name, in execution order.
+     */
+    public Map<String, List<HookDescription>> describe(List<?> beforeAfterDomainInfos) {
+        Map<LifecyclePhase, HookChain<Object>> domainChains = Map.of();
+        if (beforeAfterDomainInfos != null && !beforeAfterDomainInfos.isEmpty()) {
+            List<Object> key = List.copyOf(beforeAfterDomainInfos);
+            domainChains = domainOperationChains.computeIfAbsent(key, k -> compile(key, BaseReactiveDomainLifecycleOperation.class));
+        }
+        Map<String, List<HookDescription>> description = new LinkedHashMap<>();
+        for (LifecyclePhase phase : LifecyclePhase.values()) {
+            List<HookDescription> hooks = new ArrayList<>();
+            describe(phase, "operation", operationChains.get(phase), hooks);
+            describe(phase, "domain", domainChains.getOrDefault(phase, HookChain.empty()), hooks);
+            if (!hooks.isEmpty()) {
+                description.put(phase.getMethodName(), hooks);
+            }
+        }
+        return description;
+    }
+
+    private <O> void describe(LifecyclePhase phase, String scope, HookChain<O> chain, List<HookDescription> hooks) {
+        chain.sequential().forEach(op -> hooks.add(describe(phase, scope, LifecycleExecutionMode.SEQUENTIAL, op)));
+        chain.parallel().forEach(op -> hooks.add(describe(phase, scope, LifecycleExecutionMode.PARALLEL, op)));
+        chain.detached().forEach(op -> hooks.add(describe(phase, scope, LifecycleExecutionMode.DETACHED, op)));
+    }
+
+    private HookDescription describe(LifecyclePhase phase, String scope, LifecycleExecutionMode mode, Object operation) {
+        Class<?> hookClass = ClassUtils.getUserClass(operation);
+        Timer timer = hookTimers.get(new HookKey(phase, hookClass));
+        if (timer == null) {
+            return new HookDescription(hookClass.getName(), scope, mode, 0, 0, 0, Map.of());
+        }
+        HistogramSnapshot snapshot = timer.takeSnapshot();
+        Map<String, Double> percentiles = new LinkedHashMap<>();
+        for (ValueAtPercentile percentile : snapshot.percentileValues()) {
+            percentiles.put("p" + Math.round(percentile.percentile() * 100), percentile.value(TimeUnit.MILLISECONDS));
+        }
+        return new HookDescription(hookClass.getName(), scope, mode, snapshot.count(),
+                snapshot.mean(TimeUnit.MILLISECONDS), snapshot.max(TimeUnit.MILLISECONDS), percentiles);
+    }
 
     /**
      * Executes before counting records based on the provided criteria.
@@ -47,15 +216,9 @@ public class ReactiveLifecycleOperationComponent {
             USER extends BaseUser,
             DTO extends BaseElementDto<ID>,
             C extends BaseElementCriteria<ID>> Mono<@NonNull Void> beforeCount(C criteria, USER user, List<BaseReactiveDomainLifecycleOperation<ID, USER, DTO, C>> beforeAfterDomainInfos) throws DomainNotFoundException, BadRequestException {
-        return Flux.concat(
-                Flux.fromIterable(
-                        beforeAfterOperations == null ? List.of() : beforeAfterOperations
-                ).concatMap(op -> op.beforeCount(criteria, user)),
-
-                Flux.fromIterable(
-                        beforeAfterDomainInfos == null ? List.of() : beforeAfterDomainInfos
-                ).concatMap(op -> op.beforeCount(criteria, user))
-        ).then();
+        return invoke(LifecyclePhase.BEFORE_COUNT, beforeAfterDomainInfos,
+                op -> op.beforeCount(criteria, user),
+                op -> op.beforeCount(criteria, user));
     }
 
     /**
@@ -71,15 +234,9 @@ public class ReactiveLifecycleOperationComponent {
             USER extends BaseUser,
             DTO extends BaseElementDto<ID>,
             C extends BaseElementCriteria<ID>> Mono<@NonNull Void> afterCount(C criteria, USER user, List<BaseReactiveDomainLifecycleOperation<ID, USER, DTO, C>> beforeAfterDomainInfos) throws DomainNotFoundException, BadRequestException {
-        return Flux.concat(
-                Flux.fromIterable(
-                        beforeAfterOperations == null ? List.of() : beforeAfterOperations
-                ).concatMap(op -> op.afterCount(criteria, user)),
-
-                Flux.fromIterable(
-                        beforeAfterDomainInfos == null ? List.of() : beforeAfterDomainInfos
-                ).concatMap(op -> op.afterCount(criteria, user))
-        ).then();
+        return invoke(LifecyclePhase.AFTER_COUNT, beforeAfterDomainInfos,
+                op -> op.afterCount(criteria, user),
+                op -> op.afterCount(criteria, user));
     }
 
     /**
@@ -95,15 +252,9 @@ public class ReactiveLifecycleOperationComponent {
             USER extends BaseUser,
             DTO extends BaseElementDto<ID>,
             C extends BaseElementCriteria<ID>> Mono<@NonNull Void> beforeGet(C criteria, USER user, List<BaseReactiveDomainLifecycleOperation<ID, USER, DTO, C>> beforeAfterDomainInfos) throws DomainNotFoundException, BadRequestException {
-        return Flux.concat(
-                Flux.fromIterable(
-                        beforeAfterOperations == null ? List.of() : beforeAfterOperations
-                ).concatMap(op -> op.beforeGet(criteria, user)),
-
-                Flux.fromIterable(
-                        beforeAfterDomainInfos == null ? List.of() : beforeAfterDomainInfos
-                ).concatMap(op -> op.beforeGet(criteria, user))
-        ).then();
+        return invoke(LifecyclePhase.BEFORE_GET, beforeAfterDomainInfos,
+                op -> op.beforeGet(criteria, user),
+                op -> op.beforeGet(criteria, user));
     }
 
     /**
@@ -121,15 +272,9 @@ public class ReactiveLifecycleOperationComponent {
             USER extends BaseUser,
             DTO extends BaseElementDto<ID>,
             C extends BaseElementCriteria<ID>> Mono<@NonNull Void> afterGet(Collection<ID> ids, Collection<DTO> dtos, C criteria, USER user, List<BaseReactiveDomainLifecycleOperation<ID, USER, DTO, C>> beforeAfterDomainInfos) throws DomainNotFoundException, BadRequestException {
-        return Flux.concat(
-                Flux.fromIterable(
-                        beforeAfterOperations == null ? List.of() : beforeAfterOperations
-                ).concatMap(op -> op.afterGet(ids, dtos, criteria, user)),
-
-                Flux.fromIterable(
-                        beforeAfterDomainInfos == null ? List.of() : beforeAfterDomainInfos
-                ).concatMap(op -> op.afterGet(ids, dtos, criteria, user))
-        ).then();
+        return invoke(LifecyclePhase.AFTER_GET, beforeAfterDomainInfos,
+                op -> op.afterGet(ids, dtos, criteria, user),
+                op -> op.afterGet(ids, dtos, criteria, user));
     }
 
     /**
@@ -145,15 +290,9 @@ public class ReactiveLifecycleOperationComponent {
             USER extends BaseUser,
             DTO extends BaseElementDto<ID>,
             C extends BaseElementCriteria<ID>> Mono<@NonNull Void> beforeSave(DTO dto, USER user, List<BaseReactiveDomainLifecycleOperation<ID, USER, DTO, C>> beforeAfterDomainInfos) throws DomainNotFoundException, BadRequestException {
-        return Flux.concat(
-                Flux.fromIterable(
-                        beforeAfterOperations == null ? List.of() : beforeAfterOperations
-                ).concatMap(op -> op.beforeSave(dto, user)),
-
-                Flux.fromIterable(
-                        beforeAfterDomainInfos == null ? List.of() : beforeAfterDomainInfos
-                ).concatMap(op -> op.beforeSave(dto, user))
-        ).then();
+        return invoke(LifecyclePhase.BEFORE_SAVE, beforeAfterDomainInfos,
+                op -> op.beforeSave(dto, user),
+                op -> op.beforeSave(dto, user));
     }
 
     /**
@@ -170,15 +309,9 @@ public class ReactiveLifecycleOperationComponent {
             USER extends BaseUser,
             DTO extends BaseElementDto<ID>,
             C extends BaseElementCriteria<ID>> Mono<@NonNull Void> afterSave(DTO dto, DTO savedDto, USER user, List<BaseReactiveDomainLifecycleOperation<ID, USER, DTO, C>> beforeAfterDomainInfos) throws DomainNotFoundException, BadRequestException {
-        return Flux.concat(
-                Flux.fromIterable(
-                        beforeAfterOperations == null ? List.of() : beforeAfterOperations
-                ).concatMap(op -> op.afterSave(dto, savedDto, user)),
-
-                Flux.fromIterable(
-                        beforeAfterDomainInfos == null ? List.of() : beforeAfterDomainInfos
-                ).concatMap(op -> op.afterSave(dto, savedDto, user))
-        ).then();
+        return invoke(LifecyclePhase.AFTER_SAVE, beforeAfterDomainInfos,
+                op -> op.afterSave(dto, savedDto, user),
+                op -> op.afterSave(dto, savedDto, user));
     }
 
     /**
@@ -195,15 +328,9 @@ public class ReactiveLifecycleOperationComponent {
             USER extends BaseUser,
             DTO extends BaseElementDto<ID>,
             C extends BaseElementCriteria<ID>> Mono<@NonNull Void> beforeUpdate(DTO previousDto, DTO dto, USER user, List<BaseReactiveDomainLifecycleOperation<ID, USER, DTO, C>> beforeAfterDomainInfos) throws DomainNotFoundException, BadRequestException {
-        return Flux.concat(
-                Flux.fromIterable(
-                        beforeAfterOperations == null ? List.of() : beforeAfterOperations
-                ).concatMap(op -> op.beforeUpdate(previousDto, dto, user)),
-
-                Flux.fromIterable(
-                        beforeAfterDomainInfos == null ? List.of() : beforeAfterDomainInfos
-                ).concatMap(op -> op.beforeUpdate(previousDto, dto, user))
-        ).then();
+        return invoke(LifecyclePhase.BEFORE_UPDATE, beforeAfterDomainInfos,
+                op -> op.beforeUpdate(previousDto, dto, user),
+                op -> op.beforeUpdate(previousDto, dto, user));
     }
 
     /**
@@ -220,15 +347,9 @@ public class ReactiveLifecycleOperationComponent {
             USER extends BaseUser,
             DTO extends BaseElementDto<ID>,
             C extends BaseElementCriteria<ID>> Mono<@NonNull Void> afterUpdate(DTO dto, DTO updatedDto, USER user, List<BaseReactiveDomainLifecycleOperation<ID, USER, DTO, C>> beforeAfterDomainInfos) throws DomainNotFoundException, BadRequestException {
-        return Flux.concat(
-                Flux.fromIterable(
-                        beforeAfterOperations == null ? List.of() : beforeAfterOperations
-                ).concatMap(op -> op.afterUpdate(dto, updatedDto, user)),
-
-                Flux.fromIterable(
-                        beforeAfterDomainInfos == null ? List.of() : beforeAfterDomainInfos
-                ).concatMap(op -> op.afterUpdate(dto, updatedDto, user))
-        ).then();
+        return invoke(LifecyclePhase.AFTER_UPDATE, beforeAfterDomainInfos,
+                op -> op.afterUpdate(dto, updatedDto, user),
+                op -> op.afterUpdate(dto, updatedDto, user));
     }
 
     /**
@@ -244,15 +365,9 @@ public class ReactiveLifecycleOperationComponent {
             USER extends BaseUser,
             DTO extends BaseElementDto<ID>,
             C extends BaseElementCriteria<ID>> Mono<@NonNull Void> beforeDelete(C criteria, USER user, List<BaseReactiveDomainLifecycleOperation<ID, USER, DTO, C>> beforeAfterDomainInfos) throws DomainNotFoundException, BadRequestException {
-        return Flux.concat(
-                Flux.fromIterable(
-                        beforeAfterOperations == null ? List.of() : beforeAfterOperations
-                ).concatMap(op -> op.beforeDelete(criteria, user)),
-
-                Flux.fromIterable(
-                        beforeAfterDomainInfos == null ? List.of() : beforeAfterDomainInfos
-                ).concatMap(op -> op.beforeDelete(criteria, user))
-        ).then();
+        return invoke(LifecyclePhase.BEFORE_DELETE, beforeAfterDomainInfos,
+                op -> op.beforeDelete(criteria, user),
+                op -> op.beforeDelete(criteria, user));
     }
 
     /**
@@ -269,14 +384,169 @@ public class ReactiveLifecycleOperationComponent {
             USER extends BaseUser,
             DTO extends BaseElementDto<ID>,
             C extends BaseElementCriteria<ID>> Mono<@NonNull Void> afterDelete(DTO dto, C criteria, USER user, List<BaseReactiveDomainLifecycleOperation<ID, USER, DTO, C>> beforeAfterDomainInfos) throws DomainNotFoundException, BadRequestException {
-        return Flux.concat(
-                Flux.fromIterable(
-                        beforeAfterOperations == null ? List.of() : beforeAfterOperations
-                ).concatMap(op -> op.afterDelete(dto, criteria, user)),
-
-                Flux.fromIterable(
-                        beforeAfterDomainInfos == null ? List.of() : beforeAfterDomainInfos
-                ).concatMap(op -> op.afterDelete(dto, criteria, user))
-        ).then();
+        return invoke(LifecyclePhase.AFTER_DELETE, beforeAfterDomainInfos,
+                op -> op.afterDelete(dto, criteria, user),
+                op -> op.afterDelete(dto, criteria, user));
+    }
+
+    /**
+     * Runs the operations implementing a phase: the registered operations first, then the domain operations.
+     * Returns a shared empty Mono when nothing implements the phase.
+     */
+    private <ID extends Comparable<ID> & Serializable,
+            USER extends BaseUser,
+            DTO extends BaseElementDto<ID>,
+            C extends BaseElementCriteria<ID>> Mono<@NonNull Void> invoke(LifecyclePhase phase,
+                                                                 List<BaseReactiveDomainLifecycleOperation<ID, USER, DTO, C>> beforeAfterDomainInfos,
+                                                                 Function<BaseReactiveLifecycleOperation, Mono<@NonNull Void>> operationInvoker,
+                                                                 Function<BaseReactiveDomainLifecycleOperation<ID, USER, DTO, C>, Mono<@NonNull Void>> domainOperationInvoker) {
+        HookChain<BaseReactiveLifecycleOperation> operations = operationChains.get(phase);
+        HookChain<BaseReactiveDomainLifecycleOperation<ID, USER, DTO, C>> domainOperations = domainChain(phase, beforeAfterDomainInfos);
+        if (operations.isEmpty()) {
+            return invoke(phase, domainOperations, domainOperationInvoker);
+        }
+        if (domainOperations.isEmpty()) {
+            return invoke(phase, operations, operationInvoker);
+        }
+        return invoke(phase, operations, operationInvoker).then(invoke(phase, domainOperations, domainOperationInvoker));
+    }
+
+    /**
+     * Runs a chain: sequential operations one after another while parallel operations run alongside them,
+     * then hands the detached operations to the {@link DetachedLifecycleExecutor}.
+     */
+    private <O> Mono<@NonNull Void> invoke(LifecyclePhase phase, HookChain<O> chain, Function<O, Mono<@NonNull Void>> hookInvoker) {
+        if (chain.isEmpty()) {
+            return Mono.empty();
+        }
+        Function<O, Mono<@NonNull Void>> invoker = hookMetricsEnabled ? op -> timed(phase, op, hookInvoker) : hookInvoker;
+        Mono<Void> inline = chain.parallel().isEmpty()
+                ? invoke(chain.sequential(), invoker)
+                : Mono.when(invoke(chain.sequential(), invoker), Flux.fromIterable(chain.parallel()).flatMap(invoker));
+        if (chain.detached().isEmpty()) {
+            return inline;
+        }
+        return inline.then(Flux.fromIterable(chain.detached())
+                .concatMap(op -> detachedLifecycleExecutor.execute(phase, op, Mono.defer(() -> invoker.apply(op))))
+                .then());
+    }
+
+    /**
+     * Times one hook invocation, including work the hook does before returning its Mono.
+     */
+    private <O> Mono<@NonNull Void> timed(LifecyclePhase phase, O operation, Function<O, Mono<@NonNull Void>> invoker) {
+        return Mono.defer(() -> {
+            long start = System.nanoTime();
+            return Mono.defer(() -> invoker.apply(operation))
+                    .doFinally(signal -> recordHook(phase, operation, System.nanoTime() - start));
+        });
+    }
+
+    private void recordHook(LifecyclePhase phase, Object operation, long nanos) {
+        Class<?> hookClass = ClassUtils.getUserClass(operation);
+        HookKey hookKey = new HookKey(phase, hookClass);
+        hookTimers.computeIfAbsent(hookKey, key -> Timer.builder(HOOK_TIMER)
+                        .tag("phase", phase.getMethodName())
+                        .tag("hook", hookClass.getSimpleName())
+                        .publishPercentiles(0.5, 0.95, 0.99)
+                        .publishPercentileHistogram()
+                        .register(meterRegistry))
+                .record(nanos, TimeUnit.NANOSECONDS);
+        if (!hookBudget.isZero() && nanos > hookBudget.toNanos()) {
+            slowHookCounters.computeIfAbsent(hookKey, key -> Counter.builder(SLOW_HOOK_COUNTER)
+                            .tag("phase", phase.getMethodName())
+                            .tag("hook", hookClass.getSimpleName())
+                            .register(meterRegistry))
+                    .increment();
+            logger.warn("Slow {} hook {}: {} ms, budget {} ms", phase.getMethodName(), hookClass.getName(),
+                    TimeUnit.NANOSECONDS.toMillis(nanos), hookBudget.toMillis());
+        }
+    }
+
+    private static <O> Mono<@NonNull Void> invoke(List<O> operations, Function<O, Mono<@NonNull Void>> invoker) {
+        return switch (operations.size()) {
+            case 0 -> Mono.empty();
+            case 1 -> Mono.defer(() -> invoker.apply(operations.get(0)));
+            default -> Flux.fromIterable(operations).concatMap(invoker).then();
+        };
+    }
+
+    @SuppressWarnings("unchecked")
+    private <ID extends Comparable<ID> & Serializable,
+            USER extends BaseUser,
+            DTO extends BaseElementDto<ID>,
+            C extends BaseElementCriteria<ID>> HookChain<BaseReactiveDomainLifecycleOperation<ID, USER, DTO, C>> domainChain(LifecyclePhase phase, List<BaseReactiveDomainLifecycleOperation<ID, USER, DTO, C>> beforeAfterDomainInfos) {
+        if (beforeAfterDomainInfos == null || beforeAfterDomainInfos.isEmpty()) {
+            return HookChain.empty();
+        }
+        Map<LifecyclePhase, HookChain<Object>> chains = domainOperationChains.get(beforeAfterDomainInfos);
+        if (chains == null) {
+            List<Object> key = List.copyOf(beforeAfterDomainInfos);
+            chains = domainOperationChains.computeIfAbsent(key, k -> compile(key, BaseReactiveDomainLifecycleOperation.class));
+        }
+        return (HookChain<BaseReactiveDomainLifecycleOperation<ID, USER, DTO, C>>) (HookChain<?>) chains.get(phase);
+    }
+
+    private static <O> Map<LifecyclePhase, HookChain<O>> compile(List<O> operations, Class<?> baseType) {
+        Map<LifecyclePhase, HookChain<O>> chains = new EnumMap<>(LifecyclePhase.class);
+        for (LifecyclePhase phase : LifecyclePhase.values()) {
+            Map<LifecycleExecutionMode, List<O>> byMode = operations.stream()
+                    .filter(op -> isOverridden(op, phase.getMethodName(), baseType))
+                    .collect(Collectors.groupingBy(op -> executionMode(phase, op), () -> new EnumMap<>(LifecycleExecutionMode.class), Collectors.toList()));
+            chains.put(phase, new HookChain<>(
+                    List.copyOf(byMode.getOrDefault(LifecycleExecutionMode.SEQUENTIAL, List.of())),
+                    List.copyOf(byMode.getOrDefault(LifecycleExecutionMode.PARALLEL, List.of())),
+                    List.copyOf(byMode.getOrDefault(LifecycleExecutionMode.DETACHED, List.of()))));
+        }
+        return Collections.unmodifiableMap(chains);
+    }
+
+    /**
+     * Before* phases are always sequential; after* phases follow the operation's {@link LifecycleExecution}.
+     */
+    private static LifecycleExecutionMode executionMode(LifecyclePhase phase, Object operation) {
+        if (!phase.isAfter()) {
+            return LifecycleExecutionMode.SEQUENTIAL;
+        }
+        LifecycleExecution execution = AnnotationUtils.findAnnotation(ClassUtils.getUserClass(operation), LifecycleExecution.class);
+        return execution == null ? LifecycleExecutionMode.SEQUENTIAL : execution.value();
+    }
+
+    /**
+     * A hook of a phase as listed by {@link #describe(List)}; latencies are in milliseconds.
+     *
+     * @param hook        The hook's class name.
+     * @param scope       {@code operation} for a registered BaseReactiveLifecycleOperation, {@code domain} for a
+     *                    domain operation.
+     * @param mode        How the hook runs.
+     * @param count       Number of recorded invocations.
+     * @param mean        Mean latency.
+     * @param max         Maximum latency in the recent window.
+     * @param percentiles Latency percentiles (p50, p95, p99).
+     */
+    public record HookDescription(String hook, String scope, LifecycleExecutionMode mode, long count,
+                                  double mean, double max, Map<String, Double> percentiles) {
+    }
+
+    private record HookKey(LifecyclePhase phase, Class<?> hook) {
+    }
+
+    private record OverrideKey(Class<?> type, Class<?> baseType) {
+    }
+
+    /**
+     * The operations implementing one phase, split by execution mode. Each list keeps registration order.
+     */
+    private record HookChain<O>(List<O> sequential, List<O> parallel, List<O> detached) {
+        private static final HookChain<Object> EMPTY = new HookChain<>(List.of(), List.of(), List.of());
+
+        @SuppressWarnings("unchecked")
+        static <O> HookChain<O> empty() {
+            return (HookChain<O>) EMPTY;
+        }
+
+        boolean isEmpty() {
+            return sequential.isEmpty() && parallel.isEmpty() && detached.isEmpty();
+        }
     }
-}
\ No newline at end of file
+}
@@ -36,7 +36,8 @@ public interface BaseCountAllDomainCrudReactiveService<ID extends Comparable<ID>
     Logger logger = LoggerFactory.getLogger(BaseCountAllDomainCrudReactiveService.class);
 
     /**
-     * Count all domain entities, potentially based on certain criteria.
+     * Count all domain entities. Services using {@link ir.msob.jima.crud.reactive.service.CountStrategy#ESTIMATED}
+     * return the repository's estimated count.
      *
      * @param user A user associated with the operation.
      * @return A Mono emitting the count of domain entities.
@@ -48,8 +49,6 @@ public interface BaseCountAllDomainCrudReactiveService<ID extends Comparable<ID>
     default Mono<@NonNull Long> countAll(@NotNull USER user) {
         logger.debug("CountAll, user: {}", user);
 
-        C criteria = newCriteriaClass();
-
-        return doCount(criteria, user);
+        return doCountAll(user);
     }
 }
@@ -49,6 +49,21 @@ public interface BaseGetOneDomainCrudReactiveService<ID extends Comparable<ID> &
         return this.doGetOne(CriteriaUtil.idCriteria(getCriteriaClass(), id), user);
     }
 
+    /**
+     * Retrieve a single DTO entity based on an entity ID, batched with the concurrent lookups of the same user into
+     * a single ID query. Meant for resolvers and enrichment code that look up many IDs one at a time.
+     *
+     * @param id   The ID of the entity to retrieve.
+     * @param user A user associated with the operation.
+     * @return A Mono emitting a single DTO entity, or empty if it is not found.
+     * @throws DomainNotFoundException If the requested domain is not found.
+     * @throws BadRequestException     If the request is not well-formed or violates business rules.
+     */
+    @MethodStats
+    default Mono<@NonNull DTO> getOneBatched(ID id, USER user) throws DomainNotFoundException, BadRequestException {
+        return this.doGetOneBatched(id, user);
+    }
+
     /**
      * Retrieve a single DTO entity based on specific criteria.
      *
@@ -1,5 +1,6 @@
 package ir.msob.jima.crud.reactive.service.domain.read;
 
+import ir.msob.jima.crud.reactive.service.CountStrategy;
 import ir.msob.jima.platform.api.domain.criteria.BaseDomainCriteria;
 import ir.msob.jima.platform.api.domain.domain.BaseDomain;
 import ir.msob.jima.platform.api.domain.dto.BaseDomainDto;
@@ -69,4 +70,23 @@ public interface BaseGetPageDomainCrudReactiveService<ID extends Comparable<ID>
         logger.debug("GetPage, criteria: {}, user: {}", criteria, user);
         return this.doGetPage(criteria, pageable, user);
     }
-}
\ No newline at end of file
+
+    /**
+     * Retrieve a page of DTO entities based on specific criteria and pagination, obtaining the total of the page
+     * with the given count strategy instead of the service's.
+     *
+     * @param criteria      The criteria used for filtering entities.
+     * @param pageable      The page information, including page number, size, and sorting.
+     * @param countStrategy How the total of the page is obtained.
+     * @param user          A user associated with the operation.
+     * @return A Mono emitting a Page of DTO entities.
+     * @throws DomainNotFoundException If the requested domain is not found.
+     * @throws BadRequestException     If the request is not well-formed or violates business rules.
+     */
+    @Transactional(readOnly = true)
+    @MethodStats
+    default Mono<@NonNull Page<@NonNull DTO>> getPage(C criteria, Pageable pageable, CountStrategy countStrategy, USER user) throws DomainNotFoundException, BadRequestException {
+        logger.debug("GetPage, criteria: {}, countStrategy: {}, user: {}", criteria, countStrategy, user);
+        return this.doGetPage(criteria, pageable, countStrategy, user);
+    }
+}
@@ -0,0 +1,58 @@
+package ir.msob.jima.crud.reactive.service.domain.read;
+
+import ir.msob.jima.crud.api.slice.SliceDto;
+import ir.msob.jima.crud.api.slice.SliceableDto;
+import ir.msob.jima.platform.api.domain.criteria.BaseDomainCriteria;
+import ir.msob.jima.platform.api.domain.domain.BaseDomain;
+import ir.msob.jima.platform.api.domain.dto.BaseDomainDto;
+import ir.msob.jima.platform.api.exception.badrequest.BadRequestException;
+import ir.msob.jima.platform.api.exception.domainnotfound.DomainNotFoundException;
+import ir.msob.jima.platform.api.logger.Logger;
+import ir.msob.jima.platform.api.logger.LoggerFactory;
+import ir.msob.jima.platform.api.methodstats.MethodStats;
+import ir.msob.jima.platform.api.security.BaseUser;
+import ir.msob.jima.platform.reactive.repository.BaseReactiveRepository;
+import org.jspecify.annotations.NonNull;
+import org.springframework.transaction.annotation.Transactional;
+import reactor.core.publisher.Mono;
+
+import java.io.Serializable;
+
+/**
+ * This interface defines a service for retrieving keyset (cursor) slices of DTO entities based on specific criteria.
+ * Unlike pages, slices continue from an opaque token instead of an offset, so deep slices are as cheap as the first.
+ *
+ * @param <ID>   The type of entity IDs.
+ * @param <USER> The type of the user associated with the operations.
+ * @param <D>    The type of the domain entities.
+ * @param <DTO>  The type of the DTO (Data Transfer Object) entities.
+ * @param <C>    The type of the criteria used for filtering entities.
+ * @param <R>    The type of the CRUD repository used for data access.
+ */
+public interface BaseGetSliceDomainCrudReactiveService<ID extends Comparable<ID> & Serializable, USER extends BaseUser,
+        D extends BaseDomain<ID>, DTO extends BaseDomainDto<ID>,
+        C extends BaseDomainCriteria<ID>,
+        R extends BaseReactiveRepository<ID, D, C>> extends ParentReadDomainCrudService<ID, USER, D, DTO, C, R> {
+
+    /**
+     * The logger for this service class.
+     */
+    Logger logger = LoggerFactory.getLogger(BaseGetSliceDomainCrudReactiveService.class);
+
+    /**
+     * Retrieve a slice of DTO entities based on specific criteria.
+     *
+     * @param criteria  The criteria used for filtering entities.
+     * @param sliceable The continuation token, size and order of the slice.
+     * @param user      A user associated with the operation.
+     * @return A Mono emitting the slice of DTO entities and the token of the next slice.
+     * @throws DomainNotFoundException If the requested domain is not found.
+     * @throws BadRequestException     If the token is malformed.
+     */
+    @Transactional(readOnly = true)
+    @MethodStats
+    default Mono<@NonNull SliceDto<DTO>> getSlice(C criteria, SliceableDto sliceable, USER user) throws DomainNotFoundException, BadRequestException {
+        logger.debug("GetSlice, criteria: {}, sliceable: {}, user: {}", criteria, sliceable, user);
+        return this.doGetSlice(criteria, sliceable, user);
+    }
+}
@@ -13,10 +13,12 @@ import ir.msob.jima.platform.api.util.CriteriaUtil;
 import ir.msob.jima.platform.reactive.repository.BaseReactiveRepository;
 import org.jspecify.annotations.NonNull;
 import org.springframework.transaction.annotation.Transactional;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.io.Serializable;
 import java.util.Collection;
+import java.util.function.Function;
 
 /**
  * This service interface defines the contract for executing delete operations, specifically for deleting multiple entities that match a set of criteria or a list of IDs.
@@ -66,4 +68,26 @@ public interface BaseDeleteManyDomainCrudReactiveService<ID extends Comparable<I
         return this.doDeleteMany(criteria, user);
     }
 
+    /**
+     * Deletes a stream of ids in chunks, like {@link BaseSaveManyDomainCrudReactiveService#saveMany(Flux, BaseUser)}.
+     *
+     * @param ids  The stream of ids to be deleted.
+     * @param user A user associated with the operation.
+     * @return A Flux of the deleted ids.
+     */
+    @MethodStats
+    default Flux<@NonNull ID> deleteMany(Flux<ID> ids, USER user) {
+        return ids.bufferTimeout(getWriteBatchSize(), getStreamWindowTimeout(), true)
+                .concatMap(chunk -> getSelf().deleteMany(chunk, user), 0)
+                .flatMapIterable(Function.identity());
+    }
+
+    /**
+     * The bean the chunks of streamed deletes go through, see {@link BaseSaveManyDomainCrudReactiveService#getSelf()}.
+     *
+     * @return This service, unless overridden.
+     */
+    default BaseDeleteManyDomainCrudReactiveService<ID, USER, D, DTO, C, R> getSelf() {
+        return this;
+    }
 }
\ No newline at end of file
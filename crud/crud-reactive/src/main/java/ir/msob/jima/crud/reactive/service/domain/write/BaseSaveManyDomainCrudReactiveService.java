@@ -17,8 +17,8 @@ import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.io.Serializable;
-import java.util.ArrayList;
 import java.util.Collection;
+import java.util.function.Function;
 
 /**
  * This service interface defines the contract for executing batch save operations for a collection of entities (DTOs).
@@ -35,7 +35,7 @@ public interface BaseSaveManyDomainCrudReactiveService<ID extends Comparable<ID>
     Logger logger = LoggerFactory.getLogger(BaseSaveManyDomainCrudReactiveService.class);
 
     /**
-     * Executes a batch save operation for a collection of entities (DTOs). Each DTO is validated, prepared, and saved individually.
+     * Executes a batch save operation for a collection of entities (DTOs). DTOs are validated and prepared individually, then written to the repository in chunks.
      * This method is transactional and is also annotated with @MethodStats for performance monitoring.
      *
      * @param dtos The collection of DTOs to be saved.
@@ -49,13 +49,36 @@ public interface BaseSaveManyDomainCrudReactiveService<ID extends Comparable<ID>
     default Mono<@NonNull Collection<DTO>> saveMany(Collection<@Valid DTO> dtos, USER user) throws BadRequestException, DomainNotFoundException {
         logger.debug("SaveMany, dtos.size: {}, user {}", dtos.size(), user);
 
-        // Convert the collection of DTOs into a Flux stream
-        // For each DTO in the stream, call the save method
-        // Collect the result into a list and convert it into an ArrayList
-        return Flux.fromIterable(dtos)
-                .flatMap(dto -> doSave(dto, user))
-                .collectList()
-                .map(ArrayList::new);
+        // Save the DTOs in chunks, each chunk written with a single multi-document insert
+        return this.doSaveMany(dtos, user);
     }
 
+    /**
+     * Saves a stream of DTOs. DTOs are grouped into chunks of up to {@link #getWriteBatchSize()} (or whatever arrived
+     * within {@link #getStreamWindowTimeout()}), each chunk is saved like {@link #saveMany(Collection, BaseUser)} and
+     * its saved DTOs are emitted before the next chunk is written. Chunks are requested one at a time, so at most
+     * {@link #getWriteBatchSize()} DTOs are requested from the source while a chunk is written and a slow repository
+     * slows the producer down instead of buffering the stream. Chunks are saved through {@link #getSelf()}.
+     *
+     * @param dtos The stream of DTOs to be saved.
+     * @param user A user associated with the operation.
+     * @return A Flux of the saved DTOs, in input order.
+     */
+    @MethodStats
+    default Flux<@NonNull DTO> saveMany(Flux<@Valid DTO> dtos, USER user) {
+        return dtos.bufferTimeout(getWriteBatchSize(), getStreamWindowTimeout(), true)
+                .concatMap(chunk -> getSelf().saveMany(chunk, user), 0)
+                .flatMapIterable(Function.identity());
+    }
+
+    /**
+     * The bean the chunks of streamed writes go through. Spring applies @Transactional and @MethodStats with a proxy
+     * of the service bean, which a call on {@code this} skips, so a service whose streamed writes must run one
+     * transaction per chunk returns its proxied bean here, e.g. a self-injected {@code @Lazy} field.
+     *
+     * @return This service, unless overridden.
+     */
+    default BaseSaveManyDomainCrudReactiveService<ID, USER, D, DTO, C, R> getSelf() {
+        return this;
+    }
 }
\ No newline at end of file
@@ -14,10 +14,12 @@ import ir.msob.jima.platform.reactive.repository.BaseReactiveRepository;
 import jakarta.validation.Valid;
 import org.jspecify.annotations.NonNull;
 import org.springframework.transaction.annotation.Transactional;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.io.Serializable;
 import java.util.Collection;
+import java.util.function.Function;
 
 /**
  * This service interface defines the contract for executing batch update operations on multiple entities (DTOs).
@@ -70,4 +72,27 @@ public interface BaseUpdateManyDomainCrudReactiveService<ID extends Comparable<I
         return this.doUpdateMany(previousDtos, dtos, user);
     }
 
+    /**
+     * Updates a stream of DTOs in chunks, like {@link BaseSaveManyDomainCrudReactiveService#saveMany(Flux, BaseUser)}.
+     * The previous DTOs of each chunk are read with one query.
+     *
+     * @param dtos The stream of DTOs to be updated.
+     * @param user A user associated with the operation.
+     * @return A Flux of the updated DTOs, in input order.
+     */
+    @MethodStats
+    default Flux<@NonNull DTO> updateMany(Flux<@Valid DTO> dtos, USER user) {
+        return dtos.bufferTimeout(getWriteBatchSize(), getStreamWindowTimeout(), true)
+                .concatMap(chunk -> getSelf().updateMany(chunk, user), 0)
+                .flatMapIterable(Function.identity());
+    }
+
+    /**
+     * The bean the chunks of streamed updates go through, see {@link BaseSaveManyDomainCrudReactiveService#getSelf()}.
+     *
+     * @return This service, unless overridden.
+     */
+    default BaseUpdateManyDomainCrudReactiveService<ID, USER, D, DTO, C, R> getSelf() {
+        return this;
+    }
 }
\ No newline at end of file
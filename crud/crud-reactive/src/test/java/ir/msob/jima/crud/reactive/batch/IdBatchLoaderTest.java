@@ -0,0 +1,76 @@
+package ir.msob.jima.crud.reactive.batch;
+
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.util.context.Context;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IdBatchLoaderTest {
+
+    @Test
+    void testConcurrentLookupsShareOneLoad() {
+        List<Collection<String>> loads = new ArrayList<>();
+        IdBatchLoader<String, String, String> loader = new IdBatchLoader<>("test", (ids, user) -> {
+            loads.add(ids);
+            return Mono.just(ids.stream().filter(id -> !id.equals("missing")).collect(Collectors.toMap(Function.identity(), id -> id + "-dto")));
+        }, 100, Duration.ofMillis(20));
+
+        var result = Mono.zip(loader.load("a", "user"), loader.load("b", "user"), loader.load("a", "user")).block();
+
+        assertNotNull(result);
+        assertEquals("a-dto", result.getT1());
+        assertEquals("b-dto", result.getT2());
+        assertEquals("a-dto", result.getT3());
+        assertEquals(1, loads.size());
+        assertEquals(List.of("a", "b"), List.copyOf(loads.get(0)));
+        assertNull(loader.load("missing", "user").block());
+    }
+
+    @Test
+    void testBatchesAreKeptPerUser() {
+        List<String> users = new ArrayList<>();
+        IdBatchLoader<String, String, String> loader = new IdBatchLoader<>("test", (ids, user) -> {
+            synchronized (users) {
+                users.add(user);
+            }
+            return Mono.just(Map.of("a", user));
+        }, 100, Duration.ofMillis(20));
+
+        var result = Mono.zip(loader.load("a", "first"), loader.load("a", "second")).block();
+
+        assertNotNull(result);
+        assertEquals("first", result.getT1());
+        assertEquals("second", result.getT2());
+        assertEquals(2, users.size());
+    }
+
+    @Test
+    void testFullBatchIsLoadedBeforeItsWindowEnds() {
+        IdBatchLoader<String, String, String> loader = new IdBatchLoader<>("test",
+                (ids, user) -> Mono.just(Map.of("a", "a-dto", "b", "b-dto")), 2, Duration.ofHours(1));
+
+        var result = Mono.zip(loader.load("a", "user"), loader.load("b", "user")).block(Duration.ofSeconds(5));
+
+        assertNotNull(result);
+        assertEquals("a-dto", result.getT1());
+    }
+
+    @Test
+    void testLoaderRunsInTheContextOfTheFirstLookup() {
+        IdBatchLoader<String, String, String> loader = new IdBatchLoader<>("test",
+                (ids, user) -> Mono.deferContextual(context -> Mono.just(Map.of("a", context.get("tenant")))), 100, Duration.ofMillis(5));
+
+        String dto = loader.load("a", "user").contextWrite(Context.of("tenant", "acme")).block(Duration.ofSeconds(5));
+
+        assertEquals("acme", dto);
+    }
+}
@@ -0,0 +1,35 @@
+package ir.msob.jima.crud.reactive.service.domain.operation;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ReactiveLifecycleOperationComponentTest {
+
+    @Test
+    void testIsOverriddenDependsOnTheBaseType() {
+        Child child = new Child();
+
+        // A method declared in Parent is an override below Base, but not below Parent itself
+        assertTrue(ReactiveLifecycleOperationComponent.isOverridden(child, "hook", Base.class));
+        assertFalse(ReactiveLifecycleOperationComponent.isOverridden(child, "hook", Parent.class));
+        assertTrue(ReactiveLifecycleOperationComponent.isOverridden(child, "own", Parent.class));
+    }
+
+    interface Base {
+        default void hook() {
+        }
+    }
+
+    static class Parent implements Base {
+        @Override
+        public void hook() {
+        }
+    }
+
+    static class Child extends Parent {
+        public void own() {
+        }
+    }
+}
@@ -0,0 +1,442 @@
+package ir.msob.jima.crud.test.repository;
+
+import ir.msob.jima.platform.api.element.criteria.BaseElementCriteria;
+import ir.msob.jima.platform.api.element.element.BaseElement;
+import ir.msob.jima.platform.api.element.element.BaseElementAbstract;
+import ir.msob.jima.platform.api.filter.Filter;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.util.ReflectionUtils;
+
+import java.io.Serializable;
+import java.lang.reflect.Field;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * An in-memory store of domains that evaluates criteria the way the repositories do, so services can run
+ * in-process without a database. It backs the in-memory repositories of the testing modules.
+ * <p>
+ * Every {@link Filter} field of a criteria is matched against the domain field of the same name; {@code eq},
+ * {@code in} and the {@code gt}/{@code gte}/{@code lt}/{@code lte} ranges are supported, other operators are
+ * ignored. Domains are kept in id order, and every indexed field has a concurrent sorted index from value to ids,
+ * so criteria on the id or on an indexed field only visit the matching domains. Indexed fields must hold
+ * {@link Comparable} values.
+ * <p>
+ * Writes are serialized, reads are lock-free and see every completed write. Domains are stored and returned by
+ * reference, callers must not modify them in place. {@link #setLatency(Operation, Duration)} adds a fixed latency
+ * to an operation of the repositories built on this store.
+ *
+ * @param <ID> The type of entity ID.
+ * @param <D>  The type of domain entity.
+ * @param <C>  The type of criteria used for querying domain entities.
+ */
+public class InMemoryStore<ID extends Comparable<ID> & Serializable, D extends BaseElement<ID>, C extends BaseElementCriteria<ID>> {
+    private static final String ID_FIELD = String.valueOf(BaseElementAbstract.FN.id);
+    private static final Comparator<Object> VALUE_ORDER = Comparator.nullsFirst(InMemoryStore::compare);
+
+    private final ConcurrentSkipListMap<ID, D> domains = new ConcurrentSkipListMap<>();
+    private final Map<String, ConcurrentSkipListMap<Object, Set<ID>>> indexes = new ConcurrentHashMap<>();
+    private final Map<ID, Object[]> indexedValues = new ConcurrentHashMap<>();
+    private final List<String> indexedFields;
+    private final Supplier<ID> idGenerator;
+    private final Map<Operation, Duration> latencies = new ConcurrentHashMap<>();
+    private final Map<Class<?>, List<Field>> filterFields = new ConcurrentHashMap<>();
+    private final Map<Class<?>, Map<String, Optional<Field>>> domainFields = new ConcurrentHashMap<>();
+
+    /**
+     * @param idGenerator   Generates the id of an inserted domain that has none.
+     * @param indexedFields The domain fields to keep a sorted index for. The id is always indexed.
+     */
+    public InMemoryStore(Supplier<ID> idGenerator, String... indexedFields) {
+        this.idGenerator = idGenerator;
+        this.indexedFields = List.copyOf(Arrays.asList(indexedFields));
+        this.indexedFields.forEach(field -> indexes.put(field, new ConcurrentSkipListMap<>(VALUE_ORDER)));
+    }
+
+    /**
+     * Inserts a domain, giving it an id if it has none. A domain with the id of a stored one replaces it.
+     *
+     * @param domain The domain to insert.
+     * @return The inserted domain.
+     */
+    public synchronized D insert(D domain) {
+        if (domain.getId() == null) {
+            domain.setId(idGenerator.get());
+        }
+        return put(domain);
+    }
+
+    /**
+     * Stores a domain under its id, replacing the stored one.
+     *
+     * @param domain The domain to store.
+     * @return The stored domain.
+     */
+    public synchronized D update(D domain) {
+        return put(domain);
+    }
+
+    /**
+     * Removes the domains matching the criteria.
+     *
+     * @param criteria The criteria selecting the domains, null for all of them.
+     * @param limit    The maximum number of domains to remove.
+     * @return The removed domains, in id order.
+     */
+    public synchronized List<D> remove(C criteria, long limit) {
+        List<D> removed = stream(criteria).limit(limit).toList();
+        removed.forEach(domain -> {
+            domains.remove(domain.getId());
+            unindex(domain.getId());
+        });
+        return removed;
+    }
+
+    /**
+     * Removes every domain.
+     */
+    public synchronized void clear() {
+        domains.clear();
+        indexedValues.clear();
+        indexes.values().forEach(Map::clear);
+    }
+
+    /**
+     * @param criteria The criteria selecting the domains, null for all of them.
+     * @return The matching domains, in id order.
+     */
+    public Stream<D> stream(C criteria) {
+        List<Condition> conditions = conditions(criteria);
+        return candidates(conditions).filter(domain -> matches(domain, conditions));
+    }
+
+    /**
+     * @param criteria The criteria selecting the domains, null for all of them.
+     * @param sort     The order of the domains; unsorted keeps the id order.
+     * @return The matching domains.
+     */
+    public List<D> find(C criteria, Sort sort) {
+        return sorted(stream(criteria), sort).toList();
+    }
+
+    /**
+     * Reads one page of the matching domains and counts all of them.
+     *
+     * @param criteria The criteria selecting the domains, null for all of them.
+     * @param pageable The sort, the offset and the size of the page.
+     * @return The page.
+     */
+    public Page<D> findPage(C criteria, Pageable pageable) {
+        List<D> matches = find(criteria, pageable.getSort());
+        if (pageable.isUnpaged()) {
+            return new PageImpl<>(matches, pageable, matches.size());
+        }
+        List<D> content = matches.stream()
+                .skip(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .toList();
+        return new PageImpl<>(content, pageable, matches.size());
+    }
+
+    /**
+     * Reads one page of the matching domains without counting them. Unsorted or id-ascending slices stop as soon
+     * as the page is full.
+     *
+     * @param criteria The criteria selecting the domains, null for all of them.
+     * @param pageable The sort, the offset and the size of the slice.
+     * @return The domains of the slice.
+     */
+    public List<D> findSlice(C criteria, Pageable pageable) {
+        Stream<D> matches = sorted(stream(criteria), pageable.getSort());
+        if (pageable.isUnpaged()) {
+            return matches.toList();
+        }
+        return matches.skip(pageable.getOffset()).limit(pageable.getPageSize()).toList();
+    }
+
+    /**
+     * @param criteria The criteria selecting the domains, null for all of them.
+     * @return The number of matching domains.
+     */
+    public long count(C criteria) {
+        List<Condition> conditions = conditions(criteria);
+        if (conditions.isEmpty()) {
+            return domains.size();
+        }
+        return candidates(conditions).filter(domain -> matches(domain, conditions)).count();
+    }
+
+    /**
+     * @return The number of stored domains.
+     */
+    public long size() {
+        return domains.size();
+    }
+
+    /**
+     * @param operation The repository operation.
+     * @return The latency added to the operation, {@link Duration#ZERO} by default.
+     */
+    public Duration getLatency(Operation operation) {
+        return latencies.getOrDefault(operation, Duration.ZERO);
+    }
+
+    /**
+     * Adds a fixed latency to an operation of the repositories built on this store.
+     *
+     * @param operation The repository operation.
+     * @param latency   The latency, {@link Duration#ZERO} for none.
+     */
+    public void setLatency(Operation operation, Duration latency) {
+        latencies.put(operation, latency);
+    }
+
+    private D put(D domain) {
+        ID id = domain.getId();
+        unindex(id);
+        domains.put(id, domain);
+        Object[] values = new Object[indexedFields.size()];
+        for (int i = 0; i < values.length; i++) {
+            values[i] = value(domain, indexedFields.get(i));
+            if (values[i] != null) {
+                indexes.get(indexedFields.get(i)).computeIfAbsent(values[i], k -> ConcurrentHashMap.newKeySet()).add(id);
+            }
+        }
+        indexedValues.put(id, values);
+        return domain;
+    }
+
+    private void unindex(ID id) {
+        Object[] values = indexedValues.remove(id);
+        if (values == null) {
+            return;
+        }
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] != null) {
+                ConcurrentSkipListMap<Object, Set<ID>> index = indexes.get(indexedFields.get(i));
+                Set<ID> ids = index.get(values[i]);
+                if (ids != null && ids.remove(id) && ids.isEmpty()) {
+                    index.remove(values[i]);
+                }
+            }
+        }
+    }
+
+    /**
+     * The domains worth matching: those an id or indexed condition selects, otherwise all of them, in id order.
+     */
+    @SuppressWarnings("unchecked")
+    private Stream<D> candidates(List<Condition> conditions) {
+        for (Condition condition : conditions) {
+            if (!condition.isSelective()) {
+                continue;
+            }
+            if (ID_FIELD.equals(condition.field())) {
+                return select((NavigableMap<Object, D>) (NavigableMap<?, D>) domains, condition.filter()).values().stream();
+            }
+            ConcurrentSkipListMap<Object, Set<ID>> index = indexes.get(condition.field());
+            if (index != null) {
+                Set<ID> ids = new TreeSet<>();
+                select(index, condition.filter()).values().forEach(ids::addAll);
+                return ids.stream().map(domains::get).filter(Objects::nonNull);
+            }
+        }
+        return domains.values().stream();
+    }
+
+    /**
+     * The part of a sorted map an eq, in or range filter selects.
+     */
+    private static <V> NavigableMap<Object, V> select(NavigableMap<Object, V> map, Filter<?> filter) {
+        try {
+            if (filter.getEq() != null) {
+                return map.subMap(filter.getEq(), true, filter.getEq(), true);
+            }
+            if (filter.getIn() != null) {
+                NavigableMap<Object, V> selected = new ConcurrentSkipListMap<>(VALUE_ORDER);
+                filter.getIn().forEach(value -> {
+                    V v = map.get(value);
+                    if (v != null) {
+                        selected.put(value, v);
+                    }
+                });
+                return selected;
+            }
+            NavigableMap<Object, V> range = map;
+            if (filter.getGte() != null) {
+                range = range.tailMap(filter.getGte(), true);
+            } else if (filter.getGt() != null) {
+                range = range.tailMap(filter.getGt(), false);
+            }
+            if (filter.getLte() != null) {
+                range = range.headMap(filter.getLte(), true);
+            } else if (filter.getLt() != null) {
+                range = range.headMap(filter.getLt(), false);
+            }
+            return range;
+        } catch (IllegalArgumentException | ClassCastException e) {
+            // An empty range (lower bound above the upper one) or a value of another type than the index
+            return new ConcurrentSkipListMap<>(VALUE_ORDER);
+        }
+    }
+
+    private boolean matches(D domain, List<Condition> conditions) {
+        for (Condition condition : conditions) {
+            if (!matches(value(domain, condition.field()), condition.filter())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean matches(Object value, Filter<?> filter) {
+        try {
+            if (filter.getEq() != null && !equal(value, filter.getEq())) {
+                return false;
+            }
+            if (filter.getIn() != null && filter.getIn().stream().noneMatch(in -> equal(value, in))) {
+                return false;
+            }
+            if (filter.getGt() != null && (value == null || compare(value, filter.getGt()) <= 0)) {
+                return false;
+            }
+            if (filter.getGte() != null && (value == null || compare(value, filter.getGte()) < 0)) {
+                return false;
+            }
+            if (filter.getLt() != null && (value == null || compare(value, filter.getLt()) >= 0)) {
+                return false;
+            }
+            return filter.getLte() == null || (value != null && compare(value, filter.getLte()) <= 0);
+        } catch (ClassCastException e) {
+            return false;
+        }
+    }
+
+    private Stream<D> sorted(Stream<D> domains, Sort sort) {
+        if (sort.isUnsorted()) {
+            return domains;
+        }
+        List<Sort.Order> orders = sort.toList();
+        if (orders.size() == 1 && ID_FIELD.equals(orders.get(0).getProperty())) {
+            if (orders.get(0).isAscending()) {
+                return domains;
+            }
+            List<D> descending = new ArrayList<>(domains.toList());
+            Collections.reverse(descending);
+            return descending.stream();
+        }
+        Comparator<D> comparator = null;
+        for (Sort.Order order : orders) {
+            Comparator<D> byField = Comparator.comparing(domain -> value(domain, order.getProperty()), VALUE_ORDER);
+            if (order.isDescending()) {
+                byField = byField.reversed();
+            }
+            comparator = comparator == null ? byField : comparator.thenComparing(byField);
+        }
+        return domains.sorted(comparator);
+    }
+
+    private List<Condition> conditions(C criteria) {
+        if (criteria == null) {
+            return List.of();
+        }
+        List<Condition> conditions = new ArrayList<>();
+        for (Field field : filterFields.computeIfAbsent(criteria.getClass(), InMemoryStore::filterFields)) {
+            Filter<?> filter = (Filter<?>) ReflectionUtils.getField(field, criteria);
+            if (filter != null) {
+                conditions.add(new Condition(field.getName(), filter));
+            }
+        }
+        return conditions;
+    }
+
+    private static List<Field> filterFields(Class<?> criteriaClass) {
+        List<Field> fields = new ArrayList<>();
+        ReflectionUtils.doWithFields(criteriaClass, field -> {
+            ReflectionUtils.makeAccessible(field);
+            fields.add(field);
+        }, field -> Filter.class.isAssignableFrom(field.getType()));
+        return List.copyOf(fields);
+    }
+
+    private Object value(D domain, String fieldName) {
+        if (ID_FIELD.equals(fieldName)) {
+            return domain.getId();
+        }
+        Optional<Field> field = domainFields
+                .computeIfAbsent(domain.getClass(), k -> new ConcurrentHashMap<>())
+                .computeIfAbsent(fieldName, name -> {
+                    Field f = ReflectionUtils.findField(domain.getClass(), name);
+                    if (f != null) {
+                        ReflectionUtils.makeAccessible(f);
+                    }
+                    return Optional.ofNullable(f);
+                });
+        return field.map(f -> ReflectionUtils.getField(f, domain)).orElse(null);
+    }
+
+    private static boolean equal(Object value, Object expected) {
+        if (value instanceof Number && expected instanceof Number) {
+            return compare(value, expected) == 0;
+        }
+        return Objects.equals(value, expected);
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static int compare(Object a, Object b) {
+        if (a instanceof Number x && b instanceof Number y && a.getClass() != b.getClass()) {
+            return Double.compare(x.doubleValue(), y.doubleValue());
+        }
+        return ((Comparable) a).compareTo(b);
+    }
+
+    /**
+     * The repository operations a latency can be added to.
+     */
+    public enum Operation {
+        /**
+         * getOne, getMany, getPage and getSlice.
+         */
+        READ,
+        /**
+         * count and estimatedCount.
+         */
+        COUNT,
+        /**
+         * insertOne, insertMany, updateOne and updateMany.
+         */
+        WRITE,
+        /**
+         * removeOne and removeMany.
+         */
+        REMOVE
+    }
+
+    private record Condition(String field, Filter<?> filter) {
+        /**
+         * Whether the filter narrows the field down to known values or a range, so an index can serve it.
+         */
+        boolean isSelective() {
+            return filter.getEq() != null || filter.getIn() != null
+                    || filter.getGt() != null || filter.getGte() != null
+                    || filter.getLt() != null || filter.getLte() != null;
+        }
+    }
+}
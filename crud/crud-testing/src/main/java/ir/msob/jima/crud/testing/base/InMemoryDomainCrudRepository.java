@@ -0,0 +1,105 @@
+package ir.msob.jima.crud.testing.base;
+
+import ir.msob.jima.crud.test.repository.InMemoryStore;
+import ir.msob.jima.platform.api.repository.BaseRepository;
+import ir.msob.jima.platform.testing.criteria.ProjectCriteria;
+import ir.msob.jima.platform.testing.domain.ProjectDomain;
+import lombok.Getter;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * A repository over an {@link InMemoryStore}, for benchmarks, stress tests and embedded runs that must not depend
+ * on Mongo. Ids are random UUIDs. Latencies set on the store park the calling thread before the matching
+ * operations.
+ *
+ * @param <D>
+ * @param <C>
+ */
+@Getter
+public class InMemoryDomainCrudRepository<D extends ProjectDomain, C extends ProjectCriteria>
+        implements BaseRepository<String, D, C> {
+
+    private final InMemoryStore<String, D, C> store;
+
+    /**
+     * @param indexedFields The domain fields to keep a sorted index for.
+     */
+    public InMemoryDomainCrudRepository(String... indexedFields) {
+        this.store = new InMemoryStore<>(() -> UUID.randomUUID().toString(), indexedFields);
+    }
+
+    @Override
+    public D insertOne(D domain) {
+        delay(InMemoryStore.Operation.WRITE);
+        return store.insert(domain);
+    }
+
+    @Override
+    public List<D> insertMany(Collection<D> domains) {
+        delay(InMemoryStore.Operation.WRITE);
+        return domains.stream().map(store::insert).toList();
+    }
+
+    @Override
+    public D updateOne(D domain) {
+        delay(InMemoryStore.Operation.WRITE);
+        return store.update(domain);
+    }
+
+    @Override
+    public List<D> updateMany(Collection<D> domains) {
+        delay(InMemoryStore.Operation.WRITE);
+        return domains.stream().map(store::update).toList();
+    }
+
+    @Override
+    public D removeOne(C criteria) {
+        delay(InMemoryStore.Operation.REMOVE);
+        return store.remove(criteria, 1).stream().findFirst().orElse(null);
+    }
+
+    @Override
+    public List<D> removeMany(C criteria) {
+        delay(InMemoryStore.Operation.REMOVE);
+        return store.remove(criteria, Long.MAX_VALUE);
+    }
+
+    @Override
+    public D getOne(C criteria) {
+        delay(InMemoryStore.Operation.READ);
+        return store.stream(criteria).findFirst().orElse(null);
+    }
+
+    @Override
+    public List<D> getMany(C criteria) {
+        delay(InMemoryStore.Operation.READ);
+        return store.find(criteria, Sort.unsorted());
+    }
+
+    @Override
+    public Page<D> getPage(C criteria, Pageable pageable) {
+        delay(InMemoryStore.Operation.READ);
+        return store.findPage(criteria, pageable);
+    }
+
+    @Override
+    public Long count(C criteria) {
+        delay(InMemoryStore.Operation.COUNT);
+        return store.count(criteria);
+    }
+
+    private void delay(InMemoryStore.Operation operation) {
+        Duration latency = store.getLatency(operation);
+        if (!latency.isZero()) {
+            LockSupport.parkNanos(latency.toNanos());
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package ir.msob.jima.graphql.restful.api.model;
+
+import ir.msob.jima.platform.api.shared.BaseType;
+import lombok.*;
+
+@Setter
+@Getter
+@Builder
+@ToString
+@AllArgsConstructor
+@NoArgsConstructor
+public class CriteriaSliceableInput implements BaseType {
+    private String criteria;
+    private String sliceable;
+}
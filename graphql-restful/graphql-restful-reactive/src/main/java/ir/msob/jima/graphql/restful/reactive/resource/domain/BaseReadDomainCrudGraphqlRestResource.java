@@ -43,5 +43,6 @@ public interface BaseReadDomainCrudGraphqlRestResource<
         BaseGetManyDomainCrudGraphqlRestResource<ID, USER, D, DTO, C, R, S>,
         BaseGetByIdDomainCrudGraphqlRestResource<ID, USER, D, DTO, C, R, S>,
         BaseGetOneDomainCrudGraphqlRestResource<ID, USER, D, DTO, C, R, S>,
-        BaseGetPageDomainCrudGraphqlRestResource<ID, USER, D, DTO, C, R, S> {
+        BaseGetPageDomainCrudGraphqlRestResource<ID, USER, D, DTO, C, R, S>,
+        BaseGetSliceDomainCrudGraphqlRestResource<ID, USER, D, DTO, C, R, S> {
 }
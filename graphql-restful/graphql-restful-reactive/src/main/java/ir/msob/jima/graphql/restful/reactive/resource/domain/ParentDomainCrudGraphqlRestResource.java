@@ -3,6 +3,7 @@ package ir.msob.jima.graphql.restful.reactive.resource.domain;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.github.fge.jsonpatch.JsonPatch;
 import ir.msob.jima.crud.api.resource.BaseCrudResource;
+import ir.msob.jima.crud.api.slice.SliceableDto;
 import ir.msob.jima.crud.reactive.service.domain.BaseDomainCrudReactiveService;
 import ir.msob.jima.platform.api.domain.criteria.BaseDomainCriteria;
 import ir.msob.jima.platform.api.domain.domain.BaseDomain;
@@ -162,4 +163,17 @@ public interface ParentDomainCrudGraphqlRestResource<ID extends Comparable<ID> &
     default PageableDto convertToPageableDto(String pageable) {
         return getObjectMapper().reader().readValue(pageable, PageableDto.class);
     }
+
+    /**
+     * Converts a sliceable string to a {@code SliceableDto} object; a missing sliceable is the first slice.
+     *
+     * @param sliceable The sliceable string.
+     * @return The {@code SliceableDto} object.
+     */
+    @SneakyThrows
+    default SliceableDto convertToSliceableDto(String sliceable) {
+        return sliceable == null || sliceable.isEmpty()
+                ? new SliceableDto()
+                : getObjectMapper().reader().readValue(sliceable, SliceableDto.class);
+    }
 }
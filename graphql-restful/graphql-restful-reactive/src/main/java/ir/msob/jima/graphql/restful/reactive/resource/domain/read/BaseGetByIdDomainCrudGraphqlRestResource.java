@@ -48,7 +48,8 @@ public interface BaseGetByIdDomainCrudGraphqlRestResource<
     Logger logger = LoggerFactory.getLogger(BaseGetByIdDomainCrudGraphqlRestResource.class);
 
     /**
-     * Retrieves a single entity based on the provided ID.
+     * Retrieves a single entity based on the provided ID. The getById fields of one request (e.g. aliased) are
+     * batched into a single ID query through the service's getOneBatched.
      *
      * @param input The ID of the entity to be retrieved.
      * @param token The authorization token for authentication (optional).
@@ -64,7 +65,7 @@ public interface BaseGetByIdDomainCrudGraphqlRestResource<
 
         USER user = getUser(token);
 
-        return getService().getOne(convertToId(input.getId()), user)
+        return getService().getOneBatched(convertToId(input.getId()), user)
                 .map(dto -> DtoType.builder().dto(convertToString(dto)).build());
     }
 
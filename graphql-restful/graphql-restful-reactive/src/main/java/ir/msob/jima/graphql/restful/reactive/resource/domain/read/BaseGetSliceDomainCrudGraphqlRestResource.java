@@ -0,0 +1,74 @@
+package ir.msob.jima.graphql.restful.reactive.resource.domain.read;
+
+import ir.msob.jima.crud.reactive.service.domain.BaseDomainCrudReactiveService;
+import ir.msob.jima.graphql.restful.api.model.CriteriaSliceableInput;
+import ir.msob.jima.graphql.restful.api.model.SliceType;
+import ir.msob.jima.graphql.restful.reactive.resource.domain.ParentDomainCrudGraphqlRestResource;
+import ir.msob.jima.platform.api.domain.criteria.BaseDomainCriteria;
+import ir.msob.jima.platform.api.domain.domain.BaseDomain;
+import ir.msob.jima.platform.api.domain.dto.BaseDomainDto;
+import ir.msob.jima.platform.api.exception.badrequest.BadRequestException;
+import ir.msob.jima.platform.api.exception.domainnotfound.DomainNotFoundException;
+import ir.msob.jima.platform.api.logger.Logger;
+import ir.msob.jima.platform.api.logger.LoggerFactory;
+import ir.msob.jima.platform.api.methodstats.MethodStats;
+import ir.msob.jima.platform.api.operation.Operations;
+import ir.msob.jima.platform.api.scope.Scope;
+import ir.msob.jima.platform.api.security.BaseUser;
+import ir.msob.jima.platform.reactive.repository.BaseReactiveRepository;
+import org.jspecify.annotations.NonNull;
+import org.springframework.graphql.data.method.annotation.Argument;
+import org.springframework.graphql.data.method.annotation.ContextValue;
+import org.springframework.graphql.data.method.annotation.QueryMapping;
+import org.springframework.http.HttpHeaders;
+import reactor.core.publisher.Mono;
+
+import java.io.Serializable;
+
+/**
+ * The {@code BaseGetSliceDomainCrudGraphqlRestResource} interface defines a GraphQL query for retrieving a keyset
+ * (cursor) slice of entities based on specified criteria. The slice is returned with the opaque token of the next
+ * slice, so deep slices cost the same as the first one.
+ *
+ * @param <ID>   The type of the resource ID, which should be comparable and serializable.
+ * @param <USER> The type of the user associated with the resource, extending {@code BaseUser}.
+ * @param <D>    The type of the resource domain, extending {@code BaseDomain<ID>}.
+ * @param <DTO>  The type of the data transfer object associated with the resource, extending {@code BaseDomainDto<ID>}.
+ * @param <C>    The type of criteria associated with the resource, extending {@code BaseDomainCriteria<ID, USER>}.
+ * @param <R>    The type of the CRUD repository associated with the resource, extending {@code BaseReactiveRepository<ID, USER, D, C>}.
+ * @param <S>    The type of the CRUD service associated with the resource, extending {@code BaseChildDomainCrudService<ID, USER, D, DTO, C, R>}.
+ * @see ParentDomainCrudGraphqlRestResource
+ */
+public interface BaseGetSliceDomainCrudGraphqlRestResource<
+        ID extends Comparable<ID> & Serializable,
+        USER extends BaseUser,
+        D extends BaseDomain<ID>,
+        DTO extends BaseDomainDto<ID>,
+        C extends BaseDomainCriteria<ID>,
+        R extends BaseReactiveRepository<ID, D, C>,
+        S extends BaseDomainCrudReactiveService<ID, USER, D, DTO, C, R>
+        > extends ParentDomainCrudGraphqlRestResource<ID, USER, D, DTO, C, R, S> {
+    Logger logger = LoggerFactory.getLogger(BaseGetSliceDomainCrudGraphqlRestResource.class);
+
+    /**
+     * Retrieves a slice of entities based on specified criteria and sliceable configuration
+     * for the specified CRUD resource.
+     *
+     * @param input The criteria and sliceable input for fetching a slice of entities.
+     * @param token The authorization token for authentication (optional).
+     * @return A {@code Mono} emitting a {@code SliceType} containing the slice of entities as a string.
+     * @throws BadRequestException     If the request is malformed or the slice token is invalid.
+     * @throws DomainNotFoundException If the domain is not found.
+     */
+    @MethodStats
+    @QueryMapping
+    @Scope(operation = Operations.GET_PAGE)
+    default Mono<@NonNull SliceType> getSlice(@Argument("input") CriteriaSliceableInput input, @ContextValue(value = HttpHeaders.AUTHORIZATION, required = false) String token) throws BadRequestException, DomainNotFoundException {
+        logger.debug("Request to get slice: dto {}", input);
+
+        USER user = getUser(token);
+
+        return getService().getSlice(convertToCriteria(input.getCriteria()), convertToSliceableDto(input.getSliceable()), user)
+                .map(slice -> SliceType.builder().slice(convertToString(slice)).build());
+    }
+}
@@ -42,6 +42,7 @@ public abstract class BaseDomainCrudGrpcResource<
         BaseGetByIdDomainCrudGrpcResource<ID, USER, D, DTO, C, R, S>,
         BaseGetOneDomainCrudGrpcResource<ID, USER, D, DTO, C, R, S>,
         BaseGetPageDomainCrudGrpcResource<ID, USER, D, DTO, C, R, S>,
+        BaseGetSliceDomainCrudGrpcResource<ID, USER, D, DTO, C, R, S>,
         BaseDeleteByIdDomainCrudGrpcResource<ID, USER, D, DTO, C, R, S>,
         BaseDeleteDomainCrudGrpcResource<ID, USER, D, DTO, C, R, S>,
         BaseDeleteManyDomainCrudGrpcResource<ID, USER, D, DTO, C, R, S>,
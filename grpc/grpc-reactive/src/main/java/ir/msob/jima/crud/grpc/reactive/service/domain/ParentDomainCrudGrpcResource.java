@@ -3,6 +3,7 @@ package ir.msob.jima.crud.grpc.reactive.service.domain;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.github.fge.jsonpatch.JsonPatch;
 import ir.msob.jima.crud.api.resource.BaseCrudResource;
+import ir.msob.jima.crud.api.slice.SliceableDto;
 import ir.msob.jima.crud.grpc.reactive.proto.CrudServiceGrpc;
 import ir.msob.jima.crud.reactive.service.domain.BaseDomainCrudReactiveService;
 import ir.msob.jima.platform.api.domain.criteria.BaseDomainCriteria;
@@ -177,6 +178,19 @@ public interface ParentDomainCrudGrpcResource<
         return getObjectMapper().reader().readValue(pageable, PageableDto.class);
     }
 
+    /**
+     * Converts a string to a SliceableDto; an empty string is the first slice with the default size and order.
+     *
+     * @param sliceable The string to be converted.
+     * @return A SliceableDto.
+     */
+    @SneakyThrows
+    default SliceableDto convertToSliceableDto(String sliceable) {
+        return sliceable == null || sliceable.isEmpty()
+                ? new SliceableDto()
+                : getObjectMapper().reader().readValue(sliceable, SliceableDto.class);
+    }
+
     /**
      * Converts a string to an ID.
      *
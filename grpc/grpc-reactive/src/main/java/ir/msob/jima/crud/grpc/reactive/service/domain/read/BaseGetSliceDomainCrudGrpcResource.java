@@ -0,0 +1,59 @@
+package ir.msob.jima.crud.grpc.reactive.service.domain.read;
+
+import io.grpc.stub.StreamObserver;
+import ir.msob.jima.crud.grpc.reactive.proto.CriteriaSliceableMsg;
+import ir.msob.jima.crud.grpc.reactive.proto.SliceMsg;
+import ir.msob.jima.crud.grpc.reactive.service.domain.ParentDomainCrudGrpcResource;
+import ir.msob.jima.crud.reactive.service.domain.BaseDomainCrudReactiveService;
+import ir.msob.jima.platform.api.domain.criteria.BaseDomainCriteria;
+import ir.msob.jima.platform.api.domain.domain.BaseDomain;
+import ir.msob.jima.platform.api.domain.dto.BaseDomainDto;
+import ir.msob.jima.platform.api.logger.Logger;
+import ir.msob.jima.platform.api.logger.LoggerFactory;
+import ir.msob.jima.platform.api.methodstats.MethodStats;
+import ir.msob.jima.platform.api.operation.Operations;
+import ir.msob.jima.platform.api.scope.Scope;
+import ir.msob.jima.platform.api.security.BaseUser;
+import ir.msob.jima.platform.reactive.repository.BaseReactiveRepository;
+
+import java.io.Serializable;
+
+/**
+ * Interface for a gRPC resource that provides a method to get a keyset (cursor) slice of entities based on a given criteria.
+ *
+ * @param <ID>   The type of the ID, which must be Comparable and Serializable.
+ * @param <USER> The type of the User, which must extend BaseUser.
+ * @param <D>    The type of the Domain, which must extend BaseDomain.
+ * @param <DTO>  The type of the DTO, which must extend BaseDomainDto.
+ * @param <C>    The type of the Criteria, which must extend BaseDomainCriteria.
+ * @param <R>    The type of the Repository, which must extend BaseReactiveRepository.
+ * @param <S>    The type of the Service, which must extend BaseChildDomainCrudService.
+ */
+public interface BaseGetSliceDomainCrudGrpcResource<
+        ID extends Comparable<ID> & Serializable,
+        USER extends BaseUser,
+        D extends BaseDomain<ID>,
+        DTO extends BaseDomainDto<ID>,
+        C extends BaseDomainCriteria<ID>,
+        R extends BaseReactiveRepository<ID, D, C>,
+        S extends BaseDomainCrudReactiveService<ID, USER, D, DTO, C, R>>
+        extends ParentDomainCrudGrpcResource<ID, USER, D, DTO, C, R, S> {
+
+    Logger logger = LoggerFactory.getLogger(BaseGetSliceDomainCrudGrpcResource.class);
+
+    @MethodStats
+    @Scope(operation = Operations.GET_PAGE)
+    @Override
+    default void getSlice(CriteriaSliceableMsg request, StreamObserver<SliceMsg> responseObserver) {
+        logger.debug("Request to get slice: dto {}", request);
+        getService().getSlice(convertToCriteria(request.getCriteria()), convertToSliceableDto(request.getSliceable()), getUser())
+                .map(result -> SliceMsg.newBuilder()
+                        .setSlice(convertToString(result))
+                        .build())
+                .subscribe(
+                        responseObserver::onNext,
+                        responseObserver::onError,
+                        responseObserver::onCompleted
+                );
+    }
+}
@@ -51,6 +51,7 @@ public interface BaseDomainCrudKafkaListener<
         BaseGetManyDomainCrudKafkaListener<ID, USER, D, DTO, C, R, S>,
         BaseGetByIdDomainCrudKafkaListener<ID, USER, D, DTO, C, R, S>,
         BaseGetOneDomainCrudKafkaListener<ID, USER, D, DTO, C, R, S>,
-        BaseGetPageDomainCrudKafkaListener<ID, USER, D, DTO, C, R, S> {
+        BaseGetPageDomainCrudKafkaListener<ID, USER, D, DTO, C, R, S>,
+        BaseGetSliceDomainCrudKafkaListener<ID, USER, D, DTO, C, R, S> {
 
 }
\ No newline at end of file
@@ -0,0 +1,97 @@
+package ir.msob.jima.crud.kafka.reactive.resource.domain.read;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import ir.msob.jima.crud.api.operation.CrudOperations;
+import ir.msob.jima.crud.api.slice.SliceDto;
+import ir.msob.jima.crud.api.slice.SliceMessage;
+import ir.msob.jima.crud.api.slice.SliceableDto;
+import ir.msob.jima.crud.kafka.reactive.resource.domain.ParentDomainCrudKafkaListener;
+import ir.msob.jima.crud.reactive.service.domain.BaseDomainCrudReactiveService;
+import ir.msob.jima.platform.api.channel.ChannelMessage;
+import ir.msob.jima.platform.api.channel.ChannelUtil;
+import ir.msob.jima.platform.api.channel.message.CriteriaMessage;
+import ir.msob.jima.platform.api.domain.criteria.BaseDomainCriteria;
+import ir.msob.jima.platform.api.domain.domain.BaseDomain;
+import ir.msob.jima.platform.api.domain.dto.BaseDomainDto;
+import ir.msob.jima.platform.api.event.publish.PublishEvent;
+import ir.msob.jima.platform.api.logger.Logger;
+import ir.msob.jima.platform.api.logger.LoggerFactory;
+import ir.msob.jima.platform.api.methodstats.MethodStats;
+import ir.msob.jima.platform.api.operation.Operations;
+import ir.msob.jima.platform.api.operation.OperationsStatus;
+import ir.msob.jima.platform.api.scope.Scope;
+import ir.msob.jima.platform.api.security.BaseUser;
+import ir.msob.jima.platform.kafka.api.util.KafkaListenerUtil;
+import ir.msob.jima.platform.reactive.repository.BaseReactiveRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.SneakyThrows;
+import org.springframework.transaction.annotation.Transactional;
+import java.io.Serializable;
+
+/**
+ * Interface for a listener that handles CRUD operations for retrieving keyset (cursor) slices of entities based on a given criteria.
+ * The message is a criteria message whose data also carries a {@link SliceableDto} under {@value SliceableDto#FN_SLICEABLE}.
+ * The callback data is a {@link SliceMessage} carrying the {@link SliceDto}: the DTOs of the slice and the token of the
+ * next slice, null on the last one. Like the scope, the callback status is the one of {@code GET_PAGE}.
+ *
+ * @param <ID>   The type of the ID, which must be Comparable and Serializable.
+ * @param <USER> The type of the User, which must extend BaseUser.
+ * @param <D>    The type of the Domain, which must extend BaseDomain.
+ * @param <DTO>  The type of the DTO, which must extend BaseDomainDto.
+ * @param <C>    The type of the Criteria, which must extend BaseDomainCriteria.
+ * @param <R>    The type of the Repository, which must extend BaseReactiveRepository.
+ * @param <S>    The type of the Service, which must extend BaseChildDomainCrudService.
+ */
+public interface BaseGetSliceDomainCrudKafkaListener<
+        ID extends Comparable<ID> & Serializable,
+        USER extends BaseUser,
+        D extends BaseDomain<ID>,
+        DTO extends BaseDomainDto<ID>,
+        C extends BaseDomainCriteria<ID>,
+        R extends BaseReactiveRepository<ID, D, C>,
+        S extends BaseDomainCrudReactiveService<ID, USER, D, DTO, C, R>
+        > extends ParentDomainCrudKafkaListener<ID, USER, D, DTO, C, R, S> {
+
+    Logger logger = LoggerFactory.getLogger(BaseGetSliceDomainCrudKafkaListener.class);
+
+    /**
+     * Initializes the listener for the GET_SLICE operation.
+     */
+    @Scope(operation = Operations.GET_PAGE)
+    @PostConstruct
+    default void startGetSlice() {
+        KafkaListenerUtil.startListener(getKafkaConsumerFactory(),
+                ChannelUtil.getChannel(getDtoClass(), CrudOperations.GET_SLICE),
+                getGroupId(),
+                this::getSlice);
+    }
+
+    /**
+     * Handles the GET_SLICE operation by reading the Criteria and Sliceable from the message, retrieving a slice of entities based on the criteria, and sending a callback with the result.
+     *
+     * @param dto The DTO as a JSON string.
+     */
+    @MethodStats
+    @SneakyThrows
+    @PublishEvent("dto")
+    @Scope(operation = Operations.GET_PAGE)
+    @Transactional
+    default void getSlice(String dto) {
+        logger.debug("Received message for get slice: dto {}", dto);
+        JsonNode node = getObjectMapper().readTree(dto);
+        SliceableDto sliceable = SliceableDto.extract(node, getObjectMapper());
+        ChannelMessage<USER, CriteriaMessage<ID, C>> message = getObjectMapper().readValue(getObjectMapper().treeAsTokens(node), getChannelMessageCriteriaReferenceType());
+        getService().getSlice(message.getData().getCriteria(), sliceable, message.getUser())
+                .subscribe(slice -> sendCallbackSlice(message, slice));
+    }
+
+    /**
+     * Sends the slice to the callbacks of the message through the channel message publisher.
+     *
+     * @param message The request message.
+     * @param slice   The slice to send.
+     */
+    default void sendCallbackSlice(ChannelMessage<USER, CriteriaMessage<ID, C>> message, SliceDto<DTO> slice) {
+        getChannelMessagePublisher().sendCallback(message, new SliceMessage<>(slice), OperationsStatus.GET_PAGE, message.getUser());
+    }
+}
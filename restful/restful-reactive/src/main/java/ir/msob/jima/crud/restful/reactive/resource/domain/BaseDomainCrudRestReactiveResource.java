@@ -39,6 +39,7 @@ public interface BaseDomainCrudRestReactiveResource<
         BaseGetByIdDomainCrudRestReactiveResource<ID, USER, D, DTO, C, R, S>,
         BaseGetOneDomainCrudRestReactiveResource<ID, USER, D, DTO, C, R, S>,
         BaseGetPageDomainCrudRestReactiveResource<ID, USER, D, DTO, C, R, S>,
+        BaseGetSliceDomainCrudRestReactiveResource<ID, USER, D, DTO, C, R, S>,
         BaseGetManyDomainCrudRestReactiveResource<ID, USER, D, DTO, C, R, S>,
         BaseGetStreamDomainCrudRestReactiveResource<ID, USER, D, DTO, C, R, S>,
 
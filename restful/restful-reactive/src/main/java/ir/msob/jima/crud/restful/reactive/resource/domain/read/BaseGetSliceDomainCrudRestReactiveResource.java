@@ -0,0 +1,74 @@
+package ir.msob.jima.crud.restful.reactive.resource.domain.read;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import ir.msob.jima.crud.api.operation.CrudOperations;
+import ir.msob.jima.crud.api.slice.SliceDto;
+import ir.msob.jima.crud.api.slice.SliceableDto;
+import ir.msob.jima.crud.reactive.service.domain.read.BaseGetSliceDomainCrudReactiveService;
+import ir.msob.jima.crud.restful.reactive.resource.domain.ParentDomainCrudRestReactiveResource;
+import ir.msob.jima.platform.api.domain.criteria.BaseDomainCriteria;
+import ir.msob.jima.platform.api.domain.domain.BaseDomain;
+import ir.msob.jima.platform.api.domain.dto.BaseDomainDto;
+import ir.msob.jima.platform.api.exception.badrequest.BadRequestException;
+import ir.msob.jima.platform.api.exception.badrequest.BadRequestResponse;
+import ir.msob.jima.platform.api.exception.domainnotfound.DomainNotFoundException;
+import ir.msob.jima.platform.api.logger.Logger;
+import ir.msob.jima.platform.api.logger.LoggerFactory;
+import ir.msob.jima.platform.api.methodstats.MethodStats;
+import ir.msob.jima.platform.api.operation.Operations;
+import ir.msob.jima.platform.api.operation.OperationsStatus;
+import ir.msob.jima.platform.api.scope.Scope;
+import ir.msob.jima.platform.api.security.BaseUser;
+import ir.msob.jima.platform.reactive.repository.BaseReactiveRepository;
+import org.jspecify.annotations.NonNull;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.io.Serializable;
+import java.security.Principal;
+
+/**
+ * RESTful API for retrieving keyset (cursor) slices of domains based on criteria.
+ *
+ * @param <ID>   the type of the ID of the domain
+ * @param <USER> the type of the user
+ * @param <D>    the type of the domain
+ * @param <DTO>  the type of the DTO
+ * @param <C>    the type of the criteria
+ * @param <R>    the type of the repository
+ * @param <S>    the type of the service
+ */
+public interface BaseGetSliceDomainCrudRestReactiveResource<
+        ID extends Comparable<ID> & Serializable,
+        USER extends BaseUser,
+        D extends BaseDomain<ID>,
+        DTO extends BaseDomainDto<ID>,
+        C extends BaseDomainCriteria<ID>,
+        R extends BaseReactiveRepository<ID, D, C>,
+        S extends BaseGetSliceDomainCrudReactiveService<ID, USER, D, DTO, C, R>
+        > extends ParentDomainCrudRestReactiveResource<ID, USER, D, DTO, C, R, S> {
+
+    Logger logger = LoggerFactory.getLogger(BaseGetSliceDomainCrudRestReactiveResource.class);
+
+    @GetMapping(CrudOperations.GET_SLICE)
+    @Operation(summary = "Get slice of domains by criteria", description = "Returns a keyset slice of domain DTOs matching the given criteria and the token of the next slice")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Returns a slice of matching domain DTOs", content = @Content(schema = @Schema(implementation = SliceDto.class))),
+            @ApiResponse(responseCode = "400", description = "If validation fails or the token is malformed, throws BadRequestException", content = @Content(schema = @Schema(implementation = BadRequestResponse.class)))
+    })
+    @MethodStats
+    @Scope(operation = Operations.GET_PAGE)
+    default ResponseEntity<@NonNull Mono<@NonNull SliceDto<DTO>>> getSlice(C criteria, SliceableDto sliceable, ServerWebExchange serverWebExchange, Principal principal) throws BadRequestException, DomainNotFoundException {
+        logger.debug("REST request to get slice of domains with criteria: {}, sliceable: {}", criteria, sliceable);
+
+        USER user = getUser(serverWebExchange, principal);
+        Mono<@NonNull SliceDto<DTO>> res = this.getService().getSlice(criteria, sliceable, user);
+        return ResponseEntity.status(OperationsStatus.GET_PAGE).body(res);
+    }
+}
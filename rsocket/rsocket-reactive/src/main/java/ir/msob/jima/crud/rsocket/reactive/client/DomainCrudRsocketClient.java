@@ -1,8 +1,9 @@
 package ir.msob.jima.crud.rsocket.reactive.client;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.github.fge.jsonpatch.JsonPatch;
+import ir.msob.jima.crud.api.operation.CrudOperations;
 import ir.msob.jima.crud.reactive.client.BaseCrudReactiveClient;
+import ir.msob.jima.crud.rsocket.reactive.client.balancer.CrudRSocketBalancer;
 import ir.msob.jima.platform.api.channel.ChannelMessage;
 import ir.msob.jima.platform.api.channel.message.*;
 import ir.msob.jima.platform.api.domain.criteria.BaseDomainCriteria;
@@ -14,17 +15,21 @@ import ir.msob.jima.platform.api.operation.Operations;
 import ir.msob.jima.platform.api.security.BaseUser;
 import ir.msob.jima.platform.api.shared.ModelType;
 import ir.msob.jima.platform.api.shared.PageDto;
-import ir.msob.jima.platform.rsocket.api.BaseRSocketRequesterLoadBalancer;
 import ir.msob.jima.platform.rsocket.api.BaseRSocketRequesterMetadata;
 import lombok.RequiredArgsConstructor;
 import lombok.SneakyThrows;
 import org.jspecify.annotations.NonNull;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.core.ResolvableType;
 import org.springframework.stereotype.Service;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.util.concurrent.Queues;
 
 import java.io.Serializable;
 import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * The `DomainCrudRsocketClient` class provides a client for performing CRUD (Create, Read, Update, Delete) operations over a RESTful API.
@@ -38,9 +43,18 @@ import java.util.Collection;
 @RequiredArgsConstructor
 public class DomainCrudRsocketClient implements BaseCrudReactiveClient {
 
+    /**
+     * The routes, application name and response types of each DTO class, resolved on first use.
+     */
+    private static final Map<Class<?>, DtoTypes> DTO_TYPES = new ConcurrentHashMap<>();
+
+    /**
+     * The prefetch of {@link #getStream(Class, BaseDomainCriteria, BaseUser)}.
+     */
+    public static final int DEFAULT_STREAM_PREFETCH = Queues.SMALL_BUFFER_SIZE;
+
     private final BaseRSocketRequesterMetadata rSocketRequesterMetadata;
-    private final BaseRSocketRequesterLoadBalancer rSocketRequesterLoadBalancer;
-    private final ObjectMapper objectMapper;
+    private final CrudRSocketBalancer rSocketBalancer;
 
     /**
      * This method prepares the route for the RSocket request.
@@ -50,9 +64,7 @@ public class DomainCrudRsocketClient implements BaseCrudReactiveClient {
      * @return the prepared route
      */
     public static <ID extends Comparable<ID> & Serializable, DTO extends BaseDomainDto<ID>> String prepareRoute(Class<DTO> dtoClass, String operation) {
-        DtoInfo dtoInfo = DtoInfo.info.getAnnotation(dtoClass);
-        DomainInfo domainInfo = DomainInfo.info.getAnnotation(dtoClass);
-        return String.format("api.%s.%s.%s", dtoInfo.version(), domainInfo.domainName(), operation);
+        return dtoTypes(dtoClass).route(operation);
     }
 
     /**
@@ -62,7 +74,11 @@ public class DomainCrudRsocketClient implements BaseCrudReactiveClient {
      * @return the prepared application name
      */
     private <ID extends Comparable<ID> & Serializable, DTO extends BaseDomainDto<ID>> String prepareApplicationName(Class<DTO> dtoClass) {
-        return DtoInfo.info.getAnnotation(dtoClass).serviceName();
+        return dtoTypes(dtoClass).applicationName;
+    }
+
+    private static DtoTypes dtoTypes(Class<?> dtoClass) {
+        return DTO_TYPES.computeIfAbsent(dtoClass, DtoTypes::new);
     }
 
     /**
@@ -83,12 +99,11 @@ public class DomainCrudRsocketClient implements BaseCrudReactiveClient {
         String route = prepareRoute(dtoClass, Operations.DELETE_BY_ID);
         String applicationName = prepareApplicationName(dtoClass);
 
-        return rSocketRequesterLoadBalancer.getRequester(applicationName)
+        return rSocketBalancer.mono(applicationName, requester -> requester
                 .route(route)
                 .metadata(rSocketRequesterMetadata::metadata)
                 .data(channelMessage)
-                .retrieveMono(Object.class)
-                .map(o -> (ID) o);
+                .retrieveMono(dtoTypes(dtoClass).<ID>id()));
     }
 
     /**
@@ -109,12 +124,11 @@ public class DomainCrudRsocketClient implements BaseCrudReactiveClient {
         String route = prepareRoute(dtoClass, Operations.DELETE);
         String applicationName = prepareApplicationName(dtoClass);
 
-        return rSocketRequesterLoadBalancer.getRequester(applicationName)
+        return rSocketBalancer.mono(applicationName, requester -> requester
                 .route(route)
                 .metadata(rSocketRequesterMetadata::metadata)
                 .data(channelMessage)
-                .retrieveMono(Object.class)
-                .map(o -> (ID) o);
+                .retrieveMono(dtoTypes(dtoClass).<ID>id()));
     }
 
     /**
@@ -133,12 +147,38 @@ public class DomainCrudRsocketClient implements BaseCrudReactiveClient {
         String route = prepareRoute(dtoClass, Operations.DELETE_MANY);
         String applicationName = prepareApplicationName(dtoClass);
 
-        return rSocketRequesterLoadBalancer.getRequester(applicationName)
+        return rSocketBalancer.mono(applicationName, requester -> requester
                 .route(route)
                 .metadata(rSocketRequesterMetadata::metadata)
                 .data(channelMessage)
-                .retrieveMono(Collection.class)
-                .map(collection -> collection.stream().toList());
+                .retrieveMono(dtoTypes(dtoClass).<Collection<ID>>ids()));
+    }
+
+    /**
+     * This method provides a RSocket request-channel API for deleting a stream of domains by ID.
+     * Every ID is sent as its own frame and the IDs of the deleted domains are received as the server commits them.
+     * The server requests frames only as fast as it writes them, so {@code ids} is consumed at the server's pace.
+     *
+     * @param dtoClass the DTO class
+     * @param ids      the IDs of the domains to be deleted
+     * @param user     the user performing the operation
+     * @return a Flux with the IDs of the deleted domains
+     */
+    @MethodStats
+    public <ID extends Comparable<ID> & Serializable, USER extends BaseUser, DTO extends BaseDomainDto<ID>> Flux<@NonNull ID> deleteMany(Class<DTO> dtoClass, Flux<ID> ids, USER user) {
+        Flux<ChannelMessage<USER, IdMessage<ID>>> channelMessages = ids.map(item -> {
+            ChannelMessage<USER, IdMessage<ID>> channelMessage = createChannelMessage(createData(item));
+            channelMessage.setUser(user);
+            return channelMessage;
+        });
+        String route = prepareRoute(dtoClass, CrudOperations.DELETE_MANY_CHANNEL);
+        String applicationName = prepareApplicationName(dtoClass);
+
+        return rSocketBalancer.flux(applicationName, requester -> requester
+                .route(route)
+                .metadata(rSocketRequesterMetadata::metadata)
+                .data(channelMessages, ChannelMessage.class)
+                .retrieveFlux(dtoTypes(dtoClass).<ID>id()));
     }
 
     /**
@@ -159,12 +199,11 @@ public class DomainCrudRsocketClient implements BaseCrudReactiveClient {
         String route = prepareRoute(dtoClass, Operations.DELETE_ALL);
         String applicationName = prepareApplicationName(dtoClass);
 
-        return rSocketRequesterLoadBalancer.getRequester(applicationName)
+        return rSocketBalancer.mono(applicationName, requester -> requester
                 .route(route)
                 .metadata(rSocketRequesterMetadata::metadata)
                 .data(channelMessage)
-                .retrieveMono(Collection.class)
-                .map(collection -> collection.stream().toList());
+                .retrieveMono(dtoTypes(dtoClass).<Collection<ID>>ids()));
     }
 
     /**
@@ -186,12 +225,11 @@ public class DomainCrudRsocketClient implements BaseCrudReactiveClient {
         String route = prepareRoute(dtoClass, Operations.EDIT_BY_ID);
         String applicationName = prepareApplicationName(dtoClass);
 
-        return rSocketRequesterLoadBalancer.getRequester(applicationName)
+        return rSocketBalancer.mono(applicationName, requester -> requester
                 .route(route)
                 .metadata(rSocketRequesterMetadata::metadata)
                 .data(channelMessage)
-                .retrieveMono(Object.class)
-                .map(o -> (DTO) o); // TODO
+                .retrieveMono(dtoClass));
     }
 
     /**
@@ -213,12 +251,11 @@ public class DomainCrudRsocketClient implements BaseCrudReactiveClient {
         String route = prepareRoute(dtoClass, Operations.EDIT);
         String applicationName = prepareApplicationName(dtoClass);
 
-        return rSocketRequesterLoadBalancer.getRequester(applicationName)
+        return rSocketBalancer.mono(applicationName, requester -> requester
                 .route(route)
                 .metadata(rSocketRequesterMetadata::metadata)
                 .data(channelMessage)
-                .retrieveMono(Object.class)
-                .map(o -> (DTO) o); // TODO
+                .retrieveMono(dtoClass));
     }
 
     /**
@@ -240,12 +277,11 @@ public class DomainCrudRsocketClient implements BaseCrudReactiveClient {
         String route = prepareRoute(dtoClass, Operations.EDIT_MANY);
         String applicationName = prepareApplicationName(dtoClass);
 
-        return rSocketRequesterLoadBalancer.getRequester(applicationName)
+        return rSocketBalancer.mono(applicationName, requester -> requester
                 .route(route)
                 .metadata(rSocketRequesterMetadata::metadata)
                 .data(channelMessage)
-                .retrieveMono(Collection.class)
-                .map(collection -> collection.stream().toList()); // TODO
+                .retrieveMono(dtoTypes(dtoClass).<Collection<DTO>>dtos()));
     }
 
     /**
@@ -266,12 +302,11 @@ public class DomainCrudRsocketClient implements BaseCrudReactiveClient {
         String route = prepareRoute(dtoClass, Operations.SAVE);
         String applicationName = prepareApplicationName(dtoClass);
 
-        return rSocketRequesterLoadBalancer.getRequester(applicationName)
+        return rSocketBalancer.mono(applicationName, requester -> requester
                 .route(route)
                 .metadata(rSocketRequesterMetadata::metadata)
                 .data(channelMessage)
-                .retrieveMono(Object.class)
-                .map(o -> (DTO) o); // TODO
+                .retrieveMono(dtoClass));
     }
 
     /**
@@ -292,12 +327,38 @@ public class DomainCrudRsocketClient implements BaseCrudReactiveClient {
         String route = prepareRoute(dtoClass, Operations.SAVE_MANY);
         String applicationName = prepareApplicationName(dtoClass);
 
-        return rSocketRequesterLoadBalancer.getRequester(applicationName)
+        return rSocketBalancer.mono(applicationName, requester -> requester
                 .route(route)
                 .metadata(rSocketRequesterMetadata::metadata)
                 .data(channelMessage)
-                .retrieveMono(Collection.class)
-                .map(collection -> collection.stream().toList()); // TODO
+                .retrieveMono(dtoTypes(dtoClass).<Collection<DTO>>dtos()));
+    }
+
+    /**
+     * This method provides a RSocket request-channel API for saving a stream of domains.
+     * Every DTO is sent as its own frame and the saved DTOs are received as the server commits them. The server requests
+     * frames only as fast as it writes them, so {@code dtos} is consumed at the server's pace.
+     *
+     * @param dtoClass the DTO class
+     * @param dtos     the DTOs to be saved
+     * @param user     the user performing the operation
+     * @return a Flux with the saved DTOs
+     */
+    @MethodStats
+    public <ID extends Comparable<ID> & Serializable, USER extends BaseUser, DTO extends BaseDomainDto<ID>> Flux<@NonNull DTO> saveMany(Class<DTO> dtoClass, Flux<DTO> dtos, USER user) {
+        Flux<ChannelMessage<USER, DtoMessage<ID, DTO>>> channelMessages = dtos.map(item -> {
+            ChannelMessage<USER, DtoMessage<ID, DTO>> channelMessage = createChannelMessage(createMessage(item));
+            channelMessage.setUser(user);
+            return channelMessage;
+        });
+        String route = prepareRoute(dtoClass, CrudOperations.SAVE_MANY_CHANNEL);
+        String applicationName = prepareApplicationName(dtoClass);
+
+        return rSocketBalancer.flux(applicationName, requester -> requester
+                .route(route)
+                .metadata(rSocketRequesterMetadata::metadata)
+                .data(channelMessages, ChannelMessage.class)
+                .retrieveFlux(dtoClass));
     }
 
     /**
@@ -319,12 +380,11 @@ public class DomainCrudRsocketClient implements BaseCrudReactiveClient {
         String route = prepareRoute(dtoClass, Operations.UPDATE_BY_ID);
         String applicationName = prepareApplicationName(dtoClass);
 
-        return rSocketRequesterLoadBalancer.getRequester(applicationName)
+        return rSocketBalancer.mono(applicationName, requester -> requester
                 .route(route)
                 .metadata(rSocketRequesterMetadata::metadata)
                 .data(channelMessage)
-                .retrieveMono(Object.class)
-                .map(o -> (DTO) o); // TODO
+                .retrieveMono(dtoClass));
     }
 
     /**
@@ -345,12 +405,11 @@ public class DomainCrudRsocketClient implements BaseCrudReactiveClient {
         String route = prepareRoute(dtoClass, Operations.UPDATE);
         String applicationName = prepareApplicationName(dtoClass);
 
-        return rSocketRequesterLoadBalancer.getRequester(applicationName)
+        return rSocketBalancer.mono(applicationName, requester -> requester
                 .route(route)
                 .metadata(rSocketRequesterMetadata::metadata)
                 .data(channelMessage)
-                .retrieveMono(Object.class)
-                .map(o -> (DTO) o); // TODO
+                .retrieveMono(dtoClass));
     }
 
     /**
@@ -371,12 +430,38 @@ public class DomainCrudRsocketClient implements BaseCrudReactiveClient {
         String route = prepareRoute(dtoClass, Operations.UPDATE_MANY);
         String applicationName = prepareApplicationName(dtoClass);
 
-        return rSocketRequesterLoadBalancer.getRequester(applicationName)
+        return rSocketBalancer.mono(applicationName, requester -> requester
                 .route(route)
                 .metadata(rSocketRequesterMetadata::metadata)
                 .data(channelMessage)
-                .retrieveMono(Collection.class)
-                .map(collection -> collection.stream().toList()); // TODO
+                .retrieveMono(dtoTypes(dtoClass).<Collection<DTO>>dtos()));
+    }
+
+    /**
+     * This method provides a RSocket request-channel API for updating a stream of domains.
+     * Every DTO is sent as its own frame and the updated DTOs are received as the server commits them. The server requests
+     * frames only as fast as it writes them, so {@code dtos} is consumed at the server's pace.
+     *
+     * @param dtoClass the DTO class
+     * @param dtos     the DTOs to be updated
+     * @param user     the user performing the operation
+     * @return a Flux with the updated DTOs
+     */
+    @MethodStats
+    public <ID extends Comparable<ID> & Serializable, USER extends BaseUser, DTO extends BaseDomainDto<ID>> Flux<@NonNull DTO> updateMany(Class<DTO> dtoClass, Flux<DTO> dtos, USER user) {
+        Flux<ChannelMessage<USER, DtoMessage<ID, DTO>>> channelMessages = dtos.map(item -> {
+            ChannelMessage<USER, DtoMessage<ID, DTO>> channelMessage = createChannelMessage(createMessage(item));
+            channelMessage.setUser(user);
+            return channelMessage;
+        });
+        String route = prepareRoute(dtoClass, CrudOperations.UPDATE_MANY_CHANNEL);
+        String applicationName = prepareApplicationName(dtoClass);
+
+        return rSocketBalancer.flux(applicationName, requester -> requester
+                .route(route)
+                .metadata(rSocketRequesterMetadata::metadata)
+                .data(channelMessages, ChannelMessage.class)
+                .retrieveFlux(dtoClass));
     }
 
     /**
@@ -397,11 +482,11 @@ public class DomainCrudRsocketClient implements BaseCrudReactiveClient {
         String route = prepareRoute(dtoClass, Operations.COUNT);
         String applicationName = prepareApplicationName(dtoClass);
 
-        return rSocketRequesterLoadBalancer.getRequester(applicationName)
+        return rSocketBalancer.mono(applicationName, requester -> requester
                 .route(route)
                 .metadata(rSocketRequesterMetadata::metadata)
                 .data(channelMessage)
-                .retrieveMono(Long.class);
+                .retrieveMono(Long.class));
     }
 
     /**
@@ -421,11 +506,11 @@ public class DomainCrudRsocketClient implements BaseCrudReactiveClient {
         String route = prepareRoute(dtoClass, Operations.COUNT_ALL);
         String applicationName = prepareApplicationName(dtoClass);
 
-        return rSocketRequesterLoadBalancer.getRequester(applicationName)
+        return rSocketBalancer.mono(applicationName, requester -> requester
                 .route(route)
                 .metadata(rSocketRequesterMetadata::metadata)
                 .data(channelMessage)
-                .retrieveMono(Long.class);
+                .retrieveMono(Long.class));
     }
 
     /**
@@ -446,12 +531,11 @@ public class DomainCrudRsocketClient implements BaseCrudReactiveClient {
         String route = prepareRoute(dtoClass, Operations.GET_BY_ID);
         String applicationName = prepareApplicationName(dtoClass);
 
-        return rSocketRequesterLoadBalancer.getRequester(applicationName)
+        return rSocketBalancer.mono(applicationName, requester -> requester
                 .route(route)
                 .metadata(rSocketRequesterMetadata::metadata)
                 .data(channelMessage)
-                .retrieveMono(Object.class)
-                .map(o -> (DTO) o); // TODO
+                .retrieveMono(dtoClass));
     }
 
     /**
@@ -472,12 +556,11 @@ public class DomainCrudRsocketClient implements BaseCrudReactiveClient {
         String route = prepareRoute(dtoClass, Operations.GET_ONE);
         String applicationName = prepareApplicationName(dtoClass);
 
-        return rSocketRequesterLoadBalancer.getRequester(applicationName)
+        return rSocketBalancer.mono(applicationName, requester -> requester
                 .route(route)
                 .metadata(rSocketRequesterMetadata::metadata)
                 .data(channelMessage)
-                .retrieveMono(Object.class)
-                .map(o -> (DTO) o); // TODO
+                .retrieveMono(dtoClass));
     }
 
     /**
@@ -498,12 +581,11 @@ public class DomainCrudRsocketClient implements BaseCrudReactiveClient {
         String route = prepareRoute(dtoClass, Operations.GET_MANY);
         String applicationName = prepareApplicationName(dtoClass);
 
-        return rSocketRequesterLoadBalancer.getRequester(applicationName)
+        return rSocketBalancer.mono(applicationName, requester -> requester
                 .route(route)
                 .metadata(rSocketRequesterMetadata::metadata)
                 .data(channelMessage)
-                .retrieveMono(Collection.class)
-                .map(collection -> collection.stream().toList()); // TODO
+                .retrieveMono(dtoTypes(dtoClass).<Collection<DTO>>dtos()));
     }
 
     /**
@@ -514,21 +596,35 @@ public class DomainCrudRsocketClient implements BaseCrudReactiveClient {
      * @param user     the user performing the operation
      * @return a Mono with the retrieved DTOs
      */
-    @SneakyThrows
     @Override
     public <ID extends Comparable<ID> & Serializable, USER extends BaseUser, DTO extends BaseDomainDto<ID>, C extends BaseDomainCriteria<ID>> Flux<@NonNull DTO> getStream(Class<DTO> dtoClass, C criteria, USER user) {
+        return getStream(dtoClass, criteria, DEFAULT_STREAM_PREFETCH, user);
+    }
+
+    /**
+     * This method provides a RSocket request-stream API for getting domains by their criteria.
+     * At most {@code prefetch} DTOs are requested from the server at a time, and more are requested once three quarters
+     * of them have been consumed, so a slow subscriber holds the server back instead of buffering the stream.
+     *
+     * @param dtoClass the DTO class
+     * @param criteria the criteria of the domains to be retrieved
+     * @param prefetch the number of DTOs requested from the server at a time
+     * @param user     the user performing the operation
+     * @return a Flux with the retrieved DTOs
+     */
+    public <ID extends Comparable<ID> & Serializable, USER extends BaseUser, DTO extends BaseDomainDto<ID>, C extends BaseDomainCriteria<ID>> Flux<@NonNull DTO> getStream(Class<DTO> dtoClass, C criteria, int prefetch, USER user) {
         CriteriaMessage<ID, C> data = createData(criteria);
         ChannelMessage<USER, CriteriaMessage<ID, C>> channelMessage = createChannelMessage(data);
         channelMessage.setUser(user);
         String route = prepareRoute(dtoClass, Operations.GET_STREAM);
         String applicationName = prepareApplicationName(dtoClass);
 
-        return rSocketRequesterLoadBalancer.getRequester(applicationName)
-                .route(route)
-                .metadata(rSocketRequesterMetadata::metadata)
-                .data(objectMapper.writeValueAsString(channelMessage))
-                .retrieveFlux(Object.class)
-                .map(o -> objectMapper.convertValue(o, dtoClass));
+        return rSocketBalancer.flux(applicationName, requester -> requester
+                        .route(route)
+                        .metadata(rSocketRequesterMetadata::metadata)
+                        .data(channelMessage)
+                        .retrieveFlux(dtoClass))
+                .limitRate(prefetch);
     }
 
     /**
@@ -548,12 +644,11 @@ public class DomainCrudRsocketClient implements BaseCrudReactiveClient {
         String route = prepareRoute(dtoClass, Operations.GET_PAGE);
         String applicationName = prepareApplicationName(dtoClass);
 
-        return rSocketRequesterLoadBalancer.getRequester(applicationName)
+        return rSocketBalancer.mono(applicationName, requester -> requester
                 .route(route)
                 .metadata(rSocketRequesterMetadata::metadata)
                 .data(channelMessage)
-                .retrieveMono(PageDto.class)
-                .map(page -> (PageDto<DTO>) page);
+                .retrieveMono(dtoTypes(dtoClass).<PageDto<DTO>>page()));
     }
 
     /**
@@ -755,4 +850,57 @@ public class DomainCrudRsocketClient implements BaseCrudReactiveClient {
         return message;
     }
 
-}
\ No newline at end of file
+    /**
+     * The routes, application name and response types of a DTO class. Responses are decoded straight into these
+     * types instead of into maps that are converted afterwards.
+     */
+    private static final class DtoTypes {
+        private final String routePrefix;
+        private final String applicationName;
+        private final Map<String, String> routes = new ConcurrentHashMap<>();
+        private final ParameterizedTypeReference<?> id;
+        private final ParameterizedTypeReference<?> ids;
+        private final ParameterizedTypeReference<?> dtos;
+        private final ParameterizedTypeReference<?> page;
+
+        private DtoTypes(Class<?> dtoClass) {
+            DtoInfo dtoInfo = DtoInfo.info.getAnnotation(dtoClass);
+            DomainInfo domainInfo = DomainInfo.info.getAnnotation(dtoClass);
+            this.routePrefix = String.format("api.%s.%s.", dtoInfo.version(), domainInfo.domainName());
+            this.applicationName = dtoInfo.serviceName();
+
+            ResolvableType idType = ResolvableType.forClass(dtoClass).as(BaseDomainDto.class).getGeneric(0);
+            if (idType.resolve() == null) {
+                idType = ResolvableType.forClass(Object.class);
+            }
+            this.id = ParameterizedTypeReference.forType(idType.getType());
+            this.ids = ParameterizedTypeReference.forType(ResolvableType.forClassWithGenerics(Collection.class, idType).getType());
+            this.dtos = ParameterizedTypeReference.forType(ResolvableType.forClassWithGenerics(Collection.class, dtoClass).getType());
+            this.page = ParameterizedTypeReference.forType(ResolvableType.forClassWithGenerics(PageDto.class, dtoClass).getType());
+        }
+
+        private String route(String operation) {
+            return routes.computeIfAbsent(operation, routePrefix::concat);
+        }
+
+        @SuppressWarnings("unchecked")
+        private <T> ParameterizedTypeReference<T> id() {
+            return (ParameterizedTypeReference<T>) id;
+        }
+
+        @SuppressWarnings("unchecked")
+        private <T> ParameterizedTypeReference<T> ids() {
+            return (ParameterizedTypeReference<T>) ids;
+        }
+
+        @SuppressWarnings("unchecked")
+        private <T> ParameterizedTypeReference<T> dtos() {
+            return (ParameterizedTypeReference<T>) dtos;
+        }
+
+        @SuppressWarnings("unchecked")
+        private <T> ParameterizedTypeReference<T> page() {
+            return (ParameterizedTypeReference<T>) page;
+        }
+    }
+}
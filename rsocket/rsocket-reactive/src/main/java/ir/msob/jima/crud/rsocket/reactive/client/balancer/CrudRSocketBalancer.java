@@ -0,0 +1,38 @@
+package ir.msob.jima.crud.rsocket.reactive.client.balancer;
+
+import org.springframework.messaging.rsocket.RSocketRequester;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.function.Function;
+
+/**
+ * Chooses the requester each {@link ir.msob.jima.crud.rsocket.reactive.client.DomainCrudRsocketClient} call is sent
+ * with. The requester is chosen when the call is subscribed, so the choice reflects the load at that moment, and the
+ * balancer sees the call until it terminates.
+ * <p>
+ * The strategy is selected with {@code jima.crud.rsocket.balancer.strategy}: {@code platform} (the default) or
+ * {@code latency-aware}.
+ */
+public interface CrudRSocketBalancer {
+
+    /**
+     * Sends a request-response call.
+     *
+     * @param applicationName the application the call is sent to
+     * @param call            the call on the chosen requester
+     * @param <T>             the type of the response
+     * @return the response
+     */
+    <T> Mono<T> mono(String applicationName, Function<RSocketRequester, Mono<T>> call);
+
+    /**
+     * Sends a request-stream or request-channel call.
+     *
+     * @param applicationName the application the call is sent to
+     * @param call            the call on the chosen requester
+     * @param <T>             the type of the responses
+     * @return the responses
+     */
+    <T> Flux<T> flux(String applicationName, Function<RSocketRequester, Flux<T>> call);
+}
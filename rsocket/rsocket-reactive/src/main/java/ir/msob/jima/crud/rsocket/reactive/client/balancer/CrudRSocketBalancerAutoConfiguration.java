@@ -0,0 +1,45 @@
+package ir.msob.jima.crud.rsocket.reactive.client.balancer;
+
+import ir.msob.jima.platform.rsocket.api.BaseRSocketRequesterLoadBalancer;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+
+import java.time.Duration;
+
+/**
+ * Registers the {@link CrudRSocketBalancer} selected by {@code jima.crud.rsocket.balancer.strategy}:
+ * {@code platform} (the default) or {@code latency-aware}, which needs a {@link RSocketRequesterInstanceSupplier} bean;
+ * the context fails to start if {@code latency-aware} is selected without one.
+ */
+@AutoConfiguration
+public class CrudRSocketBalancerAutoConfiguration {
+
+    @Bean
+    @ConditionalOnProperty(name = "jima.crud.rsocket.balancer.strategy", havingValue = "latency-aware")
+    public CrudRSocketBalancer latencyAwareCrudRSocketBalancer(ObjectProvider<RSocketRequesterInstanceSupplier> instanceSuppliers,
+                                                               BaseRSocketRequesterLoadBalancer rSocketRequesterLoadBalancer,
+                                                               @Value("${jima.crud.rsocket.balancer.decay:10s}") Duration decay,
+                                                               @Value("${jima.crud.rsocket.balancer.max-in-flight:256}") int maxInFlight,
+                                                               @Value("${jima.crud.rsocket.balancer.ejection-latency-ratio:3.0}") double ejectionLatencyRatio,
+                                                               @Value("${jima.crud.rsocket.balancer.ejection-min-latency:100ms}") Duration ejectionMinLatency,
+                                                               @Value("${jima.crud.rsocket.balancer.ejection-cooldown:30s}") Duration ejectionCooldown,
+                                                               @Value("${jima.crud.rsocket.balancer.max-ejection-percent:50}") int maxEjectionPercent) {
+        RSocketRequesterInstanceSupplier instanceSupplier = instanceSuppliers.getIfAvailable();
+        if (instanceSupplier == null) {
+            throw new IllegalStateException("jima.crud.rsocket.balancer.strategy=latency-aware needs a "
+                    + RSocketRequesterInstanceSupplier.class.getSimpleName() + " bean listing the instances of each application");
+        }
+        return new LatencyAwareCrudRSocketBalancer(instanceSupplier, new PlatformCrudRSocketBalancer(rSocketRequesterLoadBalancer),
+                decay, maxInFlight, ejectionLatencyRatio, ejectionMinLatency, ejectionCooldown, maxEjectionPercent);
+    }
+
+    @Bean
+    @ConditionalOnMissingBean(CrudRSocketBalancer.class)
+    public CrudRSocketBalancer platformCrudRSocketBalancer(BaseRSocketRequesterLoadBalancer rSocketRequesterLoadBalancer) {
+        return new PlatformCrudRSocketBalancer(rSocketRequesterLoadBalancer);
+    }
+}
@@ -0,0 +1,324 @@
+package ir.msob.jima.crud.rsocket.reactive.client.balancer;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import ir.msob.jima.platform.api.logger.Logger;
+import ir.msob.jima.platform.api.logger.LoggerFactory;
+import org.springframework.messaging.rsocket.RSocketRequester;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * Balances calls over the instances listed by a {@link RSocketRequesterInstanceSupplier}, by load and latency.
+ * <p>
+ * Every instance keeps its in-flight calls and an EWMA of its response latency (time to the first element or, for an
+ * empty response, to completion), decayed with {@code decay} as its time constant. A failed call counts as a response
+ * of {@code ejectionLatencyRatio} times its duration, or times {@code ejectionMinLatency} if it failed faster, so an
+ * instance that keeps failing is avoided and ejected like a slow one. Cancelled calls are not timed. The EWMA also
+ * decays while the instance gets no calls, so an instance that was slow is tried again once it has been idle for a
+ * while. Each call samples two instances at random (power of two choices) and takes the one with the lower
+ * {@code latency * (inFlight + 1)}.
+ * <p>
+ * An instance is ejected for {@code ejectionCooldown}:
+ * <ul>
+ *     <li>when it is sampled with {@code maxInFlight} or more calls in flight (overloaded), or</li>
+ *     <li>when its EWMA is over both {@code ejectionMinLatency} and {@code ejectionLatencyRatio} times the mean EWMA
+ *     of the other instances (slow, or error when the call that raised it failed).</li>
+ * </ul>
+ * At most {@code maxEjectionPercent} of the instances of an application are ejected at a time. If every instance is
+ * ejected, all of them are sampled again. Applications without instances fall back to the platform balancer. The stats
+ * and meters of instances that are no longer listed are dropped.
+ * <p>
+ * Metrics, tagged by application and instance: {@value #INFLIGHT}, {@value #LATENCY} (the EWMA),
+ * {@value #EJECTED} (1 while ejected) and {@value #EJECTIONS} (tagged by reason).
+ */
+public class LatencyAwareCrudRSocketBalancer implements CrudRSocketBalancer {
+    public static final String INFLIGHT = "jima.crud.rsocket.balancer.inflight";
+    public static final String LATENCY = "jima.crud.rsocket.balancer.latency";
+    public static final String EJECTED = "jima.crud.rsocket.balancer.ejected";
+    public static final String EJECTIONS = "jima.crud.rsocket.balancer.ejections";
+
+    private static final Logger logger = LoggerFactory.getLogger(LatencyAwareCrudRSocketBalancer.class);
+
+    private final RSocketRequesterInstanceSupplier instanceSupplier;
+    private final CrudRSocketBalancer fallback;
+    private final long decayNanos;
+    private final int maxInFlight;
+    private final double ejectionLatencyRatio;
+    private final long ejectionMinLatencyNanos;
+    private final long ejectionCooldownNanos;
+    private final int maxEjectionPercent;
+    private final MeterRegistry meterRegistry = Metrics.globalRegistry;
+    private final Map<String, Map<String, InstanceStats>> applications = new ConcurrentHashMap<>();
+
+    public LatencyAwareCrudRSocketBalancer(RSocketRequesterInstanceSupplier instanceSupplier,
+                                           CrudRSocketBalancer fallback,
+                                           Duration decay,
+                                           int maxInFlight,
+                                           double ejectionLatencyRatio,
+                                           Duration ejectionMinLatency,
+                                           Duration ejectionCooldown,
+                                           int maxEjectionPercent) {
+        this.instanceSupplier = instanceSupplier;
+        this.fallback = fallback;
+        this.decayNanos = decay.toNanos();
+        this.maxInFlight = maxInFlight;
+        this.ejectionLatencyRatio = ejectionLatencyRatio;
+        this.ejectionMinLatencyNanos = ejectionMinLatency.toNanos();
+        this.ejectionCooldownNanos = ejectionCooldown.toNanos();
+        this.maxEjectionPercent = maxEjectionPercent;
+    }
+
+    @Override
+    public <T> Mono<T> mono(String applicationName, Function<RSocketRequester, Mono<T>> call) {
+        return Mono.defer(() -> {
+            List<RSocketRequesterInstance> instances = instanceSupplier.getInstances(applicationName);
+            if (instances.isEmpty()) {
+                return fallback.mono(applicationName, call);
+            }
+            InstanceStats stats = choose(applicationName, instances);
+            Mono<T> response = call.apply(stats.requester);
+            TrackedCall tracked = new TrackedCall(stats);
+            return response
+                    .doOnSuccess(value -> tracked.respond())
+                    .doOnError(error -> tracked.fail())
+                    .doFinally(signalType -> tracked.finish());
+        });
+    }
+
+    @Override
+    public <T> Flux<T> flux(String applicationName, Function<RSocketRequester, Flux<T>> call) {
+        return Flux.defer(() -> {
+            List<RSocketRequesterInstance> instances = instanceSupplier.getInstances(applicationName);
+            if (instances.isEmpty()) {
+                return fallback.flux(applicationName, call);
+            }
+            InstanceStats stats = choose(applicationName, instances);
+            Flux<T> response = call.apply(stats.requester);
+            TrackedCall tracked = new TrackedCall(stats);
+            return response
+                    .doOnNext(value -> tracked.respond())
+                    .doOnComplete(tracked::respond)
+                    .doOnError(error -> tracked.fail())
+                    .doFinally(signalType -> tracked.finish());
+        });
+    }
+
+    private InstanceStats choose(String applicationName, List<RSocketRequesterInstance> instances) {
+        Map<String, InstanceStats> peers = applications.computeIfAbsent(applicationName, key -> new ConcurrentHashMap<>());
+        long now = System.nanoTime();
+        List<InstanceStats> all = new ArrayList<>(instances.size());
+        List<InstanceStats> candidates = new ArrayList<>(instances.size());
+        for (RSocketRequesterInstance instance : instances) {
+            InstanceStats stats = peers.computeIfAbsent(instance.instanceId(), id -> new InstanceStats(applicationName, id, peers));
+            stats.requester = instance.requester();
+            all.add(stats);
+            if (!stats.isEjected(now)) {
+                candidates.add(stats);
+            }
+        }
+        if (peers.size() > instances.size()) {
+            prune(peers, instances);
+        }
+        if (candidates.isEmpty()) {
+            candidates = all;
+        }
+        if (candidates.size() == 1) {
+            return candidates.get(0);
+        }
+
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int i = random.nextInt(candidates.size());
+        int j = random.nextInt(candidates.size() - 1);
+        if (j >= i) {
+            j++;
+        }
+        InstanceStats first = candidates.get(i);
+        InstanceStats second = candidates.get(j);
+        boolean firstOverloaded = first.inFlight.get() >= maxInFlight;
+        boolean secondOverloaded = second.inFlight.get() >= maxInFlight;
+        if (firstOverloaded) {
+            eject(first, "overloaded", now);
+        }
+        if (secondOverloaded) {
+            eject(second, "overloaded", now);
+        }
+        if (firstOverloaded != secondOverloaded) {
+            return firstOverloaded ? second : first;
+        }
+        return first.cost(now) <= second.cost(now) ? first : second;
+    }
+
+    private void record(InstanceStats stats, long latencyNanos, String reason) {
+        long now = System.nanoTime();
+        stats.observe(latencyNanos, now);
+        double latency = stats.latency(now);
+        if (latency <= ejectionMinLatencyNanos || stats.isEjected(now)) {
+            return;
+        }
+        double others = 0;
+        int count = 0;
+        for (InstanceStats peer : stats.peers.values()) {
+            if (peer != stats && peer.sampled && !peer.isEjected(now)) {
+                others += peer.latency(now);
+                count++;
+            }
+        }
+        if (count > 0 && latency > ejectionLatencyRatio * others / count) {
+            eject(stats, reason, now);
+        }
+    }
+
+    private void eject(InstanceStats stats, String reason, long now) {
+        synchronized (stats.peers) {
+            if (stats.isEjected(now)) {
+                return;
+            }
+            int ejected = 1;
+            for (InstanceStats peer : stats.peers.values()) {
+                if (peer.isEjected(now)) {
+                    ejected++;
+                }
+            }
+            if (ejected * 100 > stats.peers.size() * maxEjectionPercent) {
+                return;
+            }
+            stats.ejectedUntil = now + ejectionCooldownNanos;
+        }
+        stats.ejections(reason).increment();
+        logger.warn("Ejected {} instance {}: {}", stats.applicationName, stats.instanceId, reason);
+    }
+
+    private void prune(Map<String, InstanceStats> peers, List<RSocketRequesterInstance> instances) {
+        Set<String> live = new HashSet<>();
+        for (RSocketRequesterInstance instance : instances) {
+            live.add(instance.instanceId());
+        }
+        peers.values().removeIf(stats -> {
+            if (live.contains(stats.instanceId)) {
+                return false;
+            }
+            stats.meters.forEach(meterRegistry::remove);
+            stats.ejections.values().forEach(meterRegistry::remove);
+            return true;
+        });
+    }
+
+    /**
+     * One call on an instance: counted in flight until it terminates, and timed to its first element or completion.
+     * A failure is recorded as a penalty.
+     */
+    private final class TrackedCall {
+        private final InstanceStats stats;
+        private final long start;
+        private boolean responded;
+
+        private TrackedCall(InstanceStats stats) {
+            this.stats = stats;
+            this.start = System.nanoTime();
+            stats.inFlight.incrementAndGet();
+        }
+
+        private void respond() {
+            if (!responded) {
+                responded = true;
+                record(stats, System.nanoTime() - start, "slow");
+            }
+        }
+
+        private void fail() {
+            responded = true;
+            long elapsed = Math.max(System.nanoTime() - start, ejectionMinLatencyNanos);
+            record(stats, (long) (elapsed * Math.max(ejectionLatencyRatio, 1)), "error");
+        }
+
+        private void finish() {
+            stats.inFlight.decrementAndGet();
+        }
+    }
+
+    private final class InstanceStats {
+        private final String applicationName;
+        private final String instanceId;
+        private final Map<String, InstanceStats> peers;
+        private final AtomicInteger inFlight = new AtomicInteger();
+        private final List<Meter> meters = new ArrayList<>();
+        private final Map<String, Counter> ejections = new ConcurrentHashMap<>();
+        private volatile RSocketRequester requester;
+        private volatile long ejectedUntil;
+        private volatile boolean sampled;
+        private double ewma;
+        private long stamp;
+
+        private InstanceStats(String applicationName, String instanceId, Map<String, InstanceStats> peers) {
+            this.applicationName = applicationName;
+            this.instanceId = instanceId;
+            this.peers = peers;
+            this.stamp = System.nanoTime();
+            meters.add(Gauge.builder(INFLIGHT, inFlight, AtomicInteger::get)
+                    .tag("application", applicationName)
+                    .tag("instance", instanceId)
+                    .description("Calls in flight on an RSocket instance")
+                    .register(meterRegistry));
+            meters.add(Gauge.builder(LATENCY, this, stats -> stats.latency(System.nanoTime()) / TimeUnit.SECONDS.toNanos(1))
+                    .tag("application", applicationName)
+                    .tag("instance", instanceId)
+                    .description("EWMA of the response latency of an RSocket instance")
+                    .baseUnit("seconds")
+                    .register(meterRegistry));
+            meters.add(Gauge.builder(EJECTED, this, stats -> stats.isEjected(System.nanoTime()) ? 1 : 0)
+                    .tag("application", applicationName)
+                    .tag("instance", instanceId)
+                    .description("Whether an RSocket instance is ejected")
+                    .register(meterRegistry));
+        }
+
+        private Counter ejections(String reason) {
+            return ejections.computeIfAbsent(reason, key -> Counter.builder(EJECTIONS)
+                    .tag("application", applicationName)
+                    .tag("instance", instanceId)
+                    .tag("reason", reason)
+                    .description("Ejections of an RSocket instance")
+                    .register(meterRegistry));
+        }
+
+        private boolean isEjected(long now) {
+            long until = ejectedUntil;
+            return until != 0 && now - until < 0;
+        }
+
+        private synchronized void observe(long latencyNanos, long now) {
+            if (!sampled) {
+                ewma = latencyNanos;
+                sampled = true;
+            } else {
+                double weight = Math.exp(-(double) Math.max(now - stamp, 0) / decayNanos);
+                ewma = ewma * weight + latencyNanos * (1 - weight);
+            }
+            stamp = now;
+        }
+
+        private synchronized double latency(long now) {
+            return ewma * Math.exp(-(double) Math.max(now - stamp, 0) / decayNanos);
+        }
+
+        private double cost(long now) {
+            return latency(now) * (inFlight.get() + 1);
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package ir.msob.jima.crud.rsocket.reactive.client.balancer;
+
+import ir.msob.jima.platform.rsocket.api.BaseRSocketRequesterLoadBalancer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.messaging.rsocket.RSocketRequester;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.function.Function;
+
+/**
+ * Sends every call with the requester of the platform {@link BaseRSocketRequesterLoadBalancer}.
+ */
+@RequiredArgsConstructor
+public class PlatformCrudRSocketBalancer implements CrudRSocketBalancer {
+    private final BaseRSocketRequesterLoadBalancer rSocketRequesterLoadBalancer;
+
+    @Override
+    public <T> Mono<T> mono(String applicationName, Function<RSocketRequester, Mono<T>> call) {
+        return Mono.defer(() -> call.apply(rSocketRequesterLoadBalancer.getRequester(applicationName)));
+    }
+
+    @Override
+    public <T> Flux<T> flux(String applicationName, Function<RSocketRequester, Flux<T>> call) {
+        return Flux.defer(() -> call.apply(rSocketRequesterLoadBalancer.getRequester(applicationName)));
+    }
+}
@@ -0,0 +1,12 @@
+package ir.msob.jima.crud.rsocket.reactive.client.balancer;
+
+import org.springframework.messaging.rsocket.RSocketRequester;
+
+/**
+ * One instance of an application and the requester connected to it.
+ *
+ * @param instanceId the id of the instance, stable for as long as the instance lives
+ * @param requester  the requester connected to the instance
+ */
+public record RSocketRequesterInstance(String instanceId, RSocketRequester requester) {
+}
@@ -0,0 +1,18 @@
+package ir.msob.jima.crud.rsocket.reactive.client.balancer;
+
+import java.util.List;
+
+/**
+ * Lists the instances of an application, typically from service discovery, for
+ * {@link LatencyAwareCrudRSocketBalancer}. Called for every call, so implementations should return a cached list and
+ * keep their requesters connected.
+ */
+@FunctionalInterface
+public interface RSocketRequesterInstanceSupplier {
+
+    /**
+     * @param applicationName the application
+     * @return the live instances of the application; empty if none is known
+     */
+    List<RSocketRequesterInstance> getInstances(String applicationName);
+}
@@ -0,0 +1,96 @@
+package ir.msob.jima.crud.rsocket.reactive.resource;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import ir.msob.jima.platform.api.exception.badrequest.BadRequestException;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.util.MimeType;
+import org.springframework.util.MimeTypeUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Reads RSocket request frames straight from their {@link DataBuffer}, without copying them into a {@code String},
+ * in the Jackson format of the connection's data mime type: JSON, CBOR ({@value #CBOR}) or Smile ({@value #SMILE}).
+ * <p>
+ * The CBOR and Smile mappers are copies of the resource's JSON {@link ObjectMapper}, so they share its modules and
+ * settings. They are created once per JSON mapper.
+ */
+public final class ChannelPayloadCodec {
+    public static final String CBOR = "application/cbor";
+    public static final String SMILE = "application/x-jackson-smile";
+    public static final MimeType APPLICATION_CBOR = MimeTypeUtils.parseMimeType(CBOR);
+    public static final MimeType APPLICATION_SMILE = MimeTypeUtils.parseMimeType(SMILE);
+
+    private static final Map<MapperKey, ObjectMapper> MAPPERS = new ConcurrentHashMap<>();
+
+    private ChannelPayloadCodec() {
+    }
+
+    /**
+     * Returns the mapper for a data mime type.
+     *
+     * @param objectMapper the JSON mapper of the resource
+     * @param mimeType     the data mime type, or {@code null} for JSON
+     * @return the JSON mapper itself, or its CBOR or Smile copy
+     * @throws BadRequestException if the mime type is not JSON, CBOR or Smile
+     */
+    public static ObjectMapper mapper(ObjectMapper objectMapper, MimeType mimeType) {
+        if (mimeType == null || isJson(mimeType)) {
+            return objectMapper;
+        }
+        if (APPLICATION_CBOR.isCompatibleWith(mimeType)) {
+            return MAPPERS.computeIfAbsent(new MapperKey(objectMapper, CBOR), key -> objectMapper.copyWith(new CBORFactory()));
+        }
+        if (APPLICATION_SMILE.isCompatibleWith(mimeType)) {
+            return MAPPERS.computeIfAbsent(new MapperKey(objectMapper, SMILE), key -> objectMapper.copyWith(new SmileFactory()));
+        }
+        throw new BadRequestException("Unsupported RSocket data mime type: " + mimeType);
+    }
+
+    /**
+     * Reads a frame into the given type and releases it.
+     *
+     * @param objectMapper the JSON mapper of the resource
+     * @param payload      the frame
+     * @param mimeType     the data mime type of the connection
+     * @param type         the type to read
+     * @param <T>          the type to read
+     * @return the read value
+     * @throws IOException if the frame can not be parsed
+     */
+    public static <T> T read(ObjectMapper objectMapper, DataBuffer payload, MimeType mimeType, TypeReference<T> type) throws IOException {
+        try (InputStream in = payload.asInputStream(true)) {
+            return mapper(objectMapper, mimeType).readValue(in, type);
+        }
+    }
+
+    /**
+     * Reads a frame into a tree and releases it. The tree is format independent, so it can be bound with the JSON
+     * mapper afterwards.
+     *
+     * @param objectMapper the JSON mapper of the resource
+     * @param payload      the frame
+     * @param mimeType     the data mime type of the connection
+     * @return the tree of the frame
+     * @throws IOException if the frame can not be parsed
+     */
+    public static JsonNode readTree(ObjectMapper objectMapper, DataBuffer payload, MimeType mimeType) throws IOException {
+        try (InputStream in = payload.asInputStream(true)) {
+            return mapper(objectMapper, mimeType).readTree(in);
+        }
+    }
+
+    private static boolean isJson(MimeType mimeType) {
+        return MimeTypeUtils.APPLICATION_JSON.isCompatibleWith(mimeType) || mimeType.getSubtype().endsWith("+json");
+    }
+
+    private record MapperKey(ObjectMapper objectMapper, String format) {
+    }
+}
@@ -0,0 +1,33 @@
+package ir.msob.jima.crud.rsocket.reactive.resource;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.rsocket.messaging.RSocketStrategiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.http.codec.json.Jackson2SmileDecoder;
+import org.springframework.http.codec.json.Jackson2SmileEncoder;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.messaging.rsocket.RSocketStrategies;
+
+/**
+ * Registers Smile ({@value ChannelPayloadCodec#SMILE}) in the RSocket strategies, so that requesters and resources
+ * can use it as the data mime type. Spring Boot already registers JSON and, with {@code jackson-dataformat-cbor} on
+ * the classpath, CBOR.
+ */
+@AutoConfiguration(after = JacksonAutoConfiguration.class)
+@ConditionalOnClass({RSocketStrategies.class, SmileFactory.class, Jackson2SmileEncoder.class})
+@ConditionalOnBean(Jackson2ObjectMapperBuilder.class)
+public class ChannelPayloadCodecAutoConfiguration {
+
+    @Bean
+    public RSocketStrategiesCustomizer smileRSocketStrategiesCustomizer(Jackson2ObjectMapperBuilder builder) {
+        ObjectMapper objectMapper = builder.createXmlMapper(false).factory(new SmileFactory()).build();
+        return strategies -> strategies
+                .decoder(new Jackson2SmileDecoder(objectMapper, ChannelPayloadCodec.APPLICATION_SMILE))
+                .encoder(new Jackson2SmileEncoder(objectMapper, ChannelPayloadCodec.APPLICATION_SMILE));
+    }
+}
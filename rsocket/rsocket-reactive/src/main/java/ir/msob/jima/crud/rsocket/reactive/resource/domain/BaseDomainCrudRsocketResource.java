@@ -39,6 +39,7 @@ public interface BaseDomainCrudRsocketResource<
         BaseGetByIdDomainCrudRsocketResource<ID, USER, D, DTO, C, R, S>,
         BaseGetOneDomainCrudRsocketResource<ID, USER, D, DTO, C, R, S>,
         BaseGetPageDomainCrudRsocketResource<ID, USER, D, DTO, C, R, S>,
+        BaseGetSliceDomainCrudRsocketResource<ID, USER, D, DTO, C, R, S>,
         BaseGetManyDomainCrudRsocketResource<ID, USER, D, DTO, C, R, S>,
         BaseGetStreamDomainCrudRsocketResource<ID, USER, D, DTO, C, R, S>,
 
@@ -1,8 +1,11 @@
 package ir.msob.jima.crud.rsocket.reactive.resource.domain;
 
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import ir.msob.jima.crud.api.resource.BaseCrudResource;
 import ir.msob.jima.crud.reactive.service.domain.ParentDomainCrudReactiveService;
+import ir.msob.jima.crud.rsocket.reactive.resource.ChannelPayloadCodec;
 import ir.msob.jima.platform.api.channel.BaseChannelTypeReference;
 import ir.msob.jima.platform.api.domain.criteria.BaseDomainCriteria;
 import ir.msob.jima.platform.api.domain.domain.BaseDomain;
@@ -10,6 +13,9 @@ import ir.msob.jima.platform.api.domain.dto.BaseDomainDto;
 import ir.msob.jima.platform.api.security.BaseUser;
 import ir.msob.jima.platform.reactive.repository.BaseReactiveRepository;
 import ir.msob.jima.platform.rsocket.api.BaseCoreRsocketResource;
+import lombok.SneakyThrows;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.util.MimeType;
 
 import java.io.Serializable;
 
@@ -51,4 +57,30 @@ public interface ParentDomainCrudRsocketResource<
      * @return the ObjectMapper that can be used for JSON processing
      */
     ObjectMapper getObjectMapper();
+
+    /**
+     * Reads a request frame into a channel message, in the format of the connection's data mime type, and releases it.
+     *
+     * @param payload  the frame
+     * @param mimeType the data mime type of the connection
+     * @param type     the type of the channel message
+     * @param <T>      the type of the channel message
+     * @return the parsed channel message
+     */
+    @SneakyThrows
+    default <T> T readChannelMessage(DataBuffer payload, MimeType mimeType, TypeReference<T> type) {
+        return ChannelPayloadCodec.read(getObjectMapper(), payload, mimeType, type);
+    }
+
+    /**
+     * Reads a request frame into a JSON tree, in the format of the connection's data mime type, and releases it.
+     *
+     * @param payload  the frame
+     * @param mimeType the data mime type of the connection
+     * @return the tree of the frame
+     */
+    @SneakyThrows
+    default JsonNode readChannelTree(DataBuffer payload, MimeType mimeType) {
+        return ChannelPayloadCodec.readTree(getObjectMapper(), payload, mimeType);
+    }
 }
\ No newline at end of file
@@ -1,6 +1,5 @@
 package ir.msob.jima.crud.rsocket.reactive.resource.domain.read;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
 import ir.msob.jima.crud.reactive.service.domain.read.BaseCountAllDomainCrudReactiveService;
 import ir.msob.jima.crud.rsocket.reactive.resource.domain.ParentDomainCrudRsocketResource;
 import ir.msob.jima.platform.api.channel.ChannelMessage;
@@ -18,10 +17,14 @@ import ir.msob.jima.platform.api.security.BaseUser;
 import ir.msob.jima.platform.api.shared.ModelType;
 import ir.msob.jima.platform.reactive.repository.BaseReactiveRepository;
 import org.jspecify.annotations.NonNull;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.handler.annotation.Header;
 import org.springframework.messaging.handler.annotation.MessageMapping;
 import org.springframework.messaging.handler.annotation.Payload;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.util.MimeType;
 import reactor.core.publisher.Mono;
 
 import java.io.Serializable;
@@ -57,6 +60,7 @@ public interface BaseCountAllDomainCrudRsocketResource<
      * It returns a Mono with the count of all domains of the specified type.
      *
      * @param dto       the DTO to count the domains
+     * @param mimeType  the data mime type of the connection
      * @param principal the Principal object
      * @return a Mono with the count of all domains of the specified type
      * @throws BadRequestException     if the validation operation is incorrect
@@ -65,9 +69,9 @@ public interface BaseCountAllDomainCrudRsocketResource<
     @MessageMapping(Operations.COUNT_ALL)
     @MethodStats
     @Scope(operation = Operations.COUNT_ALL)
-    default Mono<@NonNull Long> countAll(@Payload String dto, @AuthenticationPrincipal Jwt principal) throws BadRequestException, DomainNotFoundException, InvocationTargetException, NoSuchMethodException, InstantiationException, IllegalAccessException, JsonProcessingException {
-        logger.debug("RSocket request to count all dto {}", dto);
-        ChannelMessage<USER, ModelType> message = getObjectMapper().readValue(dto, getChannelMessageModelTypeReferenceType());
+    default Mono<@NonNull Long> countAll(@Payload DataBuffer dto, @Header(MessageHeaders.CONTENT_TYPE) MimeType mimeType, @AuthenticationPrincipal Jwt principal) throws BadRequestException, DomainNotFoundException, InvocationTargetException, NoSuchMethodException, InstantiationException, IllegalAccessException {
+        ChannelMessage<USER, ModelType> message = readChannelMessage(dto, mimeType, getChannelMessageModelTypeReferenceType());
+        logger.debug("RSocket request to count all dto {}", message);
 
         USER user = getUser(message.getUser(), principal);
         return this.getService().countAll(user);
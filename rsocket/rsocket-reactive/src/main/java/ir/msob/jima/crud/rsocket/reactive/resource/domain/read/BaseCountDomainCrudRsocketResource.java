@@ -1,6 +1,5 @@
 package ir.msob.jima.crud.rsocket.reactive.resource.domain.read;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
 import ir.msob.jima.crud.reactive.service.domain.read.BaseCountDomainCrudReactiveService;
 import ir.msob.jima.crud.rsocket.reactive.resource.domain.ParentDomainCrudRsocketResource;
 import ir.msob.jima.platform.api.channel.ChannelMessage;
@@ -18,10 +17,14 @@ import ir.msob.jima.platform.api.scope.Scope;
 import ir.msob.jima.platform.api.security.BaseUser;
 import ir.msob.jima.platform.reactive.repository.BaseReactiveRepository;
 import org.jspecify.annotations.NonNull;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.handler.annotation.Header;
 import org.springframework.messaging.handler.annotation.MessageMapping;
 import org.springframework.messaging.handler.annotation.Payload;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.util.MimeType;
 import reactor.core.publisher.Mono;
 
 import java.io.Serializable;
@@ -56,6 +59,7 @@ public interface BaseCountDomainCrudRsocketResource<
      * It returns a Mono with the count of domains that meet the criteria.
      *
      * @param dto       the DTO to count the domains
+     * @param mimeType  the data mime type of the connection
      * @param principal the Principal object
      * @return a Mono with the count of domains that meet the criteria
      * @throws BadRequestException     if the validation operation is incorrect
@@ -64,9 +68,9 @@ public interface BaseCountDomainCrudRsocketResource<
     @MessageMapping(Operations.COUNT)
     @MethodStats
     @Scope(operation = Operations.COUNT)
-    default Mono<@NonNull Long> count(@Payload String dto, @AuthenticationPrincipal Jwt principal) throws BadRequestException, DomainNotFoundException, JsonProcessingException {
-        logger.debug("RSocket request to count, dto {} : ", dto);
-        ChannelMessage<USER, CriteriaMessage<ID, C>> message = getObjectMapper().readValue(dto, getChannelMessageCriteriaReferenceType());
+    default Mono<@NonNull Long> count(@Payload DataBuffer dto, @Header(MessageHeaders.CONTENT_TYPE) MimeType mimeType, @AuthenticationPrincipal Jwt principal) throws BadRequestException, DomainNotFoundException {
+        ChannelMessage<USER, CriteriaMessage<ID, C>> message = readChannelMessage(dto, mimeType, getChannelMessageCriteriaReferenceType());
+        logger.debug("RSocket request to count, dto {} : ", message);
 
         USER user = getUser(message.getUser(), principal);
         return this.getService().count(message.getData().getCriteria(), user);
@@ -1,6 +1,5 @@
 package ir.msob.jima.crud.rsocket.reactive.resource.domain.read;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
 import ir.msob.jima.crud.reactive.service.domain.read.BaseGetOneDomainCrudReactiveService;
 import ir.msob.jima.crud.rsocket.reactive.resource.domain.ParentDomainCrudRsocketResource;
 import ir.msob.jima.platform.api.channel.ChannelMessage;
@@ -18,10 +17,14 @@ import ir.msob.jima.platform.api.scope.Scope;
 import ir.msob.jima.platform.api.security.BaseUser;
 import ir.msob.jima.platform.reactive.repository.BaseReactiveRepository;
 import org.jspecify.annotations.NonNull;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.handler.annotation.Header;
 import org.springframework.messaging.handler.annotation.MessageMapping;
 import org.springframework.messaging.handler.annotation.Payload;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.util.MimeType;
 import reactor.core.publisher.Mono;
 
 import java.io.Serializable;
@@ -58,6 +61,7 @@ public interface BaseGetByIdDomainCrudRsocketResource<
      * This method provides a RSocket API for retrieving a single domain by its ID.
      *
      * @param dto       the DTO to get the domain
+     * @param mimeType  the data mime type of the connection
      * @param principal the Principal object
      * @return a Mono with the retrieved DTO
      * @throws BadRequestException     if the validation operation is incorrect
@@ -66,9 +70,9 @@ public interface BaseGetByIdDomainCrudRsocketResource<
     @MessageMapping(Operations.GET_BY_ID)
     @MethodStats
     @Scope(operation = Operations.GET_BY_ID)
-    default Mono<@NonNull DTO> getById(@Payload String dto, @AuthenticationPrincipal Jwt principal) throws BadRequestException, DomainNotFoundException, JsonProcessingException {
-        logger.debug("RSocket request to get by id domain, dto {}", dto);
-        ChannelMessage<USER, IdMessage<ID>> message = getObjectMapper().readValue(dto, getChannelMessageIdReferenceType());
+    default Mono<@NonNull DTO> getById(@Payload DataBuffer dto, @Header(MessageHeaders.CONTENT_TYPE) MimeType mimeType, @AuthenticationPrincipal Jwt principal) throws BadRequestException, DomainNotFoundException {
+        ChannelMessage<USER, IdMessage<ID>> message = readChannelMessage(dto, mimeType, getChannelMessageIdReferenceType());
+        logger.debug("RSocket request to get by id domain, dto {}", message);
 
         USER user = getUser(message.getUser(), principal);
         return this.getService().getOne(message.getData().getId(), user);
@@ -1,6 +1,5 @@
 package ir.msob.jima.crud.rsocket.reactive.resource.domain.read;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
 import ir.msob.jima.crud.reactive.service.domain.read.BaseGetPageDomainCrudReactiveService;
 import ir.msob.jima.crud.rsocket.reactive.resource.domain.ParentDomainCrudRsocketResource;
 import ir.msob.jima.platform.api.channel.ChannelMessage;
@@ -19,10 +18,14 @@ import ir.msob.jima.platform.api.security.BaseUser;
 import ir.msob.jima.platform.api.shared.PageDto;
 import ir.msob.jima.platform.reactive.repository.BaseReactiveRepository;
 import org.jspecify.annotations.NonNull;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.handler.annotation.Header;
 import org.springframework.messaging.handler.annotation.MessageMapping;
 import org.springframework.messaging.handler.annotation.Payload;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.util.MimeType;
 import reactor.core.publisher.Mono;
 
 import java.io.Serializable;
@@ -57,6 +60,7 @@ public interface BaseGetPageDomainCrudRsocketResource<
      * It returns a Mono with a page of DTOs that meet the criteria.
      *
      * @param dto       the DTO to get the domains
+     * @param mimeType  the data mime type of the connection
      * @param principal the Principal object
      * @return a Mono with a page of DTOs that meet the criteria
      * @throws BadRequestException     if the validation operation is incorrect
@@ -65,9 +69,9 @@ public interface BaseGetPageDomainCrudRsocketResource<
     @MessageMapping(Operations.GET_PAGE)
     @MethodStats
     @Scope(operation = Operations.GET_PAGE)
-    default Mono<@NonNull PageDto<DTO>> getPage(@Payload String dto, @AuthenticationPrincipal Jwt principal) throws BadRequestException, DomainNotFoundException, JsonProcessingException {
-        logger.debug("RSocket request to get page domain, dto {}", dto);
-        ChannelMessage<USER, PageableMessage<ID, C>> message = getObjectMapper().readValue(dto, getChannelMessagePageableReferenceType());
+    default Mono<@NonNull PageDto<DTO>> getPage(@Payload DataBuffer dto, @Header(MessageHeaders.CONTENT_TYPE) MimeType mimeType, @AuthenticationPrincipal Jwt principal) throws BadRequestException, DomainNotFoundException {
+        ChannelMessage<USER, PageableMessage<ID, C>> message = readChannelMessage(dto, mimeType, getChannelMessagePageableReferenceType());
+        logger.debug("RSocket request to get page domain, dto {}", message);
 
         USER user = getUser(message.getUser(), principal);
         return this.getService().getPage(message.getData().getCriteria(), message.getData().getPageable().toPageable(), user)
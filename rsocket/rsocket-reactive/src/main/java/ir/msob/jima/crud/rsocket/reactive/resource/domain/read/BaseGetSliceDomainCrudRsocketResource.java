@@ -0,0 +1,83 @@
+package ir.msob.jima.crud.rsocket.reactive.resource.domain.read;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import ir.msob.jima.crud.api.operation.CrudOperations;
+import ir.msob.jima.crud.api.slice.SliceDto;
+import ir.msob.jima.crud.api.slice.SliceableDto;
+import ir.msob.jima.crud.reactive.service.domain.read.BaseGetSliceDomainCrudReactiveService;
+import ir.msob.jima.crud.rsocket.reactive.resource.domain.ParentDomainCrudRsocketResource;
+import ir.msob.jima.platform.api.channel.ChannelMessage;
+import ir.msob.jima.platform.api.channel.message.CriteriaMessage;
+import ir.msob.jima.platform.api.domain.criteria.BaseDomainCriteria;
+import ir.msob.jima.platform.api.domain.domain.BaseDomain;
+import ir.msob.jima.platform.api.domain.dto.BaseDomainDto;
+import ir.msob.jima.platform.api.exception.badrequest.BadRequestException;
+import ir.msob.jima.platform.api.exception.domainnotfound.DomainNotFoundException;
+import ir.msob.jima.platform.api.logger.Logger;
+import ir.msob.jima.platform.api.logger.LoggerFactory;
+import ir.msob.jima.platform.api.methodstats.MethodStats;
+import ir.msob.jima.platform.api.operation.Operations;
+import ir.msob.jima.platform.api.scope.Scope;
+import ir.msob.jima.platform.api.security.BaseUser;
+import ir.msob.jima.platform.reactive.repository.BaseReactiveRepository;
+import org.jspecify.annotations.NonNull;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.handler.annotation.Header;
+import org.springframework.messaging.handler.annotation.MessageMapping;
+import org.springframework.messaging.handler.annotation.Payload;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.util.MimeType;
+import reactor.core.publisher.Mono;
+
+import java.io.Serializable;
+
+/**
+ * This interface provides a RSocket API for retrieving keyset (cursor) slices of domains based on a specific criteria.
+ * The payload is a criteria message whose data also carries a {@link SliceableDto} under
+ * {@value SliceableDto#FN_SLICEABLE}.
+ *
+ * @param <ID>   the type of the ID of the domain
+ * @param <USER> the type of the user
+ * @param <D>    the type of the domain
+ * @param <DTO>  the type of the DTO
+ * @param <C>    the type of the criteria
+ * @param <R>    the type of the repository
+ * @param <S>    the type of the service
+ */
+public interface BaseGetSliceDomainCrudRsocketResource<
+        ID extends Comparable<ID> & Serializable,
+        USER extends BaseUser,
+        D extends BaseDomain<ID>,
+        DTO extends BaseDomainDto<ID>,
+        C extends BaseDomainCriteria<ID>,
+        R extends BaseReactiveRepository<ID, D, C>,
+        S extends BaseGetSliceDomainCrudReactiveService<ID, USER, D, DTO, C, R>
+        > extends ParentDomainCrudRsocketResource<ID, USER, D, DTO, C, R, S> {
+    Logger logger = LoggerFactory.getLogger(BaseGetSliceDomainCrudRsocketResource.class);
+
+    /**
+     * This method provides a RSocket API for retrieving a slice of domains based on a specific criteria.
+     * It retrieves the user and then calls the service to get the slice.
+     *
+     * @param dto       the DTO to get the domains
+     * @param mimeType  the data mime type of the connection
+     * @param principal the Principal object
+     * @return a Mono with the slice of DTOs and the token of the next slice
+     * @throws BadRequestException     if the validation operation is incorrect or the token is malformed
+     * @throws DomainNotFoundException if the domain is not found
+     */
+    @MessageMapping(CrudOperations.GET_SLICE)
+    @MethodStats
+    @Scope(operation = Operations.GET_PAGE)
+    default Mono<@NonNull SliceDto<DTO>> getSlice(@Payload DataBuffer dto, @Header(MessageHeaders.CONTENT_TYPE) MimeType mimeType, @AuthenticationPrincipal Jwt principal) throws BadRequestException, DomainNotFoundException {
+        JsonNode node = readChannelTree(dto, mimeType);
+        logger.debug("RSocket request to get slice domain, dto {}", node);
+        SliceableDto sliceable = SliceableDto.extract(node, getObjectMapper());
+        ChannelMessage<USER, CriteriaMessage<ID, C>> message = getObjectMapper().convertValue(node, getChannelMessageCriteriaReferenceType());
+
+        USER user = getUser(message.getUser(), principal);
+        return this.getService().getSlice(message.getData().getCriteria(), sliceable, user);
+    }
+}
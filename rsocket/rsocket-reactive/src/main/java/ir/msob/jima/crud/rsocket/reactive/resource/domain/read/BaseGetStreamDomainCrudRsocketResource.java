@@ -1,6 +1,5 @@
 package ir.msob.jima.crud.rsocket.reactive.resource.domain.read;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
 import ir.msob.jima.crud.reactive.service.domain.read.BaseGetStreamDomainCrudReactiveService;
 import ir.msob.jima.crud.rsocket.reactive.resource.domain.ParentDomainCrudRsocketResource;
 import ir.msob.jima.platform.api.channel.ChannelMessage;
@@ -18,10 +17,14 @@ import ir.msob.jima.platform.api.scope.Scope;
 import ir.msob.jima.platform.api.security.BaseUser;
 import ir.msob.jima.platform.reactive.repository.BaseReactiveRepository;
 import org.jspecify.annotations.NonNull;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.handler.annotation.Header;
 import org.springframework.messaging.handler.annotation.MessageMapping;
 import org.springframework.messaging.handler.annotation.Payload;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.util.MimeType;
 import reactor.core.publisher.Flux;
 
 import java.io.Serializable;
@@ -56,6 +59,7 @@ public interface BaseGetStreamDomainCrudRsocketResource<
      * It returns a Flux with the DTOs that meet the criteria.
      *
      * @param dto       the DTO to get the domains
+     * @param mimeType  the data mime type of the connection
      * @param principal the Principal object
      * @return a Flux with the DTOs that meet the criteria
      * @throws BadRequestException     if the validation operation is incorrect
@@ -64,9 +68,9 @@ public interface BaseGetStreamDomainCrudRsocketResource<
     @MessageMapping(Operations.GET_STREAM)
     @MethodStats
     @Scope(operation = Operations.GET_STREAM)
-    default Flux<@NonNull DTO> getStream(@Payload String dto, @AuthenticationPrincipal Jwt principal) throws BadRequestException, DomainNotFoundException, JsonProcessingException {
-        logger.debug("RSocket request to get stream domain, dto {} : ", dto);
-        ChannelMessage<USER, CriteriaMessage<ID, C>> message = getObjectMapper().readValue(dto, getChannelMessageCriteriaReferenceType());
+    default Flux<@NonNull DTO> getStream(@Payload DataBuffer dto, @Header(MessageHeaders.CONTENT_TYPE) MimeType mimeType, @AuthenticationPrincipal Jwt principal) throws BadRequestException, DomainNotFoundException {
+        ChannelMessage<USER, CriteriaMessage<ID, C>> message = readChannelMessage(dto, mimeType, getChannelMessageCriteriaReferenceType());
+        logger.debug("RSocket request to get stream domain, dto {} : ", message);
 
         USER user = getUser(message.getUser(), principal);
         return this.getService().getStream(message.getData().getCriteria(), user);
@@ -1,6 +1,5 @@
 package ir.msob.jima.crud.rsocket.reactive.resource.domain.write;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
 import ir.msob.jima.crud.reactive.service.domain.write.BaseDeleteDomainCrudReactiveService;
 import ir.msob.jima.crud.rsocket.reactive.resource.domain.ParentDomainCrudRsocketResource;
 import ir.msob.jima.platform.api.channel.ChannelMessage;
@@ -18,10 +17,14 @@ import ir.msob.jima.platform.api.scope.Scope;
 import ir.msob.jima.platform.api.security.BaseUser;
 import ir.msob.jima.platform.reactive.repository.BaseReactiveRepository;
 import org.jspecify.annotations.NonNull;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.handler.annotation.Header;
 import org.springframework.messaging.handler.annotation.MessageMapping;
 import org.springframework.messaging.handler.annotation.Payload;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.util.MimeType;
 import reactor.core.publisher.Mono;
 
 import java.io.Serializable;
@@ -56,6 +59,7 @@ public interface BaseDeleteDomainCrudRsocketResource<
      * It returns a Mono with the ID of the deleted domain.
      *
      * @param dto       the DTO to delete the domain
+     * @param mimeType  the data mime type of the connection
      * @param principal the Principal object
      * @return a Mono with the ID of the deleted domain
      * @throws BadRequestException     if the validation operation is incorrect
@@ -64,9 +68,9 @@ public interface BaseDeleteDomainCrudRsocketResource<
     @MessageMapping(Operations.DELETE)
     @MethodStats
     @Scope(operation = Operations.DELETE)
-    default Mono<@NonNull ID> delete(@Payload String dto, @AuthenticationPrincipal Jwt principal) throws BadRequestException, DomainNotFoundException, JsonProcessingException {
-        logger.debug("RSocket request to delete domain, dto {}", dto);
-        ChannelMessage<USER, CriteriaMessage<ID, C>> message = getObjectMapper().readValue(dto, getChannelMessageCriteriaReferenceType());
+    default Mono<@NonNull ID> delete(@Payload DataBuffer dto, @Header(MessageHeaders.CONTENT_TYPE) MimeType mimeType, @AuthenticationPrincipal Jwt principal) throws BadRequestException, DomainNotFoundException {
+        ChannelMessage<USER, CriteriaMessage<ID, C>> message = readChannelMessage(dto, mimeType, getChannelMessageCriteriaReferenceType());
+        logger.debug("RSocket request to delete domain, dto {}", message);
 
         USER user = getUser(message.getUser(), principal);
         return this.getService().delete(message.getData().getCriteria(), user);
@@ -1,10 +1,11 @@
 package ir.msob.jima.crud.rsocket.reactive.resource.domain.write;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
+import ir.msob.jima.crud.api.operation.CrudOperations;
 import ir.msob.jima.crud.reactive.service.domain.write.BaseDeleteManyDomainCrudReactiveService;
 import ir.msob.jima.crud.rsocket.reactive.resource.domain.ParentDomainCrudRsocketResource;
 import ir.msob.jima.platform.api.channel.ChannelMessage;
 import ir.msob.jima.platform.api.channel.message.CriteriaMessage;
+import ir.msob.jima.platform.api.channel.message.IdMessage;
 import ir.msob.jima.platform.api.domain.criteria.BaseDomainCriteria;
 import ir.msob.jima.platform.api.domain.domain.BaseDomain;
 import ir.msob.jima.platform.api.domain.dto.BaseDomainDto;
@@ -18,10 +19,15 @@ import ir.msob.jima.platform.api.scope.Scope;
 import ir.msob.jima.platform.api.security.BaseUser;
 import ir.msob.jima.platform.reactive.repository.BaseReactiveRepository;
 import org.jspecify.annotations.NonNull;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.handler.annotation.Header;
 import org.springframework.messaging.handler.annotation.MessageMapping;
 import org.springframework.messaging.handler.annotation.Payload;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.util.MimeType;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.io.Serializable;
@@ -57,6 +63,7 @@ public interface BaseDeleteManyDomainCrudRsocketResource<
      * It returns a Mono with the IDs of the deleted domains.
      *
      * @param dto       the DTO to delete the domains
+     * @param mimeType  the data mime type of the connection
      * @param principal the Principal object
      * @return a Mono with the IDs of the deleted domains
      * @throws BadRequestException     if the validation operation is incorrect
@@ -65,11 +72,36 @@ public interface BaseDeleteManyDomainCrudRsocketResource<
     @MessageMapping(Operations.DELETE_MANY)
     @MethodStats
     @Scope(operation = Operations.DELETE_MANY)
-    default Mono<@NonNull Collection<ID>> deleteMany(@Payload String dto, @AuthenticationPrincipal Jwt principal) throws BadRequestException, DomainNotFoundException, JsonProcessingException {
-        logger.debug("RSocket request to delete many domain, dto {}", dto);
-        ChannelMessage<USER, CriteriaMessage<ID, C>> message = getObjectMapper().readValue(dto, getChannelMessageCriteriaReferenceType());
+    default Mono<@NonNull Collection<ID>> deleteMany(@Payload DataBuffer dto, @Header(MessageHeaders.CONTENT_TYPE) MimeType mimeType, @AuthenticationPrincipal Jwt principal) throws BadRequestException, DomainNotFoundException {
+        ChannelMessage<USER, CriteriaMessage<ID, C>> message = readChannelMessage(dto, mimeType, getChannelMessageCriteriaReferenceType());
+        logger.debug("RSocket request to delete many domain, dto {}", message);
 
         USER user = getUser(message.getUser(), principal);
         return this.getService().deleteMany(message.getData().getCriteria(), user);
     }
+
+    /**
+     * This method provides a RSocket request-channel API for deleting a stream of domains by ID.
+     * Every frame carries one ID; the user is taken from the first frame. Deleted IDs are sent back as their chunk
+     * commits, and frames are requested from the client only as fast as they are written.
+     *
+     * @param ids       the stream of frames
+     * @param mimeType  the data mime type of the connection
+     * @param principal the Principal object
+     * @return a Flux with the IDs of the deleted domains
+     */
+    @MessageMapping(CrudOperations.DELETE_MANY_CHANNEL)
+    @MethodStats
+    @Scope(operation = Operations.DELETE_MANY)
+    default Flux<@NonNull ID> deleteManyChannel(@Payload Flux<DataBuffer> ids, @Header(MessageHeaders.CONTENT_TYPE) MimeType mimeType, @AuthenticationPrincipal Jwt principal) {
+        logger.debug("RSocket request to delete many domain over a channel");
+        Flux<ChannelMessage<USER, IdMessage<ID>>> messages = ids.map(frame -> readChannelMessage(frame, mimeType, getChannelMessageIdReferenceType()));
+        return messages.switchOnFirst((first, all) -> {
+            if (!first.hasValue()) {
+                return all.thenMany(Flux.empty());
+            }
+            USER user = getUser(first.get().getUser(), principal);
+            return this.getService().deleteMany(all.map(message -> message.getData().getId()), user);
+        });
+    }
 }
\ No newline at end of file
@@ -1,6 +1,5 @@
 package ir.msob.jima.crud.rsocket.reactive.resource.domain.write;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
 import ir.msob.jima.crud.reactive.service.domain.write.BaseEditDomainCrudReactiveService;
 import ir.msob.jima.crud.rsocket.reactive.resource.domain.ParentDomainCrudRsocketResource;
 import ir.msob.jima.platform.api.channel.ChannelMessage;
@@ -18,10 +17,14 @@ import ir.msob.jima.platform.api.scope.Scope;
 import ir.msob.jima.platform.api.security.BaseUser;
 import ir.msob.jima.platform.reactive.repository.BaseReactiveRepository;
 import org.jspecify.annotations.NonNull;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.handler.annotation.Header;
 import org.springframework.messaging.handler.annotation.MessageMapping;
 import org.springframework.messaging.handler.annotation.Payload;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.util.MimeType;
 import reactor.core.publisher.Mono;
 
 import java.io.Serializable;
@@ -52,10 +55,10 @@ public interface BaseEditByIdDomainCrudRsocketResource<
     @MessageMapping(Operations.EDIT_BY_ID)
     @MethodStats
     @Scope(operation = Operations.EDIT_BY_ID)
-    default Mono<@NonNull DTO> editById(@Payload String dto, @AuthenticationPrincipal Jwt principal)
-            throws BadRequestException, DomainNotFoundException, JsonProcessingException {
-        logger.debug("RSocket request to edit domain, dto : {}", dto);
-        ChannelMessage<USER, IdJsonPatchMessage<ID>> message = getObjectMapper().readValue(dto, getChannelMessageIdJsonPatchReferenceType());
+    default Mono<@NonNull DTO> editById(@Payload DataBuffer dto, @Header(MessageHeaders.CONTENT_TYPE) MimeType mimeType, @AuthenticationPrincipal Jwt principal)
+            throws BadRequestException, DomainNotFoundException {
+        ChannelMessage<USER, IdJsonPatchMessage<ID>> message = readChannelMessage(dto, mimeType, getChannelMessageIdJsonPatchReferenceType());
+        logger.debug("RSocket request to edit domain, dto : {}", message);
 
         USER user = getUser(message.getUser(), principal);
         return this.getService().edit(message.getData().getId(), message.getData().getJsonPatch(), user);
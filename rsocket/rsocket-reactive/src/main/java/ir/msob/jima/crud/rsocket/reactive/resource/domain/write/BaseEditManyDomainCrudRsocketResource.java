@@ -1,6 +1,5 @@
 package ir.msob.jima.crud.rsocket.reactive.resource.domain.write;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
 import ir.msob.jima.crud.reactive.service.domain.write.BaseEditManyDomainCrudReactiveService;
 import ir.msob.jima.crud.rsocket.reactive.resource.domain.ParentDomainCrudRsocketResource;
 import ir.msob.jima.platform.api.channel.ChannelMessage;
@@ -18,10 +17,14 @@ import ir.msob.jima.platform.api.scope.Scope;
 import ir.msob.jima.platform.api.security.BaseUser;
 import ir.msob.jima.platform.reactive.repository.BaseReactiveRepository;
 import org.jspecify.annotations.NonNull;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.handler.annotation.Header;
 import org.springframework.messaging.handler.annotation.MessageMapping;
 import org.springframework.messaging.handler.annotation.Payload;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.util.MimeType;
 import reactor.core.publisher.Mono;
 
 import java.io.Serializable;
@@ -57,6 +60,7 @@ public interface BaseEditManyDomainCrudRsocketResource<
      * It returns a Mono with the edited DTOs.
      *
      * @param dto       the DTO to edit the domains
+     * @param mimeType  the data mime type of the connection
      * @param principal the Principal object
      * @return a Mono with the edited DTOs
      * @throws BadRequestException     if the validation operation is incorrect
@@ -65,10 +69,10 @@ public interface BaseEditManyDomainCrudRsocketResource<
     @MessageMapping(Operations.EDIT_MANY)
     @MethodStats
     @Scope(operation = Operations.EDIT_MANY)
-    default Mono<@NonNull Collection<DTO>> editMany(@Payload String dto, @AuthenticationPrincipal Jwt principal)
-            throws BadRequestException, DomainNotFoundException, JsonProcessingException {
-        logger.debug("RSocket request to edit many, dto : {}", dto);
-        ChannelMessage<USER, JsonPatchMessage<ID, C>> message = getObjectMapper().readValue(dto, getChannelMessageJsonPatchReferenceType());
+    default Mono<@NonNull Collection<DTO>> editMany(@Payload DataBuffer dto, @Header(MessageHeaders.CONTENT_TYPE) MimeType mimeType, @AuthenticationPrincipal Jwt principal)
+            throws BadRequestException, DomainNotFoundException {
+        ChannelMessage<USER, JsonPatchMessage<ID, C>> message = readChannelMessage(dto, mimeType, getChannelMessageJsonPatchReferenceType());
+        logger.debug("RSocket request to edit many, dto : {}", message);
 
         USER user = getUser(message.getUser(), principal);
         return this.getService().editMany(message.getData().getCriteria(), message.getData().getJsonPatch(), user);
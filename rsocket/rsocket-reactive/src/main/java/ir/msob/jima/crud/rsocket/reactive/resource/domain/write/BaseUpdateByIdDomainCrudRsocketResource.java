@@ -1,6 +1,5 @@
 package ir.msob.jima.crud.rsocket.reactive.resource.domain.write;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
 import ir.msob.jima.crud.reactive.service.domain.write.BaseUpdateDomainCrudReactiveService;
 import ir.msob.jima.crud.rsocket.reactive.resource.domain.ParentDomainCrudRsocketResource;
 import ir.msob.jima.platform.api.channel.ChannelMessage;
@@ -18,10 +17,14 @@ import ir.msob.jima.platform.api.scope.Scope;
 import ir.msob.jima.platform.api.security.BaseUser;
 import ir.msob.jima.platform.reactive.repository.BaseReactiveRepository;
 import org.jspecify.annotations.NonNull;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.handler.annotation.Header;
 import org.springframework.messaging.handler.annotation.MessageMapping;
 import org.springframework.messaging.handler.annotation.Payload;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.util.MimeType;
 import reactor.core.publisher.Mono;
 
 import java.io.Serializable;
@@ -57,6 +60,7 @@ public interface BaseUpdateByIdDomainCrudRsocketResource<
      * It returns a Mono with the updated DTO.
      *
      * @param dto       the DTO to update the domain
+     * @param mimeType  the data mime type of the connection
      * @param principal the Principal object
      * @return a Mono with the updated DTO
      * @throws BadRequestException     if the validation operation is incorrect
@@ -65,10 +69,10 @@ public interface BaseUpdateByIdDomainCrudRsocketResource<
     @MessageMapping(Operations.UPDATE_BY_ID)
     @MethodStats
     @Scope(operation = Operations.UPDATE_BY_ID)
-    default Mono<@NonNull DTO> updateById(@Payload String dto, @AuthenticationPrincipal Jwt principal)
-            throws BadRequestException, DomainNotFoundException, JsonProcessingException {
-        logger.debug("RSocket request to update domain, dto : {}", dto);
-        ChannelMessage<USER, DtoMessage<ID, DTO>> message = getObjectMapper().readValue(dto, getChannelMessageDtoReferenceType());
+    default Mono<@NonNull DTO> updateById(@Payload DataBuffer dto, @Header(MessageHeaders.CONTENT_TYPE) MimeType mimeType, @AuthenticationPrincipal Jwt principal)
+            throws BadRequestException, DomainNotFoundException {
+        ChannelMessage<USER, DtoMessage<ID, DTO>> message = readChannelMessage(dto, mimeType, getChannelMessageDtoReferenceType());
+        logger.debug("RSocket request to update domain, dto : {}", message);
 
         USER user = getUser(message.getUser(), principal);
         return this.getService().update(message.getData().getId(), message.getData().getDto(), user);
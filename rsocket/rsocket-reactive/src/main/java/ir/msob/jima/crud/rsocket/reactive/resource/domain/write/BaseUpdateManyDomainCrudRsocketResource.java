@@ -1,9 +1,10 @@
 package ir.msob.jima.crud.rsocket.reactive.resource.domain.write;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
+import ir.msob.jima.crud.api.operation.CrudOperations;
 import ir.msob.jima.crud.reactive.service.domain.write.BaseUpdateManyDomainCrudReactiveService;
 import ir.msob.jima.crud.rsocket.reactive.resource.domain.ParentDomainCrudRsocketResource;
 import ir.msob.jima.platform.api.channel.ChannelMessage;
+import ir.msob.jima.platform.api.channel.message.DtoMessage;
 import ir.msob.jima.platform.api.channel.message.DtosMessage;
 import ir.msob.jima.platform.api.domain.criteria.BaseDomainCriteria;
 import ir.msob.jima.platform.api.domain.domain.BaseDomain;
@@ -18,10 +19,15 @@ import ir.msob.jima.platform.api.scope.Scope;
 import ir.msob.jima.platform.api.security.BaseUser;
 import ir.msob.jima.platform.reactive.repository.BaseReactiveRepository;
 import org.jspecify.annotations.NonNull;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.handler.annotation.Header;
 import org.springframework.messaging.handler.annotation.MessageMapping;
 import org.springframework.messaging.handler.annotation.Payload;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.util.MimeType;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.io.Serializable;
@@ -57,6 +63,7 @@ public interface BaseUpdateManyDomainCrudRsocketResource<
      * It returns a Mono with the updated DTOs.
      *
      * @param dto       the DTO to update the domains
+     * @param mimeType  the data mime type of the connection
      * @param principal the Principal object
      * @return a Mono with the updated DTOs
      * @throws BadRequestException     if the validation operation is incorrect
@@ -65,12 +72,37 @@ public interface BaseUpdateManyDomainCrudRsocketResource<
     @MessageMapping(Operations.UPDATE_MANY)
     @MethodStats
     @Scope(operation = Operations.UPDATE_MANY)
-    default Mono<@NonNull Collection<DTO>> updateMany(@Payload String dto, @AuthenticationPrincipal Jwt principal)
-            throws BadRequestException, DomainNotFoundException, JsonProcessingException {
-        logger.debug("RSocket request to update many domain, dtos : {}", dto);
-        ChannelMessage<USER, DtosMessage<ID, DTO>> message = getObjectMapper().readValue(dto, getChannelMessageDtosReferenceType());
+    default Mono<@NonNull Collection<DTO>> updateMany(@Payload DataBuffer dto, @Header(MessageHeaders.CONTENT_TYPE) MimeType mimeType, @AuthenticationPrincipal Jwt principal)
+            throws BadRequestException, DomainNotFoundException {
+        ChannelMessage<USER, DtosMessage<ID, DTO>> message = readChannelMessage(dto, mimeType, getChannelMessageDtosReferenceType());
+        logger.debug("RSocket request to update many domain, dtos : {}", message);
 
         USER user = getUser(message.getUser(), principal);
         return this.getService().updateMany(message.getData().getDtos(), user);
     }
+
+    /**
+     * This method provides a RSocket request-channel API for updating a stream of domains.
+     * Every frame carries one DTO; the user is taken from the first frame. Updated DTOs are sent back as their chunk
+     * commits, and frames are requested from the client only as fast as they are written.
+     *
+     * @param dtos      the stream of frames
+     * @param mimeType  the data mime type of the connection
+     * @param principal the Principal object
+     * @return a Flux with the updated DTOs
+     */
+    @MessageMapping(CrudOperations.UPDATE_MANY_CHANNEL)
+    @MethodStats
+    @Scope(operation = Operations.UPDATE_MANY)
+    default Flux<@NonNull DTO> updateManyChannel(@Payload Flux<DataBuffer> dtos, @Header(MessageHeaders.CONTENT_TYPE) MimeType mimeType, @AuthenticationPrincipal Jwt principal) {
+        logger.debug("RSocket request to update many domain over a channel");
+        Flux<ChannelMessage<USER, DtoMessage<ID, DTO>>> messages = dtos.map(frame -> readChannelMessage(frame, mimeType, getChannelMessageDtoReferenceType()));
+        return messages.switchOnFirst((first, all) -> {
+            if (!first.hasValue()) {
+                return all.thenMany(Flux.empty());
+            }
+            USER user = getUser(first.get().getUser(), principal);
+            return this.getService().updateMany(all.map(message -> message.getData().getDto()), user);
+        });
+    }
 }
\ No newline at end of file
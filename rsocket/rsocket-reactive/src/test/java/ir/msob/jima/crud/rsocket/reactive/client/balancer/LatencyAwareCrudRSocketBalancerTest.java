@@ -0,0 +1,145 @@
+package ir.msob.jima.crud.rsocket.reactive.client.balancer;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Metrics;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.rsocket.RSocketRequester;
+import reactor.core.publisher.Mono;
+
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Drives the balancer with fake requesters named after their instance. Instances are listed one by one where a test
+ * needs a deterministic order: an instance that has not answered yet costs nothing, so it is always tried first.
+ */
+class LatencyAwareCrudRSocketBalancerTest {
+    final String application = "application-" + UUID.randomUUID();
+    final Map<String, Mono<String>> responses = new HashMap<>();
+    List<RSocketRequesterInstance> instances = List.of();
+
+    @Test
+    void testChoosesTheFasterInstance() {
+        LatencyAwareCrudRSocketBalancer balancer = balancer(Duration.ofSeconds(1), 50);
+        responses.put("a", Mono.just("a").delayElement(Duration.ofMillis(20)));
+        responses.put("b", Mono.just("b"));
+        instances = instances("a", "b");
+
+        Set<String> warmUp = Set.of(call(balancer), call(balancer));
+        List<String> chosen = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            chosen.add(call(balancer));
+        }
+
+        assertEquals(Set.of("a", "b"), warmUp);
+        assertEquals(List.of("b", "b", "b", "b", "b", "b", "b", "b", "b", "b"), chosen);
+        assertTrue(ejections().isEmpty());
+    }
+
+    @Test
+    void testEjectsAFailingInstance() {
+        LatencyAwareCrudRSocketBalancer balancer = balancer(Duration.ofMillis(10), 50);
+        responses.put("a", Mono.error(new IllegalStateException("down")));
+        responses.put("b", Mono.just("b"));
+        instances = instances("b");
+        assertEquals("b", call(balancer));
+
+        instances = instances("a", "b");
+        assertEquals("a", call(balancer));
+        for (int i = 0; i < 10; i++) {
+            assertEquals("b", call(balancer));
+        }
+
+        Collection<Counter> ejections = ejections();
+        assertEquals(1, ejections.size());
+        Counter ejection = ejections.iterator().next();
+        assertEquals("a", ejection.getId().getTag("instance"));
+        assertEquals("error", ejection.getId().getTag("reason"));
+
+        instances = instances("b");
+        call(balancer);
+        assertTrue(ejections().isEmpty());
+    }
+
+    @Test
+    void testEjectsAtMostMaxEjectionPercentOfTheInstances() {
+        LatencyAwareCrudRSocketBalancer balancer = balancer(Duration.ofMillis(10), 50);
+        responses.put("a", Mono.error(new IllegalStateException("down")));
+        responses.put("b", Mono.error(new IllegalStateException("down")));
+        responses.put("c", Mono.just("c"));
+        instances = instances("c");
+        assertEquals("c", call(balancer));
+
+        instances = instances("a", "b", "c");
+        Set<String> failed = Set.of(call(balancer), call(balancer));
+
+        assertEquals(Set.of("a", "b"), failed);
+        assertEquals(1, ejections().size());
+    }
+
+    @Test
+    void testDropsInstancesNoLongerListed() {
+        LatencyAwareCrudRSocketBalancer balancer = balancer(Duration.ofSeconds(1), 50);
+        responses.put("a", Mono.just("a"));
+        responses.put("b", Mono.just("b"));
+        responses.put("c", Mono.just("c"));
+        instances = instances("a", "b");
+        call(balancer);
+
+        instances = instances("a", "c");
+        call(balancer);
+
+        assertNull(Metrics.globalRegistry.find(LatencyAwareCrudRSocketBalancer.LATENCY)
+                .tag("application", application).tag("instance", "b").gauge());
+        assertNotNull(Metrics.globalRegistry.find(LatencyAwareCrudRSocketBalancer.LATENCY)
+                .tag("application", application).tag("instance", "c").gauge());
+    }
+
+    LatencyAwareCrudRSocketBalancer balancer(Duration ejectionMinLatency, int maxEjectionPercent) {
+        return new LatencyAwareCrudRSocketBalancer(applicationName -> instances, null, Duration.ofSeconds(10), 100, 3,
+                ejectionMinLatency, Duration.ofMinutes(1), maxEjectionPercent);
+    }
+
+    /**
+     * Sends one call and returns the instance it was sent to; failures are swallowed.
+     */
+    String call(LatencyAwareCrudRSocketBalancer balancer) {
+        List<String> chosen = new ArrayList<>(1);
+        balancer.mono(application, requester -> {
+            chosen.add(requester.toString());
+            return responses.get(requester.toString());
+        }).onErrorResume(error -> Mono.empty()).block();
+        return chosen.get(0);
+    }
+
+    Collection<Counter> ejections() {
+        return Metrics.globalRegistry.find(LatencyAwareCrudRSocketBalancer.EJECTIONS).tag("application", application).counters();
+    }
+
+    static List<RSocketRequesterInstance> instances(String... names) {
+        List<RSocketRequesterInstance> instances = new ArrayList<>(names.length);
+        for (String name : names) {
+            instances.add(new RSocketRequesterInstance(name, requester(name)));
+        }
+        return instances;
+    }
+
+    static RSocketRequester requester(String name) {
+        return (RSocketRequester) Proxy.newProxyInstance(RSocketRequester.class.getClassLoader(), new Class<?>[]{RSocketRequester.class},
+                (proxy, method, args) -> switch (method.getName()) {
+                    case "toString" -> name;
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "equals" -> proxy == args[0];
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+    }
+}